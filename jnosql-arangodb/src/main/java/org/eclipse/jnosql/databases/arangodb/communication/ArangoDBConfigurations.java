@@ -66,7 +66,12 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     /**
      *Set hosts split by comma
      */
-    HOST_LIST("jnosql.arangodb.acquire.host.list");
+    HOST_LIST("jnosql.arangodb.acquire.host.list"),
+    /**
+     * When true, the queries generated by Eclipse JNoSQL are executed with the ArangoDB query plan cache
+     * (requires ArangoDB 3.12.4 or later). The default value is false.
+     */
+    QUERY_PLAN_CACHE("jnosql.arangodb.query.plan.cache");
     private final String configuration;
 
     ArangoDBConfigurations(String configuration) {
@@ -36,7 +36,10 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
         requireNonNull(settings, "settings is required");
 
         ArangoDBBuilder arangoDBBuilder = getArangoDBBuilder(settings);
-        return new ArangoDBDocumentManagerFactory(arangoDBBuilder);
+        boolean planCache = settings.get(ArangoDBConfigurations.QUERY_PLAN_CACHE)
+                .map(Object::toString).map(Boolean::valueOf)
+                .orElse(false);
+        return new ArangoDBDocumentManagerFactory(arangoDBBuilder, planCache);
     }
 
 }
@@ -18,6 +18,7 @@ import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 /**
@@ -72,5 +73,91 @@ public interface ArangoDBDocumentManager extends DatabaseManager, GraphDatabaseM
      * @throws NullPointerException when either the query or type are null
      */
     <T> Stream<T> aql(String query, Class<T> type);
+
+    /**
+     * Traverses the graph and returns the visited vertices. The whole walk runs on the server
+     * as a single AQL {@code FOR v, e, p IN min..max} query.
+     *
+     * <pre>{@code
+     * manager.traverse(ArangoDBTraversal.outbound("Person/ada").edges("knows").depth(1, 2).build());
+     * }</pre>
+     *
+     * @param traversal the traversal definition
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the visited vertices
+     * @throws NullPointerException when traversal is null
+     */
+    Stream<CommunicationEntity> traverse(ArangoDBTraversal traversal);
+
+    /**
+     * Traverses the graph and returns the visited edges as documents, keeping the
+     * {@code _from} and {@code _to} fields. The whole walk runs on the server
+     * as a single AQL {@code FOR v, e, p IN min..max} query.
+     *
+     * @param traversal the traversal definition
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the visited edges
+     * @throws NullPointerException when traversal is null
+     */
+    Stream<CommunicationEntity> traverseEdges(ArangoDBTraversal traversal);
+
+    /**
+     * Finds the shortest path between two vertices using the AQL {@code SHORTEST_PATH} search.
+     *
+     * @param startVertex  the {@code _id} of the start vertex
+     * @param targetVertex the {@code _id} of the target vertex
+     * @param direction    the direction to follow the edges
+     * @param edges        the edge collections to follow
+     * @return a {@link Stream} of the vertices in the path, from the start to the target; empty when there is no path
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when no edge collection is informed
+     */
+    Stream<CommunicationEntity> shortestPath(String startVertex, String targetVertex,
+                                             TraversalDirection direction, String... edges);
+
+    /**
+     * Finds the shortest paths between two vertices, ordered by length, using the AQL
+     * {@code K_SHORTEST_PATHS} search.
+     *
+     * @param startVertex  the {@code _id} of the start vertex
+     * @param targetVertex the {@code _id} of the target vertex
+     * @param direction    the direction to follow the edges
+     * @param limit        the maximum number of paths
+     * @param edges        the edge collections to follow
+     * @return a {@link Stream} of paths, where each path is the list of its vertices
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when no edge collection is informed or limit is not positive
+     */
+    Stream<List<CommunicationEntity>> kShortestPaths(String startVertex, String targetVertex,
+                                                     TraversalDirection direction, int limit, String... edges);
+
+    /**
+     * Creates the edges in batches. The vertex and edge collections are checked once per call; each batch
+     * upserts its missing endpoints with one {@code insertDocuments} call per vertex collection and then
+     * creates its edges with one {@code insertDocuments} call per edge collection.
+     * A vertex without {@code _key} is inserted and receives the generated {@code _key}, {@code _id} and {@code _rev}.
+     *
+     * @param edges     the edges to create
+     * @param batchSize the number of edges sent per batch
+     * @return the number of edges created
+     * @throws NullPointerException     when edges is null
+     * @throws IllegalArgumentException when batchSize is not positive
+     * @throws ArangoDBException        when ArangoDB rejects any document of a batch
+     */
+    long insertEdges(Iterable<ArangoDBEdgeImport> edges, int batchSize);
+
+    /**
+     * Creates the edges in batches inside an ArangoDB stream transaction, as
+     * {@link #insertEdges(Iterable, int)} does. The transaction is owned by the caller, who begins it
+     * declaring every vertex and edge collection as a write collection and commits or aborts it afterwards.
+     * The collections are created, when missing, outside the transaction.
+     *
+     * @param edges               the edges to create
+     * @param batchSize           the number of edges sent per batch
+     * @param streamTransactionId the stream transaction id, see {@link com.arangodb.ArangoDatabase#beginStreamTransaction}
+     * @return the number of edges created
+     * @throws NullPointerException     when edges or streamTransactionId is null
+     * @throws IllegalArgumentException when batchSize is not positive
+     * @throws ArangoDBException        when ArangoDB rejects any document of a batch
+     */
+    long insertEdges(Iterable<ArangoDBEdgeImport> edges, int batchSize, String streamTransactionId);
 }
 
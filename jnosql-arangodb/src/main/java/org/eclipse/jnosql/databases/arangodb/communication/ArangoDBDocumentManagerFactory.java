@@ -27,15 +27,18 @@ public final class ArangoDBDocumentManagerFactory implements DatabaseManagerFact
 
     private final ArangoDBBuilder arangoDBBuilder;
 
-    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder) {
+    private final boolean planCache;
+
+    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder, boolean planCache) {
         this.arangoDBBuilder = arangoDBBuilder;
+        this.planCache = planCache;
     }
 
     @Override
     public ArangoDBDocumentManager apply(String database) {
         ArangoDB arangoDB = arangoDBBuilder.build();
         ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentManager(database, arangoDB);
+        return new DefaultArangoDBDocumentManager(database, arangoDB, planCache);
     }
 
     @Override
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An edge to be created by {@link ArangoDBDocumentManager#insertEdges(Iterable, int)}.
+ *
+ * @param source     the source vertex, it is inserted when it does not exist
+ * @param label      the edge collection
+ * @param target     the target vertex, it is inserted when it does not exist
+ * @param properties the edge properties
+ */
+public record ArangoDBEdgeImport(CommunicationEntity source, String label, CommunicationEntity target,
+                                 Map<String, Object> properties) {
+
+    /**
+     * Creates an edge import.
+     *
+     * @throws NullPointerException when any parameter is null
+     */
+    public ArangoDBEdgeImport {
+        requireNonNull(source, "source is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(target, "target is required");
+        requireNonNull(properties, "properties is required");
+    }
+
+    /**
+     * Creates an edge import without properties.
+     *
+     * @param source the source vertex
+     * @param label  the edge collection
+     * @param target the target vertex
+     * @return a new {@link ArangoDBEdgeImport} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static ArangoDBEdgeImport of(CommunicationEntity source, String label, CommunicationEntity target) {
+        return new ArangoDBEdgeImport(source, label, target, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an edge import.
+     *
+     * @param source     the source vertex
+     * @param label      the edge collection
+     * @param target     the target vertex
+     * @param properties the edge properties
+     * @return a new {@link ArangoDBEdgeImport} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static ArangoDBEdgeImport of(CommunicationEntity source, String label, CommunicationEntity target,
+                                        Map<String, Object> properties) {
+        return new ArangoDBEdgeImport(source, label, target, properties);
+    }
+}
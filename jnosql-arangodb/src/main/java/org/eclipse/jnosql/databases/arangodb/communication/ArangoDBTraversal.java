@@ -0,0 +1,338 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The definition of a k-hop graph traversal that is executed as a single AQL
+ * {@code FOR v, e, p IN min..max} query, so the whole walk happens on the server.
+ *
+ * <p>The {@code prune} and {@code filter} expressions are AQL fragments that may reference the
+ * traversal variables {@code v} (vertex), {@code e} (edge) and {@code p} (path), and the bind
+ * parameters registered with {@link Builder#param(String, Object)}.</p>
+ *
+ * <pre>{@code
+ * ArangoDBTraversal traversal = ArangoDBTraversal.outbound("Person/ada")
+ *         .edges("knows")
+ *         .depth(1, 3)
+ *         .prune("v.active == false")
+ *         .filter("e.since >= @since")
+ *         .param("since", 2020)
+ *         .build();
+ * }</pre>
+ */
+public final class ArangoDBTraversal {
+
+    static final String START_PARAM = "startVertex";
+
+    static final String GRAPH_PARAM = "graph";
+
+    private final String startVertex;
+
+    private final TraversalDirection direction;
+
+    private final int minDepth;
+
+    private final int maxDepth;
+
+    private final List<String> edges;
+
+    private final String graph;
+
+    private final String prune;
+
+    private final List<String> filters;
+
+    private final Map<String, Object> params;
+
+    private final boolean uniqueVertices;
+
+    private ArangoDBTraversal(Builder builder) {
+        this.startVertex = builder.startVertex;
+        this.direction = builder.direction;
+        this.minDepth = builder.minDepth;
+        this.maxDepth = builder.maxDepth;
+        this.edges = Collections.unmodifiableList(new ArrayList<>(builder.edges));
+        this.graph = builder.graph;
+        this.prune = builder.prune;
+        this.filters = Collections.unmodifiableList(new ArrayList<>(builder.filters));
+        this.params = Collections.unmodifiableMap(new HashMap<>(builder.params));
+        this.uniqueVertices = builder.uniqueVertices;
+    }
+
+    /**
+     * @return the {@code _id} of the vertex where the traversal starts
+     */
+    public String startVertex() {
+        return startVertex;
+    }
+
+    /**
+     * @return the direction to follow the edges
+     */
+    public TraversalDirection direction() {
+        return direction;
+    }
+
+    /**
+     * @return the minimum depth of the traversal
+     */
+    public int minDepth() {
+        return minDepth;
+    }
+
+    /**
+     * @return the maximum depth of the traversal
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the edge collections to follow, empty when a named graph is used
+     */
+    public List<String> edges() {
+        return edges;
+    }
+
+    /**
+     * @return the named graph to traverse
+     */
+    public Optional<String> graph() {
+        return Optional.ofNullable(graph);
+    }
+
+    /**
+     * @return the AQL condition that stops the traversal from going deeper
+     */
+    public Optional<String> prune() {
+        return Optional.ofNullable(prune);
+    }
+
+    /**
+     * @return the AQL conditions that the returned vertices and edges must match
+     */
+    public List<String> filters() {
+        return filters;
+    }
+
+    /**
+     * @return the bind parameters used by the prune and filter expressions
+     */
+    public Map<String, Object> params() {
+        return params;
+    }
+
+    /**
+     * @return true when every vertex is visited only once, using a breadth-first traversal
+     */
+    public boolean uniqueVertices() {
+        return uniqueVertices;
+    }
+
+    /**
+     * Starts a traversal that follows the outbound edges.
+     *
+     * @param startVertex the {@code _id} of the start vertex, e.g. {@code Person/ada}
+     * @return a builder instance
+     * @throws NullPointerException when startVertex is null
+     */
+    public static Builder outbound(String startVertex) {
+        return new Builder(startVertex, TraversalDirection.OUTBOUND);
+    }
+
+    /**
+     * Starts a traversal that follows the inbound edges.
+     *
+     * @param startVertex the {@code _id} of the start vertex, e.g. {@code Person/ada}
+     * @return a builder instance
+     * @throws NullPointerException when startVertex is null
+     */
+    public static Builder inbound(String startVertex) {
+        return new Builder(startVertex, TraversalDirection.INBOUND);
+    }
+
+    /**
+     * Starts a traversal that follows the edges in both directions.
+     *
+     * @param startVertex the {@code _id} of the start vertex, e.g. {@code Person/ada}
+     * @return a builder instance
+     * @throws NullPointerException when startVertex is null
+     */
+    public static Builder any(String startVertex) {
+        return new Builder(startVertex, TraversalDirection.ANY);
+    }
+
+    /**
+     * The builder of {@link ArangoDBTraversal}.
+     */
+    public static final class Builder {
+
+        private final String startVertex;
+
+        private final TraversalDirection direction;
+
+        private int minDepth = 1;
+
+        private int maxDepth = 1;
+
+        private final List<String> edges = new ArrayList<>();
+
+        private String graph;
+
+        private String prune;
+
+        private final List<String> filters = new ArrayList<>();
+
+        private final Map<String, Object> params = new HashMap<>();
+
+        private boolean uniqueVertices;
+
+        private Builder(String startVertex, TraversalDirection direction) {
+            this.startVertex = requireNonNull(startVertex, "startVertex is required");
+            this.direction = direction;
+        }
+
+        /**
+         * Defines the edge collections to follow.
+         *
+         * @param edges the edge collection names
+         * @return this builder
+         * @throws NullPointerException when any edge collection is null
+         */
+        public Builder edges(String... edges) {
+            requireNonNull(edges, "edges is required");
+            for (String edge : edges) {
+                this.edges.add(requireNonNull(edge, "edge is required"));
+            }
+            return this;
+        }
+
+        /**
+         * Defines the named graph to traverse instead of the edge collections.
+         *
+         * @param graph the graph name
+         * @return this builder
+         * @throws NullPointerException when graph is null
+         */
+        public Builder graph(String graph) {
+            this.graph = requireNonNull(graph, "graph is required");
+            return this;
+        }
+
+        /**
+         * Defines the number of hops of the traversal, it is the same as {@code depth(depth, depth)}.
+         *
+         * @param depth the number of hops
+         * @return this builder
+         * @throws IllegalArgumentException when depth is negative
+         */
+        public Builder depth(int depth) {
+            return depth(depth, depth);
+        }
+
+        /**
+         * Defines the minimum and maximum number of hops of the traversal.
+         *
+         * @param minDepth the minimum depth, zero includes the start vertex
+         * @param maxDepth the maximum depth
+         * @return this builder
+         * @throws IllegalArgumentException when minDepth is negative or greater than maxDepth
+         */
+        public Builder depth(int minDepth, int maxDepth) {
+            if (minDepth < 0 || minDepth > maxDepth) {
+                throw new IllegalArgumentException("The depth must not be negative and min must not be greater "
+                        + "than max: " + minDepth + ".." + maxDepth);
+            }
+            this.minDepth = minDepth;
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Defines the AQL condition that stops the traversal from following a path any deeper.
+         *
+         * @param prune the AQL condition, e.g. {@code v.active == false}
+         * @return this builder
+         * @throws NullPointerException when prune is null
+         */
+        public Builder prune(String prune) {
+            this.prune = requireNonNull(prune, "prune is required");
+            return this;
+        }
+
+        /**
+         * Adds an AQL condition that the returned vertices and edges must match,
+         * the conditions are joined using AND.
+         *
+         * @param filter the AQL condition, e.g. {@code e.since >= @since}
+         * @return this builder
+         * @throws NullPointerException when filter is null
+         */
+        public Builder filter(String filter) {
+            this.filters.add(requireNonNull(filter, "filter is required"));
+            return this;
+        }
+
+        /**
+         * Adds a bind parameter used by the prune or filter expressions.
+         *
+         * @param name  the parameter name without the {@code @} prefix
+         * @param value the parameter value
+         * @return this builder
+         * @throws NullPointerException     when name is null
+         * @throws IllegalArgumentException when the name is reserved by the traversal
+         */
+        public Builder param(String name, Object value) {
+            requireNonNull(name, "name is required");
+            if (START_PARAM.equals(name) || GRAPH_PARAM.equals(name) || name.startsWith("@")) {
+                throw new IllegalArgumentException("The parameter name is reserved: " + name);
+            }
+            this.params.put(name, value);
+            return this;
+        }
+
+        /**
+         * Visits every vertex only once, using a breadth-first traversal.
+         *
+         * @return this builder
+         */
+        public Builder uniqueVertices() {
+            this.uniqueVertices = true;
+            return this;
+        }
+
+        /**
+         * Creates the traversal.
+         *
+         * @return a new {@link ArangoDBTraversal} instance
+         * @throws IllegalArgumentException when neither edges nor graph are defined, or both are
+         */
+        public ArangoDBTraversal build() {
+            if (edges.isEmpty() == (graph == null)) {
+                throw new IllegalArgumentException("The traversal requires either edge collections or a graph");
+            }
+            return new ArangoDBTraversal(this);
+        }
+    }
+}
@@ -20,6 +20,12 @@ import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.eclipse.jnosql.communication.graph.CommunicationEdge;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
@@ -29,9 +35,16 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -54,8 +67,11 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     private final ArangoDatabase db;
 
-    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB) {
-        db = arangoDB.db(database);
+    private final boolean planCache;
+
+    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB, boolean planCache) {
+        this.db = arangoDB.db(database);
+        this.planCache = planCache;
     }
 
     @Override
@@ -110,7 +126,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         var aql = QueryAQLConverter.update(query);
         LOGGER.finest("Executing AQL: " + aql.query());
 
-        db.query(aql.query(), Void.class, aql.values(), null);
+        db.query(aql.query(), Void.class, aql.values(), queryOptions());
     }
 
     @Override
@@ -118,14 +134,8 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         requireNonNull(query, "query is required");
         try {
             checkCollection(query.name());
-            if (query.condition().isEmpty()) {
-                AQLQueryResult delete = QueryAQLConverter.delete(query);
-                db.query(delete.query(), Void.class);
-                return;
-            }
-
             AQLQueryResult delete = QueryAQLConverter.delete(query);
-            db.query(delete.query(), Void.class, delete.values(), null);
+            db.query(delete.query(), Void.class, delete.values(), queryOptions());
         } catch (com.arangodb.ArangoDBException exception) {
             if (ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())) {
                 LOGGER.log(Level.FINEST, exception, () -> "An error to run query, that is related to delete " +
@@ -144,7 +154,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         LOGGER.finest("Executing AQL: " + result.query());
         ArangoCursor<JsonObject> documents = db.query(result.query(),
                 JsonObject.class,
-                result.values(), null);
+                result.values(), queryOptions());
 
         return StreamSupport.stream(documents.spliterator(), false)
                 .map(ArangoDBUtil::toEntity);
@@ -165,7 +175,8 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         checkCollection(query.name());
         AQLQueryResult aqlQuery = QueryAQLConverter.count(query);
         LOGGER.finest("Executing AQL: " + aqlQuery.query());
-        return aql(aqlQuery.query(), aqlQuery.values(), Long.class).findFirst().orElse(0L);
+        return db.query(aqlQuery.query(), Long.class, aqlQuery.values(), queryOptions())
+                .stream().findFirst().orElse(0L);
     }
 
     @Override
@@ -193,12 +204,71 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         return db.query(query, type, emptyMap(), null).stream();
     }
 
+    @Override
+    public Stream<CommunicationEntity> traverse(ArangoDBTraversal traversal) {
+        requireNonNull(traversal, "traversal is required");
+        AQLQueryResult result = GraphAQLConverter.traverse(traversal);
+        LOGGER.finest("Executing AQL: " + result.query());
+        return db.query(result.query(), JsonObject.class, result.values(), queryOptions())
+                .stream()
+                .map(ArangoDBUtil::toEntity);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> traverseEdges(ArangoDBTraversal traversal) {
+        requireNonNull(traversal, "traversal is required");
+        AQLQueryResult result = GraphAQLConverter.traverseEdges(traversal);
+        LOGGER.finest("Executing AQL: " + result.query());
+        return db.query(result.query(), JsonObject.class, result.values(), queryOptions())
+                .stream()
+                .map(ArangoDBUtil::toEntity);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> shortestPath(String startVertex, String targetVertex,
+                                                    TraversalDirection direction, String... edges) {
+        requireNonNull(startVertex, "startVertex is required");
+        requireNonNull(targetVertex, "targetVertex is required");
+        requireNonNull(direction, "direction is required");
+        requireNonNull(edges, "edges is required");
+        AQLQueryResult result = GraphAQLConverter.shortestPath(startVertex, targetVertex, direction, List.of(edges));
+        LOGGER.finest("Executing AQL: " + result.query());
+        return db.query(result.query(), JsonObject.class, result.values(), queryOptions())
+                .stream()
+                .map(ArangoDBUtil::toEntity);
+    }
+
+    @Override
+    public Stream<List<CommunicationEntity>> kShortestPaths(String startVertex, String targetVertex,
+                                                            TraversalDirection direction, int limit, String... edges) {
+        requireNonNull(startVertex, "startVertex is required");
+        requireNonNull(targetVertex, "targetVertex is required");
+        requireNonNull(direction, "direction is required");
+        requireNonNull(edges, "edges is required");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than zero: " + limit);
+        }
+        AQLQueryResult result = GraphAQLConverter.kShortestPaths(startVertex, targetVertex, direction, limit,
+                List.of(edges));
+        LOGGER.finest("Executing AQL: " + result.query());
+        return db.query(result.query(), JsonObject.class, result.values(), queryOptions())
+                .stream()
+                .map(path -> path.getJsonArray("vertices").getValuesAs(JsonObject.class)
+                        .stream()
+                        .map(ArangoDBUtil::toEntity)
+                        .toList());
+    }
+
     @Override
     public void close() {
         db.arango().shutdown();
     }
 
 
+    private AqlQueryOptions queryOptions() {
+        return planCache ? new AqlQueryOptions().usePlanCache(true) : null;
+    }
+
     private void checkCollection(String collectionName) {
         ArangoDBUtil.checkCollection(db.name(), db.arango(), collectionName);
     }
@@ -264,6 +334,115 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         return new ArangoDBCommunicationEdge(id, source, target, label, properties);
     }
 
+    @Override
+    public long insertEdges(Iterable<ArangoDBEdgeImport> edges, int batchSize) {
+        return importEdges(edges, batchSize, null);
+    }
+
+    @Override
+    public long insertEdges(Iterable<ArangoDBEdgeImport> edges, int batchSize, String streamTransactionId) {
+        requireNonNull(streamTransactionId, "streamTransactionId is required");
+        return importEdges(edges, batchSize, streamTransactionId);
+    }
+
+    private long importEdges(Iterable<ArangoDBEdgeImport> edges, int batchSize, String transaction) {
+        requireNonNull(edges, "edges is required");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        Set<String> vertexCollections = new HashSet<>();
+        Set<String> edgeCollections = new HashSet<>();
+        List<ArangoDBEdgeImport> batch = new ArrayList<>(batchSize);
+        long count = 0;
+        for (ArangoDBEdgeImport edge : edges) {
+            requireNonNull(edge, "edge is required");
+            batch.add(edge);
+            if (batch.size() == batchSize) {
+                count += insertEdgeBatch(batch, vertexCollections, edgeCollections, transaction);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            count += insertEdgeBatch(batch, vertexCollections, edgeCollections, transaction);
+        }
+        return count;
+    }
+
+    private long insertEdgeBatch(List<ArangoDBEdgeImport> batch, Set<String> vertexCollections,
+                                 Set<String> edgeCollections, String transaction) {
+        Map<String, List<CommunicationEntity>> vertices = new LinkedHashMap<>();
+        Set<String> vertexIds = new HashSet<>();
+        Set<CommunicationEntity> newVertices = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ArangoDBEdgeImport edge : batch) {
+            for (CommunicationEntity vertex : List.of(edge.source(), edge.target())) {
+                boolean added = extractId(vertex).map(vertexIds::add).orElseGet(() -> newVertices.add(vertex));
+                if (added) {
+                    vertices.computeIfAbsent(vertex.name(), k -> new ArrayList<>()).add(vertex);
+                }
+            }
+        }
+
+        vertices.forEach((collection, entities) -> {
+            if (vertexCollections.add(collection)) {
+                checkCollection(collection);
+            }
+            var options = new DocumentCreateOptions().overwriteMode(OverwriteMode.ignore)
+                    .streamTransactionId(transaction);
+            var result = db.collection(collection).insertDocuments(entities.stream()
+                    .map(this::toVertexJson).toList(), options);
+            checkErrors(collection, result);
+            var documents = result.getDocuments();
+            for (int index = 0; index < entities.size(); index++) {
+                var document = documents.get(index);
+                updateEntity(entities.get(index), document.getKey(), document.getId(), document.getRev());
+            }
+        });
+
+        Map<String, List<JsonObject>> edges = new LinkedHashMap<>();
+        for (ArangoDBEdgeImport edge : batch) {
+            CommunicationEntity entity = CommunicationEntity.of(edge.label());
+            entity.add(FROM, extractId(edge.source()).orElseThrow());
+            entity.add(TO, extractId(edge.target()).orElseThrow());
+            edge.properties().forEach(entity::add);
+            edges.computeIfAbsent(edge.label(), k -> new ArrayList<>()).add(ArangoDBUtil.toJsonObject(entity));
+        }
+
+        long count = 0;
+        for (Map.Entry<String, List<JsonObject>> entry : edges.entrySet()) {
+            String label = entry.getKey();
+            if (edgeCollections.add(label)) {
+                checkEdgeCollection(label);
+            }
+            var options = new DocumentCreateOptions().streamTransactionId(transaction);
+            var result = db.collection(label).insertDocuments(entry.getValue(), options);
+            checkErrors(label, result);
+            count += result.getDocuments().size();
+        }
+        return count;
+    }
+
+    /**
+     * Converts a vertex keeping the key taken from its {@code _id}, so a vertex without {@code _key} is matched
+     * by the ignore overwrite mode instead of being inserted again with a generated key.
+     */
+    private JsonObject toVertexJson(CommunicationEntity vertex) {
+        JsonObject json = ArangoDBUtil.toJsonObject(vertex);
+        if (json.containsKey(KEY)) {
+            return json;
+        }
+        return extractKey(vertex)
+                .map(key -> Json.createObjectBuilder(json).add(KEY, key).build())
+                .orElse(json);
+    }
+
+    private static void checkErrors(String collection, MultiDocumentEntity<?> result) {
+        if (!result.getErrors().isEmpty()) {
+            ErrorEntity error = result.getErrors().get(0);
+            throw new ArangoDBException(String.format("%d document(s) were rejected by the collection %s: %s",
+                    result.getErrors().size(), collection, error.getErrorMessage()));
+        }
+    }
+
     private CommunicationEntity ensureEntityExists(CommunicationEntity entity) {
         return extractKey(entity)
                 .filter(key -> db.collection(entity.name()).documentExists(key))
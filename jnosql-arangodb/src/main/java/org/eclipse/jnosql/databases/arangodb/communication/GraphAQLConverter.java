@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the graph traversals and path searches to a single AQL query.
+ */
+final class GraphAQLConverter {
+
+    private static final String START_PARAM = ArangoDBTraversal.START_PARAM;
+    private static final String TARGET_PARAM = "targetVertex";
+    private static final String GRAPH_PARAM = ArangoDBTraversal.GRAPH_PARAM;
+    private static final String LIMIT_PARAM = "limit";
+    private static final String EDGE_PARAM = "@edge";
+    private static final String SEPARATOR = " ";
+
+    private GraphAQLConverter() {
+    }
+
+    static AQLQueryResult traverse(ArangoDBTraversal traversal) {
+        return traverse(traversal, "v", false);
+    }
+
+    static AQLQueryResult traverseEdges(ArangoDBTraversal traversal) {
+        return traverse(traversal, "e", true);
+    }
+
+    static AQLQueryResult shortestPath(String startVertex, String targetVertex,
+                                       TraversalDirection direction, List<String> edges) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder aql = new StringBuilder("FOR v IN ");
+        aql.append(direction.name()).append(" SHORTEST_PATH @").append(START_PARAM)
+                .append(" TO @").append(TARGET_PARAM).append(SEPARATOR);
+        appendEdges(edges, aql, params);
+        aql.append(" RETURN v");
+        params.put(START_PARAM, startVertex);
+        params.put(TARGET_PARAM, targetVertex);
+        return new AQLQueryResult(aql.toString(), params);
+    }
+
+    static AQLQueryResult kShortestPaths(String startVertex, String targetVertex,
+                                         TraversalDirection direction, int limit, List<String> edges) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder aql = new StringBuilder("FOR p IN ");
+        aql.append(direction.name()).append(" K_SHORTEST_PATHS @").append(START_PARAM)
+                .append(" TO @").append(TARGET_PARAM).append(SEPARATOR);
+        appendEdges(edges, aql, params);
+        aql.append(" LIMIT @").append(LIMIT_PARAM)
+                .append(" RETURN { vertices: p.vertices }");
+        params.put(START_PARAM, startVertex);
+        params.put(TARGET_PARAM, targetVertex);
+        params.put(LIMIT_PARAM, limit);
+        return new AQLQueryResult(aql.toString(), params);
+    }
+
+    private static AQLQueryResult traverse(ArangoDBTraversal traversal, String result, boolean edgesOnly) {
+        Map<String, Object> params = new HashMap<>(traversal.params());
+        StringBuilder aql = new StringBuilder("FOR v, e, p IN ");
+        aql.append(traversal.minDepth()).append("..").append(traversal.maxDepth())
+                .append(SEPARATOR).append(traversal.direction().name())
+                .append(" @").append(START_PARAM).append(SEPARATOR);
+        params.put(START_PARAM, traversal.startVertex());
+
+        traversal.graph().ifPresentOrElse(graph -> {
+            aql.append("GRAPH @").append(GRAPH_PARAM);
+            params.put(GRAPH_PARAM, graph);
+        }, () -> appendEdges(traversal.edges(), aql, params));
+
+        traversal.prune().ifPresent(prune -> aql.append(" PRUNE ").append(prune));
+        if (traversal.uniqueVertices()) {
+            aql.append(" OPTIONS { order: \"bfs\", uniqueVertices: \"global\" }");
+        }
+
+        String separator = " FILTER ";
+        if (edgesOnly && traversal.minDepth() == 0) {
+            aql.append(separator).append("e != null");
+            separator = " AND ";
+        }
+        for (String filter : traversal.filters()) {
+            aql.append(separator).append('(').append(filter).append(')');
+            separator = " AND ";
+        }
+        aql.append(" RETURN ").append(result);
+        return new AQLQueryResult(aql.toString(), params);
+    }
+
+    private static void appendEdges(List<String> edges, StringBuilder aql, Map<String, Object> params) {
+        if (edges.isEmpty()) {
+            throw new IllegalArgumentException("At least one edge collection is required");
+        }
+        String separator = "";
+        for (int index = 0; index < edges.size(); index++) {
+            String param = EDGE_PARAM + index;
+            aql.append(separator).append('@').append(param);
+            params.put(param, edges.get(index));
+            separator = ", ";
+        }
+    }
+}
@@ -33,6 +33,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Converts the Eclipse JNoSQL queries to AQL. Every value, including the pagination ones, is sent as a bind
+ * parameter, so the generated text only depends on the query shape and the same repository query reuses the
+ * same text, which is what the ArangoDB query plan cache keys on.
+ */
 final class QueryAQLConverter {
 
     private static final String FILTER = " FILTER ";
@@ -54,6 +59,8 @@ final class QueryAQLConverter {
     private static final String LIKE = " LIKE ";
     private static final String NOT = " NOT ";
     private static final char PARAM_APPENDER = '@';
+    private static final String SKIP_PARAM = "skip";
+    private static final String LIMIT_PARAM = "limit";
 
     private QueryAQLConverter() {
     }
@@ -168,17 +175,24 @@ final class QueryAQLConverter {
         }
 
         if (firstResult > 0 && maxResult > 0) {
-            aql.append(LIMIT).append(firstResult)
-                    .append(", ").append(maxResult);
+            aql.append(LIMIT).append(PARAM_APPENDER).append(limitParam(SKIP_PARAM, firstResult, params))
+                    .append(", ").append(PARAM_APPENDER).append(limitParam(LIMIT_PARAM, maxResult, params));
         } else if (maxResult > 0) {
-            aql.append(LIMIT).append(maxResult);
+            aql.append(LIMIT).append(PARAM_APPENDER).append(limitParam(LIMIT_PARAM, maxResult, params));
         } else if (firstResult > 0) {
-            aql.append(LIMIT).append(firstResult).append(", null");
+            aql.append(LIMIT).append(PARAM_APPENDER).append(limitParam(SKIP_PARAM, firstResult, params))
+                    .append(", null");
         }
         conclusion.apply(entity, aql, params, documentCollection);
         return new AQLQueryResult(aql.toString(), params);
     }
 
+    private static String limitParam(String name, long value, Map<String, Object> params) {
+        String nameParam = getNameParam(name, params);
+        params.put(nameParam, value);
+        return nameParam;
+    }
+
     private static void sort(List<Sort<?>> sorts, StringBuilder aql, char entity) {
         aql.append(SORT);
         String separator = SEPARATOR;
@@ -289,7 +303,7 @@ final class QueryAQLConverter {
         String paramName = parameter;
         int counter = 1;
         while (params.containsKey(paramName)) {
-            paramName = parameter + '_' + counter;
+            paramName = parameter + '_' + counter++;
         }
 
         return paramName;
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+/**
+ * The direction used to follow the edges in an AQL graph traversal or path search.
+ *
+ * @see ArangoDBTraversal
+ */
+public enum TraversalDirection {
+
+    /**
+     * Follows the edges from {@code _from} to {@code _to}.
+     */
+    OUTBOUND,
+    /**
+     * Follows the edges from {@code _to} to {@code _from}.
+     */
+    INBOUND,
+    /**
+     * Follows the edges in both directions.
+     */
+    ANY
+}
@@ -15,10 +15,12 @@
 package org.eclipse.jnosql.databases.arangodb.mapping;
 
 
-
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBTraversal;
+import org.eclipse.jnosql.databases.arangodb.communication.TraversalDirection;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 /**
@@ -89,4 +91,63 @@ public interface ArangoDBTemplate extends DocumentTemplate, GraphTemplate {
      * @throws NullPointerException if {@code query} or {@code type} is {@code null}
      */
     <T> Stream<T> aql(String query, Class<T> type);
+
+    /**
+     * Traverses the graph and returns the visited vertices converted to entities.
+     * The whole walk runs on the server as a single AQL {@code FOR v, e, p IN min..max} query.
+     *
+     * <pre>{@code
+     * Stream<Person> friends = template.traverse(ArangoDBTraversal.outbound("Person/ada")
+     *         .edges("knows")
+     *         .depth(1, 2)
+     *         .build());
+     * }</pre>
+     *
+     * @param <T>       the entity type
+     * @param traversal the traversal definition
+     * @return a {@link Stream} of entities representing the visited vertices
+     * @throws NullPointerException if {@code traversal} is {@code null}
+     */
+    <T> Stream<T> traverse(ArangoDBTraversal traversal);
+
+    /**
+     * Traverses the graph and returns the visited edges converted to entities.
+     * The edge collection must be mapped as an entity to be converted.
+     *
+     * @param <T>       the entity type of the edge
+     * @param traversal the traversal definition
+     * @return a {@link Stream} of entities representing the visited edges
+     * @throws NullPointerException if {@code traversal} is {@code null}
+     */
+    <T> Stream<T> traverseEdges(ArangoDBTraversal traversal);
+
+    /**
+     * Finds the shortest path between two vertices and returns its vertices converted to entities.
+     *
+     * @param <T>          the entity type
+     * @param startVertex  the {@code _id} of the start vertex
+     * @param targetVertex the {@code _id} of the target vertex
+     * @param direction    the direction to follow the edges
+     * @param edges        the edge collections to follow
+     * @return a {@link Stream} of the vertices in the path, from the start to the target
+     * @throws NullPointerException     if any parameter is {@code null}
+     * @throws IllegalArgumentException if no edge collection is informed
+     */
+    <T> Stream<T> shortestPath(String startVertex, String targetVertex, TraversalDirection direction, String... edges);
+
+    /**
+     * Finds the shortest paths between two vertices, ordered by length, with their vertices converted to entities.
+     *
+     * @param <T>          the entity type
+     * @param startVertex  the {@code _id} of the start vertex
+     * @param targetVertex the {@code _id} of the target vertex
+     * @param direction    the direction to follow the edges
+     * @param limit        the maximum number of paths
+     * @param edges        the edge collections to follow
+     * @return a {@link Stream} of paths, where each path is the list of its vertices
+     * @throws NullPointerException     if any parameter is {@code null}
+     * @throws IllegalArgumentException if no edge collection is informed or limit is not positive
+     */
+    <T> Stream<List<T>> kShortestPaths(String startVertex, String targetVertex, TraversalDirection direction,
+                                       int limit, String... edges);
 }
@@ -21,6 +21,8 @@ import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBTraversal;
+import org.eclipse.jnosql.databases.arangodb.communication.TraversalDirection;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.graph.AbstractGraphTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -28,6 +30,7 @@ import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverterFactory;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -110,4 +113,34 @@ class DefaultArangoDBTemplate extends AbstractGraphTemplate implements ArangoDBT
         return manager.get().aql(query, type);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Stream<T> traverse(ArangoDBTraversal traversal) {
+        requireNonNull(traversal, "traversal is required");
+        return manager.get().traverse(traversal).map(e -> (T) converter.toEntity(e));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Stream<T> traverseEdges(ArangoDBTraversal traversal) {
+        requireNonNull(traversal, "traversal is required");
+        return manager.get().traverseEdges(traversal).map(e -> (T) converter.toEntity(e));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Stream<T> shortestPath(String startVertex, String targetVertex, TraversalDirection direction,
+                                      String... edges) {
+        return manager.get().shortestPath(startVertex, targetVertex, direction, edges)
+                .map(e -> (T) converter.toEntity(e));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Stream<List<T>> kShortestPaths(String startVertex, String targetVertex, TraversalDirection direction,
+                                              int limit, String... edges) {
+        return manager.get().kShortestPaths(startVertex, targetVertex, direction, limit, edges)
+                .map(path -> path.stream().map(e -> (T) converter.toEntity(e)).toList());
+    }
+
 }
@@ -615,6 +615,73 @@ public class ArangoDBDocumentManagerTest {
         });
     }
 
+    @Test
+    void shouldInsertEdgesInBatches() {
+        var person1 = entityManager.insert(getEntity());
+        var person2 = getEntity();
+        var person3 = CommunicationEntity.of(COLLECTION_NAME);
+        person3.add(Element.of("name", "Grace"));
+
+        long created = entityManager.insertEdges(List.of(
+                ArangoDBEdgeImport.of(person1, "FRIEND", person2),
+                ArangoDBEdgeImport.of(person2, "FRIEND", person3, Map.of("since", 2021)),
+                ArangoDBEdgeImport.of(person1, "FRIEND", person3)), 2);
+
+        var friends = entityManager.traverse(ArangoDBTraversal.outbound(person1.find("_id").orElseThrow().get(String.class))
+                        .edges("FRIEND")
+                        .build())
+                .toList();
+        assertSoftly(softly -> {
+            softly.assertThat(created).isEqualTo(3L);
+            softly.assertThat(person3.find("_key")).isPresent();
+            softly.assertThat(friends).hasSize(2);
+        });
+
+        entityManager.remove(person1, "FRIEND", person2);
+        entityManager.remove(person2, "FRIEND", person3);
+        entityManager.remove(person1, "FRIEND", person3);
+    }
+
+    @Test
+    void shouldInsertEdgesBetweenVerticesIdentifiedById() {
+        var person1 = entityManager.insert(getEntity());
+        var person2 = entityManager.insert(getEntity());
+        long vertices = entityManager.count(COLLECTION_NAME);
+        var source = CommunicationEntity.of(COLLECTION_NAME);
+        source.add(Element.of("_id", person1.find("_id").orElseThrow().get(String.class)));
+        var target = CommunicationEntity.of(COLLECTION_NAME);
+        target.add(Element.of("_id", person2.find("_id").orElseThrow().get(String.class)));
+
+        long created = entityManager.insertEdges(List.of(ArangoDBEdgeImport.of(source, "FRIEND", target)), 10);
+
+        assertSoftly(softly -> {
+            softly.assertThat(created).isEqualTo(1L);
+            softly.assertThat(entityManager.count(COLLECTION_NAME)).isEqualTo(vertices);
+            softly.assertThat(source.find("_key").orElseThrow().get())
+                    .isEqualTo(person1.find("_key").orElseThrow().get());
+            softly.assertThat(target.find("_id").orElseThrow().get())
+                    .isEqualTo(person2.find("_id").orElseThrow().get());
+        });
+
+        entityManager.remove(person1, "FRIEND", person2);
+    }
+
+    @Test
+    void shouldFindShortestPath() {
+        var person1 = entityManager.insert(getEntity());
+        var person2 = entityManager.insert(getEntity());
+        var person3 = entityManager.insert(getEntity());
+        entityManager.edge(person1, "FRIEND", person2, emptyMap());
+        entityManager.edge(person2, "FRIEND", person3, emptyMap());
+
+        var path = entityManager.shortestPath(person1.find("_id").orElseThrow().get(String.class),
+                person3.find("_id").orElseThrow().get(String.class), TraversalDirection.OUTBOUND, "FRIEND").toList();
+        assertSoftly(softly -> softly.assertThat(path).hasSize(3));
+
+        entityManager.remove(person1, "FRIEND", person2);
+        entityManager.remove(person2, "FRIEND", person3);
+    }
+
     private CommunicationEntity getEntity() {
         CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
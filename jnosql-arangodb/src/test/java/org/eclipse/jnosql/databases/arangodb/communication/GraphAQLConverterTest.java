@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class GraphAQLConverterTest {
+
+    @Test
+    void shouldTraverseOutbound() {
+        ArangoDBTraversal traversal = ArangoDBTraversal.outbound("Person/ada")
+                .edges("knows", "works")
+                .depth(1, 3)
+                .build();
+
+        AQLQueryResult result = GraphAQLConverter.traverse(traversal);
+        assertSoftly(softly -> {
+            softly.assertThat(result.query())
+                    .isEqualTo("FOR v, e, p IN 1..3 OUTBOUND @startVertex @@edge0, @@edge1 RETURN v");
+            softly.assertThat(result.values())
+                    .containsEntry("startVertex", "Person/ada")
+                    .containsEntry("@edge0", "knows")
+                    .containsEntry("@edge1", "works");
+        });
+    }
+
+    @Test
+    void shouldTraverseWithPruneAndFilters() {
+        ArangoDBTraversal traversal = ArangoDBTraversal.any("Person/ada")
+                .graph("social")
+                .depth(2)
+                .prune("v.active == false")
+                .filter("e.since >= @since")
+                .filter("v.age > 18")
+                .param("since", 2020)
+                .uniqueVertices()
+                .build();
+
+        AQLQueryResult result = GraphAQLConverter.traverse(traversal);
+        assertSoftly(softly -> {
+            softly.assertThat(result.query())
+                    .isEqualTo("FOR v, e, p IN 2..2 ANY @startVertex GRAPH @graph PRUNE v.active == false " +
+                            "OPTIONS { order: \"bfs\", uniqueVertices: \"global\" } " +
+                            "FILTER (e.since >= @since) AND (v.age > 18) RETURN v");
+            softly.assertThat(result.values())
+                    .containsEntry("graph", "social")
+                    .containsEntry("since", 2020);
+        });
+    }
+
+    @Test
+    void shouldTraverseEdges() {
+        ArangoDBTraversal traversal = ArangoDBTraversal.inbound("Person/ada")
+                .edges("knows")
+                .depth(0, 2)
+                .build();
+
+        AQLQueryResult result = GraphAQLConverter.traverseEdges(traversal);
+        assertSoftly(softly -> softly.assertThat(result.query())
+                .isEqualTo("FOR v, e, p IN 0..2 INBOUND @startVertex @@edge0 FILTER e != null RETURN e"));
+    }
+
+    @Test
+    void shouldFindShortestPath() {
+        AQLQueryResult result = GraphAQLConverter.shortestPath("Person/ada", "Person/grace",
+                TraversalDirection.OUTBOUND, List.of("knows"));
+        assertSoftly(softly -> {
+            softly.assertThat(result.query())
+                    .isEqualTo("FOR v IN OUTBOUND SHORTEST_PATH @startVertex TO @targetVertex @@edge0 RETURN v");
+            softly.assertThat(result.values())
+                    .containsEntry("startVertex", "Person/ada")
+                    .containsEntry("targetVertex", "Person/grace");
+        });
+    }
+
+    @Test
+    void shouldFindKShortestPaths() {
+        AQLQueryResult result = GraphAQLConverter.kShortestPaths("Person/ada", "Person/grace",
+                TraversalDirection.ANY, 3, List.of("knows"));
+        assertSoftly(softly -> {
+            softly.assertThat(result.query())
+                    .isEqualTo("FOR p IN ANY K_SHORTEST_PATHS @startVertex TO @targetVertex @@edge0 " +
+                            "LIMIT @limit RETURN { vertices: p.vertices }");
+            softly.assertThat(result.values()).containsEntry("limit", 3);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoEdge() {
+        assertThatThrownBy(() -> ArangoDBTraversal.outbound("Person/ada").build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GraphAQLConverter.shortestPath("Person/ada", "Person/grace",
+                TraversalDirection.ANY, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenDepthIsInvalid() {
+        assertThatThrownBy(() -> ArangoDBTraversal.outbound("Person/ada").depth(3, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParamIsReserved() {
+        assertThatThrownBy(() -> ArangoDBTraversal.outbound("Person/ada").param("startVertex", "Person/grace"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
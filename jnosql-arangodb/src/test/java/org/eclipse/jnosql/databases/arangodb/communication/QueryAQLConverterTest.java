@@ -115,7 +115,8 @@ public class QueryAQLConverterTest {
         String aql = convert.query();
         Map<String, Object> values = convert.values();
         assertThat(values.get("name")).isEqualTo("value");
-        assertThat(aql).isEqualTo("FOR c IN collection FILTER  c.name == @name LIMIT 5 RETURN c");
+        assertThat(values.get("limit")).isEqualTo(5L);
+        assertThat(aql).isEqualTo("FOR c IN collection FILTER  c.name == @name LIMIT @limit RETURN c");
 
     }
 
@@ -129,7 +130,59 @@ public class QueryAQLConverterTest {
         String aql = convert.query();
         Map<String, Object> values = convert.values();
         assertThat(values.get("name")).isEqualTo("value");
-        assertThat(aql).isEqualTo("FOR c IN collection FILTER  c.name == @name LIMIT 1, 5 RETURN c");
+        assertThat(values.get("skip")).isEqualTo(1L);
+        assertThat(values.get("limit")).isEqualTo(5L);
+        assertThat(aql).isEqualTo("FOR c IN collection FILTER  c.name == @name LIMIT @skip, @limit RETURN c");
+    }
+
+    @Test
+    public void shouldKeepSameQueryTextAcrossPages() {
+        SelectQuery firstPage = select().from("collection")
+                .where("name").eq("value")
+                .skip(0).limit(10).build();
+        SelectQuery thirdPage = select().from("collection")
+                .where("name").eq("other")
+                .skip(20).limit(10).build();
+        SelectQuery fourthPage = select().from("collection")
+                .where("name").eq("value")
+                .skip(30).limit(10).build();
+
+        AQLQueryResult third = QueryAQLConverter.select(thirdPage);
+        AQLQueryResult fourth = QueryAQLConverter.select(fourthPage);
+        assertSoftly(softly -> {
+            softly.assertThat(third.query()).isEqualTo(fourth.query());
+            softly.assertThat(third.values()).containsEntry("skip", 20L).containsEntry("name", "other");
+            softly.assertThat(fourth.values()).containsEntry("skip", 30L).containsEntry("name", "value");
+            softly.assertThat(QueryAQLConverter.select(firstPage).query())
+                    .isEqualTo("FOR c IN collection FILTER  c.name == @name LIMIT @limit RETURN c");
+        });
+    }
+
+    @Test
+    public void shouldNotCollideLimitWithFieldName() {
+        SelectQuery query = select().from("collection")
+                .where("limit").eq(3)
+                .limit(5).build();
+
+        AQLQueryResult convert = QueryAQLConverter.select(query);
+        assertSoftly(softly -> {
+            softly.assertThat(convert.values()).containsEntry("limit", 3).containsEntry("limit_1", 5L);
+            softly.assertThat(convert.query())
+                    .isEqualTo("FOR c IN collection FILTER  c.limit == @limit LIMIT @limit_1 RETURN c");
+        });
+    }
+
+    @Test
+    public void shouldCreateUniqueParamNames() {
+        SelectQuery query = select().from("collection")
+                .where("name").eq("Ada")
+                .or("name").eq("Grace")
+                .or("name").eq("Linus").build();
+
+        AQLQueryResult convert = QueryAQLConverter.select(query);
+        assertThat(convert.values()).containsEntry("name", "Ada")
+                .containsEntry("name_1", "Grace")
+                .containsEntry("name_2", "Linus");
     }
 
     @Test
@@ -21,12 +21,15 @@ import jakarta.inject.Inject;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBConfigurations;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBTraversal;
+import org.eclipse.jnosql.databases.arangodb.communication.TraversalDirection;
 import org.eclipse.jnosql.databases.arangodb.mapping.ArangoDBTemplate;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.graph.Edge;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
@@ -220,4 +223,23 @@ class ArangoDBTemplateIntegrationTest {
             soft.assertThat(editions).hasSize(3).contains(1, 2, 3);
         });
     }
+
+    @Test
+    void shouldTraverseEditions() {
+        Magazine first = template.insert(new Magazine(null, "Effective Java", 1));
+        Magazine second = template.insert(new Magazine(null, "Effective Java", 2));
+        Magazine third = template.insert(new Magazine(null, "Effective Java", 3));
+        template.edge(Edge.source(first).label("NEXT").target(second).build());
+        template.edge(Edge.source(second).label("NEXT").target(third).build());
+
+        ArangoDBTraversal traversal = ArangoDBTraversal.outbound(first.id()).edges("NEXT").depth(1, 2).build();
+        List<Magazine> magazines = template.<Magazine>traverse(traversal).toList();
+        List<Magazine> path = template.<Magazine>shortestPath(first.id(), third.id(),
+                TraversalDirection.OUTBOUND, "NEXT").toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(magazines).map(Magazine::edition).containsExactlyInAnyOrder(2, 3);
+            soft.assertThat(path).map(Magazine::edition).containsExactly(1, 2, 3);
+        });
+    }
 }
@@ -21,7 +21,9 @@ import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBTraversal;
 import org.eclipse.jnosql.databases.arangodb.communication.Human;
+import org.eclipse.jnosql.databases.arangodb.communication.TraversalDirection;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
@@ -104,6 +106,32 @@ public class DefaultArangoDBTemplateTest {
         Mockito.verify(manager).aql("FOR p IN Person FILTER p.name = @name RETURN p", String.class);
     }
 
+    @Test
+    public void shouldTraverse() {
+        ArangoDBTraversal traversal = ArangoDBTraversal.outbound("Person/Ada").edges("knows").build();
+        template.traverse(traversal);
+        Mockito.verify(manager).traverse(traversal);
+    }
+
+    @Test
+    public void shouldTraverseEdges() {
+        ArangoDBTraversal traversal = ArangoDBTraversal.outbound("Person/Ada").edges("knows").build();
+        template.traverseEdges(traversal);
+        Mockito.verify(manager).traverseEdges(traversal);
+    }
+
+    @Test
+    public void shouldFindShortestPath() {
+        template.shortestPath("Person/Ada", "Person/Grace", TraversalDirection.ANY, "knows");
+        Mockito.verify(manager).shortestPath("Person/Ada", "Person/Grace", TraversalDirection.ANY, "knows");
+    }
+
+    @Test
+    public void shouldFindKShortestPaths() {
+        template.kShortestPaths("Person/Ada", "Person/Grace", TraversalDirection.OUTBOUND, 2, "knows");
+        Mockito.verify(manager).kShortestPaths("Person/Ada", "Person/Grace", TraversalDirection.OUTBOUND, 2, "knows");
+    }
+
     @Test
     public void shouldDeleteAll(){
         ArgumentCaptor<DeleteQuery> argumentCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.RemoveOptions;
+import com.couchbase.client.java.kv.UpsertOptions;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The options applied to every write of a batch in {@link CouchbaseDocumentManager} and
+ * {@link CouchbaseBucketManager}.
+ *
+ * <pre>{@code
+ * CouchbaseBatchOptions options = CouchbaseBatchOptions.defaults()
+ *         .withDurability(DurabilityLevel.MAJORITY)
+ *         .withExpiry(Duration.ofHours(1));
+ * }</pre>
+ *
+ * @param durability the durability level the writes must reach before they are acknowledged
+ * @param expiry     the document expiry, or null to keep the documents until they are removed
+ */
+public record CouchbaseBatchOptions(DurabilityLevel durability, Duration expiry) {
+
+    private static final CouchbaseBatchOptions DEFAULTS = new CouchbaseBatchOptions(DurabilityLevel.NONE, null);
+
+    /**
+     * @throws NullPointerException when durability is null
+     */
+    public CouchbaseBatchOptions {
+        Objects.requireNonNull(durability, "durability is required");
+    }
+
+    /**
+     * Returns the options without durability requirements and without expiry.
+     *
+     * @return the default options
+     */
+    public static CouchbaseBatchOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options with the given durability level.
+     *
+     * @param durability the durability level
+     * @return the new options
+     * @throws NullPointerException when durability is null
+     */
+    public CouchbaseBatchOptions withDurability(DurabilityLevel durability) {
+        return new CouchbaseBatchOptions(durability, expiry);
+    }
+
+    /**
+     * Returns a copy of these options with the given expiry.
+     *
+     * @param expiry the expiry
+     * @return the new options
+     * @throws NullPointerException when expiry is null
+     */
+    public CouchbaseBatchOptions withExpiry(Duration expiry) {
+        Objects.requireNonNull(expiry, "expiry is required");
+        return new CouchbaseBatchOptions(durability, expiry);
+    }
+
+    InsertOptions toInsertOptions() {
+        InsertOptions options = InsertOptions.insertOptions().durability(durability);
+        return expiry == null ? options : options.expiry(expiry);
+    }
+
+    UpsertOptions toUpsertOptions() {
+        UpsertOptions options = UpsertOptions.upsertOptions().durability(durability);
+        return expiry == null ? options : options.expiry(expiry);
+    }
+
+    RemoveOptions toRemoveOptions() {
+        return RemoveOptions.removeOptions().durability(durability);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The per-key outcome of a batch write in {@link CouchbaseDocumentManager} or {@link CouchbaseBucketManager}.
+ * A failing key does not stop the rest of the batch.
+ *
+ * @param succeeded the keys written successfully, in the order they were given
+ * @param failures  the error of each key that could not be written, in the order they were given
+ */
+public record CouchbaseBatchResult(List<String> succeeded, Map<String, Throwable> failures) {
+
+    public CouchbaseBatchResult {
+        succeeded = List.copyOf(succeeded);
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Returns whether every key of the batch was written.
+     *
+     * @return true when there is no failure
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Throws the error of the first failing key, with the errors of the other failing keys suppressed.
+     * It does nothing when the batch succeeded.
+     */
+    void requireSuccess() {
+        if (isSuccess()) {
+            return;
+        }
+        var errors = failures.values().iterator();
+        Throwable first = errors.next();
+        RuntimeException exception = first instanceof RuntimeException runtime ? runtime
+                : new IllegalStateException(first);
+        errors.forEachRemaining(exception::addSuppressed);
+        throw exception;
+    }
+}
@@ -20,12 +20,18 @@ import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.LookupInMacro;
+import com.couchbase.client.java.kv.LookupInSpec;
 import com.couchbase.client.java.kv.UpsertOptions;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -37,6 +43,10 @@ import static org.eclipse.jnosql.communication.ValueUtil.convert;
 /**
  * The couchbase implementation to {@link BucketManager}
  * <br/>
+ * When {@link CouchbaseConfigurations#NEAR_CACHE_SIZE} is set, the values read by key are kept in an in-process
+ * near-cache. The writes through this manager invalidate their keys, while the changes made by other clients are
+ * seen once the value expires or, with {@link CouchbaseConfigurations#NEAR_CACHE_REVALIDATE}, on the next read.
+ * <br/>
  * Closing a {@link CouchbaseBucketManager} has no effect.
  */
 public class CouchbaseBucketManager implements BucketManager {
@@ -51,9 +61,23 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final int kvConcurrency;
+
+    private final CouchbaseBucketReadiness readiness;
+
+    private final CouchbaseNearCache nearCache;
+
+    private final boolean nearCacheRevalidate;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           CouchbaseSettings settings) {
         this.bucket = bucket;
+        this.kvConcurrency = settings.getKvConcurrency();
+        this.nearCache = settings.getNearCacheSize() > 0
+                ? new CouchbaseNearCache(settings.getNearCacheSize(), settings.getNearCacheTtl()) : null;
+        this.nearCacheRevalidate = settings.isNearCacheRevalidate();
+        this.readiness = new CouchbaseBucketReadiness(bucket);
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
@@ -70,7 +94,11 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        try {
+            waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        } finally {
+            invalidate(key.toString());
+        }
     }
 
     @Override
@@ -83,71 +111,213 @@ public class CouchbaseBucketManager implements BucketManager {
     public void put(final KeyValueEntity entity, final Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        waitBucketBeReadyAndDo(() -> {
-            String key = entity.key(String.class);
-            Object value = convert(Value.of(entity.value()));
-            collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
-        });
+        String key = entity.key(String.class);
+        try {
+            waitBucketBeReadyAndDo(() -> {
+                Object value = convert(Value.of(entity.value()));
+                collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
+            });
+        } finally {
+            invalidate(key);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        put(keyValueEntities, CouchbaseBatchOptions.defaults()).requireSuccess();
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        put(keyValueEntities, CouchbaseBatchOptions.defaults().withExpiry(ttl)).requireSuccess();
+    }
+
+    /**
+     * Upserts the entities keeping up to {@link CouchbaseConfigurations#KV_CONCURRENCY} writes in flight.
+     * A failing key does not stop the rest of the batch.
+     *
+     * @param keyValueEntities the entities
+     * @param options          the durability and expiry of every write
+     * @return the outcome of each key
+     * @throws NullPointerException when either keyValueEntities or options is null
+     */
+    public CouchbaseBatchResult put(Iterable<KeyValueEntity> keyValueEntities, CouchbaseBatchOptions options) {
+        requireNonNull(keyValueEntities, "keyValueEntities is required");
+        requireNonNull(options, "options is required");
+        List<KeyValueEntity> entities = stream(keyValueEntities.spliterator(), false).toList();
+        var reactive = collection.reactive();
+        var upsertOptions = options.toUpsertOptions();
+        try {
+            return waitBucketBeReadyAndGet(() -> CouchbaseKeyValueBatch.write(entities,
+                    entity -> entity.key().toString(),
+                    entity -> reactive.upsert(entity.key().toString(), convert(Value.of(entity.value())), upsertOptions),
+                    kvConcurrency));
+        } finally {
+            invalidate(entities.stream().map(entity -> entity.key().toString()).toList());
+        }
+    }
+
+    /**
+     * Removes the keys keeping up to {@link CouchbaseConfigurations#KV_CONCURRENCY} removes in flight.
+     * A failing key, including a key that does not exist, does not stop the rest of the batch.
+     *
+     * @param keys    the keys
+     * @param options the durability of every remove; the expiry is ignored
+     * @param <K>     the key type
+     * @return the outcome of each key
+     * @throws NullPointerException when either keys or options is null
+     */
+    public <K> CouchbaseBatchResult delete(Iterable<K> keys, CouchbaseBatchOptions options) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(options, "options is required");
+        List<K> ids = stream(keys.spliterator(), false).toList();
+        var reactive = collection.reactive();
+        var removeOptions = options.toRemoveOptions();
+        try {
+            return waitBucketBeReadyAndGet(() -> CouchbaseKeyValueBatch.write(ids, Object::toString,
+                    key -> reactive.remove(key.toString(), removeOptions), kvConcurrency));
+        } finally {
+            invalidate(ids.stream().map(Object::toString).toList());
+        }
+    }
+
+    /**
+     * Returns the near-cache counters, when {@link CouchbaseConfigurations#NEAR_CACHE_SIZE} enables it.
+     *
+     * @return the near-cache counters or {@link Optional#empty()} when the near-cache is disabled
+     */
+    public Optional<CouchbaseNearCacheStats> nearCacheStats() {
+        return Optional.ofNullable(nearCache).map(CouchbaseNearCache::stats);
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        try {
-            return waitBucketBeReadyAndGet(() -> {
-                GetResult result = this.collection.get(key.toString());
-                return Optional.of(new CouchbaseValue(result));
-            });
-        } catch (DocumentNotFoundException exp) {
-            return Optional.empty();
+        String id = key.toString();
+        if (nearCache == null) {
+            return fetch(id).map(Value.class::cast);
         }
+        Optional<CouchbaseValue> cached = nearCache.get(id);
+        if (cached.isPresent()) {
+            if (!nearCacheRevalidate || cached.get().cas() == cas(id)) {
+                nearCache.hit();
+                return cached.map(Value.class::cast);
+            }
+            nearCache.invalidate(id);
+        }
+        nearCache.miss();
+        long stamp = nearCache.stamp();
+        Optional<CouchbaseValue> value = fetch(id);
+        value.ifPresent(v -> nearCache.put(id, v, stamp));
+        return value.map(Value.class::cast);
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        List<String> ids = stream(keys.spliterator(), false).map(Object::toString).toList();
+        if (nearCache == null) {
+            return waitBucketBeReadyAndGet(() -> CouchbaseKeyValueBatch.get(collection, ids, kvConcurrency)
+                    .stream()
+                    .map(CouchbaseValue::new)
+                    .collect(toList()));
+        }
+        Map<String, CouchbaseValue> values = new HashMap<>();
+        ids.forEach(id -> nearCache.get(id).ifPresent(value -> values.put(id, value)));
+        if (nearCacheRevalidate && !values.isEmpty()) {
+            Map<String, Long> cas = waitBucketBeReadyAndGet(() ->
+                    CouchbaseKeyValueBatch.cas(collection, List.copyOf(values.keySet()), kvConcurrency));
+            List<String> stale = values.entrySet().stream()
+                    .filter(entry -> !Objects.equals(cas.get(entry.getKey()), entry.getValue().cas()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            stale.forEach(values::remove);
+            if (!stale.isEmpty()) {
+                nearCache.invalidate(stale);
+            }
+        }
+        List<String> missing = ids.stream().filter(id -> !values.containsKey(id)).distinct().toList();
+        ids.forEach(id -> {
+            if (values.containsKey(id)) {
+                nearCache.hit();
+            } else {
+                nearCache.miss();
+            }
+        });
+        if (!missing.isEmpty()) {
+            long stamp = nearCache.stamp();
+            waitBucketBeReadyAndGet(() -> CouchbaseKeyValueBatch.getByKey(collection, missing, kvConcurrency))
+                    .forEach((id, result) -> {
+                        CouchbaseValue value = new CouchbaseValue(result);
+                        values.put(id, value);
+                        nearCache.put(id, value, stamp);
+                    });
+        }
+        return ids.stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
                 .collect(toList());
     }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
+        try {
+            waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
+        } finally {
+            invalidate(key.toString());
+        }
+    }
+
+    private Optional<CouchbaseValue> fetch(String id) {
+        try {
+            return waitBucketBeReadyAndGet(() -> {
+                GetResult result = this.collection.get(id);
+                return Optional.of(new CouchbaseValue(result));
+            });
+        } catch (DocumentNotFoundException exp) {
+            return Optional.empty();
+        }
+    }
+
+    private long cas(String id) {
+        try {
+            return waitBucketBeReadyAndGet(() -> collection.lookupIn(id,
+                    List.of(LookupInSpec.get(LookupInMacro.CAS).xattr())).cas());
+        } catch (DocumentNotFoundException exp) {
+            return 0L;
+        }
+    }
+
+    private void invalidate(String key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private void invalidate(List<String> keys) {
+        if (nearCache != null) {
+            nearCache.invalidate(keys);
+        }
     }
 
     private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
+        readiness.run(runnable);
     }
 
 
     private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+        return readiness.get(supplier);
     }
 
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        delete(keys, CouchbaseBatchOptions.defaults()).requireSuccess();
     }
 
     /**
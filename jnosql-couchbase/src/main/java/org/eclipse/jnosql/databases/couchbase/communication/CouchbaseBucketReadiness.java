@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.RequestCanceledException;
+import com.couchbase.client.core.error.ServiceNotAvailableException;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.Bucket;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tracks whether a {@link Bucket} is ready to serve requests.
+ * The first operation waits with {@link Bucket#waitUntilReady(java.time.Duration)}, later operations only read a
+ * volatile flag. The flag is cleared when an operation fails with a connection-level error, so the next operation
+ * waits for the bucket again; {@link #watch(Flux)} does the same for the rows that are read after the operation
+ * returned, such as the N1QL results streamed while they are consumed.
+ */
+final class CouchbaseBucketReadiness {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchbaseBucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private volatile boolean ready;
+
+    CouchbaseBucketReadiness(Bucket bucket) {
+        this.bucket = bucket;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    void run(Runnable runnable) {
+        get(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    <T> T get(Supplier<T> supplier) {
+        ensureReady();
+        try {
+            return supplier.get();
+        } catch (RuntimeException exception) {
+            failed(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the rows, clearing the flag when they fail with a connection-level error.
+     */
+    <T> Flux<T> watch(Flux<T> rows) {
+        return rows.doOnError(this::failed);
+    }
+
+    private void failed(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof RequestCanceledException
+                || error instanceof ServiceNotAvailableException) {
+            LOGGER.log(Level.FINEST, "Connection error at the bucket " + bucket.name()
+                    + ", it will be checked again on the next operation", error);
+            ready = false;
+        }
+    }
+
+    private void ensureReady() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (!ready) {
+                bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
+                ready = true;
+            }
+        }
+    }
+}
@@ -15,9 +15,11 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
+import com.couchbase.client.java.query.QueryScanConsistency;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -64,6 +66,41 @@ public abstract class CouchbaseConfiguration {
  */
     protected Set<String> collections = new LinkedHashSet<>();
 
+/**
+ * The maximum number of key-value operations in flight.
+ */
+    protected int kvConcurrency = CouchbaseSettings.DEFAULT_KV_CONCURRENCY;
+
+/**
+ * Whether the generated N1QL runs as prepared statements.
+ */
+    protected boolean queryPrepared = true;
+
+/**
+ * The scan consistency of the generated N1QL.
+ */
+    protected QueryScanConsistency queryScanConsistency;
+
+/**
+ * The timeout of the generated N1QL.
+ */
+    protected Duration queryTimeout;
+
+/**
+ * The maximum number of values in the near-cache, zero disables it.
+ */
+    protected int nearCacheSize;
+
+/**
+ * How long a value stays in the near-cache.
+ */
+    protected Duration nearCacheTtl = Duration.ofMillis(CouchbaseSettings.DEFAULT_NEAR_CACHE_TTL_MILLIS);
+
+/**
+ * Whether a near-cache hit is checked against the document CAS.
+ */
+    protected boolean nearCacheRevalidate;
+
 
 /**
  * Performs the update operation.
@@ -78,6 +115,35 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.kvConcurrency = getKvConcurrency(settings);
+        this.queryPrepared = settings.get(CouchbaseConfigurations.QUERY_PREPARED)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(true);
+        this.queryScanConsistency = settings.get(CouchbaseConfigurations.QUERY_SCAN_CONSISTENCY)
+                .map(Object::toString)
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .map(QueryScanConsistency::valueOf)
+                .orElse(null);
+        this.queryTimeout = settings.get(CouchbaseConfigurations.QUERY_TIMEOUT)
+                .map(Object::toString)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .orElse(null);
+        this.nearCacheSize = settings.get(CouchbaseConfigurations.NEAR_CACHE_SIZE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(0);
+        this.nearCacheTtl = settings.get(CouchbaseConfigurations.NEAR_CACHE_TTL)
+                .map(Object::toString)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .orElse(Duration.ofMillis(CouchbaseSettings.DEFAULT_NEAR_CACHE_TTL_MILLIS));
+        this.nearCacheRevalidate = settings.get(CouchbaseConfigurations.NEAR_CACHE_REVALIDATE)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
     }
 
 /**
@@ -107,6 +173,18 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private int getKvConcurrency(Settings settings) {
+        int kvConcurrency = settings.get(CouchbaseConfigurations.KV_CONCURRENCY)
+                .map(Object::toString)
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .orElse(CouchbaseSettings.DEFAULT_KV_CONCURRENCY);
+        if (kvConcurrency <= 0) {
+            throw new IllegalArgumentException("kvConcurrency must be positive: " + kvConcurrency);
+        }
+        return kvConcurrency;
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -186,6 +264,71 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the maximum number of key-value operations in flight
+     * @param kvConcurrency the concurrency
+     * @throws IllegalArgumentException when kvConcurrency is not positive
+     */
+    public void setKvConcurrency(int kvConcurrency) {
+        if (kvConcurrency <= 0) {
+            throw new IllegalArgumentException("kvConcurrency must be positive: " + kvConcurrency);
+        }
+        this.kvConcurrency = kvConcurrency;
+    }
+
+    /**
+     * Set whether the N1QL generated from the queries runs as prepared statements
+     * @param queryPrepared true to run them as prepared statements
+     */
+    public void setQueryPrepared(boolean queryPrepared) {
+        this.queryPrepared = queryPrepared;
+    }
+
+    /**
+     * Set the scan consistency of the N1QL generated from the queries
+     * @param queryScanConsistency the scan consistency, or null to use the client default
+     */
+    public void setQueryScanConsistency(QueryScanConsistency queryScanConsistency) {
+        this.queryScanConsistency = queryScanConsistency;
+    }
+
+    /**
+     * Set the timeout of the N1QL generated from the queries
+     * @param queryTimeout the timeout, or null to use the client default
+     */
+    public void setQueryTimeout(Duration queryTimeout) {
+        this.queryTimeout = queryTimeout;
+    }
+
+    /**
+     * Set the maximum number of values in the near-cache of each {@link CouchbaseBucketManager}
+     * @param nearCacheSize the size, zero disables the near-cache
+     * @throws IllegalArgumentException when nearCacheSize is negative
+     */
+    public void setNearCacheSize(int nearCacheSize) {
+        if (nearCacheSize < 0) {
+            throw new IllegalArgumentException("nearCacheSize must not be negative: " + nearCacheSize);
+        }
+        this.nearCacheSize = nearCacheSize;
+    }
+
+    /**
+     * Set how long a value stays in the near-cache
+     * @param nearCacheTtl the time to live
+     * @throws NullPointerException when nearCacheTtl is null
+     */
+    public void setNearCacheTtl(Duration nearCacheTtl) {
+        this.nearCacheTtl = Objects.requireNonNull(nearCacheTtl, "nearCacheTtl is required");
+    }
+
+    /**
+     * Set whether a near-cache hit is checked against the document CAS before it is returned
+     * @param nearCacheRevalidate true to check the CAS
+     */
+    public void setNearCacheRevalidate(boolean nearCacheRevalidate) {
+        this.nearCacheRevalidate = nearCacheRevalidate;
+    }
+
     /**
      * add collection in the settings
      *
@@ -203,7 +346,9 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(),
+                this.kvConcurrency, this.queryPrepared, this.queryScanConsistency, this.queryTimeout,
+                this.nearCacheSize, this.nearCacheTtl, this.nearCacheRevalidate);
     }
 
     @Override
@@ -219,12 +364,20 @@ public abstract class CouchbaseConfiguration {
                 && Objects.equals(password, that.password)
                 && Objects.equals(scope, that.scope)
                 && Objects.equals(collections, that.collections)
-                && Objects.equals(index, that.index);
+                && Objects.equals(index, that.index)
+                && kvConcurrency == that.kvConcurrency
+                && queryPrepared == that.queryPrepared
+                && queryScanConsistency == that.queryScanConsistency
+                && Objects.equals(queryTimeout, that.queryTimeout)
+                && nearCacheSize == that.nearCacheSize
+                && Objects.equals(nearCacheTtl, that.nearCacheTtl)
+                && nearCacheRevalidate == that.nearCacheRevalidate;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, collections, index);
+        return Objects.hash(host, user, password, scope, collections, index, kvConcurrency,
+                queryPrepared, queryScanConsistency, queryTimeout, nearCacheSize, nearCacheTtl, nearCacheRevalidate);
     }
 
     @Override
@@ -236,6 +389,13 @@ public abstract class CouchbaseConfiguration {
                 ", scope='" + scope + '\'' +
                 ", collections=" + collections +
                 ", index='" + index + '\'' +
+                ", kvConcurrency=" + kvConcurrency +
+                ", queryPrepared=" + queryPrepared +
+                ", queryScanConsistency=" + queryScanConsistency +
+                ", queryTimeout=" + queryTimeout +
+                ", nearCacheSize=" + nearCacheSize +
+                ", nearCacheTtl=" + nearCacheTtl +
+                ", nearCacheRevalidate=" + nearCacheRevalidate +
                 '}';
     }
 }
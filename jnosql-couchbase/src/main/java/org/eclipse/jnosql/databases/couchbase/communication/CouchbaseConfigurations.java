@@ -61,7 +61,43 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The maximum number of key-value operations kept in flight when a single call touches many keys,
+     * such as a select by several ids, {@code BucketManager#get(Iterable)} or the batch writes.
+     * By default, it is {@value CouchbaseSettings#DEFAULT_KV_CONCURRENCY}.
+     */
+    KV_CONCURRENCY("jnosql.couchbase.kv.concurrency"),
+    /**
+     * Whether the N1QL generated from the queries runs as prepared statements, so the query service plans each
+     * query shape once and reuses the plan. By default, it is true.
+     */
+    QUERY_PREPARED("jnosql.couchbase.query.prepared"),
+    /**
+     * The scan consistency of the N1QL generated from the queries, either {@code NOT_BOUNDED} or
+     * {@code REQUEST_PLUS}. When it is not defined, the Couchbase client default is used.
+     */
+    QUERY_SCAN_CONSISTENCY("jnosql.couchbase.query.scan.consistency"),
+    /**
+     * The timeout in milliseconds of the N1QL generated from the queries.
+     * When it is not defined, the Couchbase client default is used.
+     */
+    QUERY_TIMEOUT("jnosql.couchbase.query.timeout"),
+    /**
+     * The maximum number of values that each {@link CouchbaseBucketManager} keeps in its in-process near-cache.
+     * By default, it is zero, which disables the near-cache.
+     */
+    NEAR_CACHE_SIZE("jnosql.couchbase.near.cache.size"),
+    /**
+     * How long, in milliseconds, a value stays in the near-cache after it was read from Couchbase.
+     * By default, it is {@value CouchbaseSettings#DEFAULT_NEAR_CACHE_TTL_MILLIS}.
+     */
+    NEAR_CACHE_TTL("jnosql.couchbase.near.cache.ttl"),
+    /**
+     * Whether a near-cache hit is checked against the document CAS before it is returned. The check only
+     * transfers the CAS, and the value is read again when the document changed. By default, it is false.
+     */
+    NEAR_CACHE_REVALIDATE("jnosql.couchbase.near.cache.revalidate");
 
     private final String configuration;
 
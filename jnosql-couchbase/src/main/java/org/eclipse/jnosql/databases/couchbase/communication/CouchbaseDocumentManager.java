@@ -16,9 +16,11 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 
 
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -26,6 +28,30 @@ import java.util.stream.Stream;
  */
 public interface CouchbaseDocumentManager extends DatabaseManager {
 
+    /**
+     * Inserts the entities keeping up to {@link CouchbaseConfigurations#KV_CONCURRENCY} writes in flight.
+     * A failing entity, such as one whose key already exists, does not stop the rest of the batch.
+     *
+     * @param entities the entities
+     * @param options  the durability and expiry of every write
+     * @return the outcome of each key
+     * @throws NullPointerException         when either entities or options is null
+     * @throws CouchbaseNoKeyFoundException when an entity has no "_id" element; nothing is written then
+     */
+    CouchbaseBatchResult insert(Iterable<CommunicationEntity> entities, CouchbaseBatchOptions options);
+
+    /**
+     * Upserts the entities keeping up to {@link CouchbaseConfigurations#KV_CONCURRENCY} writes in flight.
+     * A failing entity does not stop the rest of the batch.
+     *
+     * @param entities the entities
+     * @param options  the durability and expiry of every write
+     * @return the outcome of each key
+     * @throws NullPointerException         when either entities or options is null
+     * @throws CouchbaseNoKeyFoundException when an entity has no "_id" element; nothing is written then
+     */
+    CouchbaseBatchResult update(Iterable<CommunicationEntity> entities, CouchbaseBatchOptions options);
+
     /**
      * Executes the N1QL with params and then result que result
      *
@@ -46,4 +72,47 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException;
 
+    /**
+     * Executes the N1QL with the given options, such as the parameters, whether it runs as a prepared statement,
+     * the scan consistency and the timeout.
+     *
+     * @param n1ql    the query
+     * @param options the query options
+     * @return the query result
+     * @throws NullPointerException when either n1ql or options are null
+     */
+    Stream<CommunicationEntity> n1qlQuery(String n1ql, QueryOptions options) throws NullPointerException;
+
+    /**
+     * Creates the query options configured for this manager: whether the N1QL runs as a prepared statement,
+     * its scan consistency and its timeout, as set by {@link CouchbaseConfigurations#QUERY_PREPARED},
+     * {@link CouchbaseConfigurations#QUERY_SCAN_CONSISTENCY} and {@link CouchbaseConfigurations#QUERY_TIMEOUT}.
+     * Each call returns a new instance, which the caller may change before passing it to
+     * {@link #n1qlQuery(String, QueryOptions)}.
+     *
+     * @return a new {@link QueryOptions} with the configured defaults
+     */
+    QueryOptions queryOptions();
+
+    /**
+     * Executes the N1QL with params and publishes each row as soon as it arrives from the query service,
+     * requesting more rows only as the subscriber demands them.
+     *
+     * @param n1ql   the query
+     * @param params the params
+     * @return the query result as a {@link Flow.Publisher}
+     * @throws NullPointerException when either n1ql or params are null
+     */
+    Flow.Publisher<CommunicationEntity> n1qlPublisher(String n1ql, JsonObject params) throws NullPointerException;
+
+    /**
+     * Executes the plain N1QL and publishes each row as soon as it arrives from the query service,
+     * requesting more rows only as the subscriber demands them.
+     *
+     * @param n1ql the query
+     * @return the query result as a {@link Flow.Publisher}
+     * @throws NullPointerException when n1ql is null
+     */
+    Flow.Publisher<CommunicationEntity> n1qlPublisher(String n1ql) throws NullPointerException;
+
 }
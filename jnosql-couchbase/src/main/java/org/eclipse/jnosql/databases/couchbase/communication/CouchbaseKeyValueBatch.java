@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.LookupInMacro;
+import com.couchbase.client.java.kv.LookupInSpec;
+import com.couchbase.client.java.kv.MutateInSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Runs one key-value operation over several keys, keeping up to a bounded number of requests in flight instead of
+ * waiting for each round trip before issuing the next one.
+ * Reads and removes skip the keys that do not exist, while writes report the outcome of every key.
+ */
+final class CouchbaseKeyValueBatch {
+
+    private CouchbaseKeyValueBatch() {
+    }
+
+    /**
+     * Fetches the documents, the results keep the order of the keys.
+     */
+    static List<GetResult> get(Collection collection, Iterable<String> keys, int concurrency) {
+        var reactive = collection.reactive();
+        return Flux.fromIterable(keys)
+                .flatMapSequential(key -> reactive.get(key)
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency)
+                .collectList()
+                .block();
+    }
+
+    /**
+     * Fetches the documents keyed by id, in the order of the keys.
+     */
+    static Map<String, GetResult> getByKey(Collection collection, Iterable<String> keys, int concurrency) {
+        var reactive = collection.reactive();
+        return Flux.fromIterable(keys)
+                .flatMapSequential(key -> reactive.get(key)
+                        .map(result -> Map.entry(key, result))
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new)
+                .block();
+    }
+
+    /**
+     * Reads only the CAS of the documents, keyed by id.
+     */
+    static Map<String, Long> cas(Collection collection, Iterable<String> keys, int concurrency) {
+        var reactive = collection.reactive();
+        List<LookupInSpec> specs = List.of(LookupInSpec.get(LookupInMacro.CAS).xattr());
+        return Flux.fromIterable(keys)
+                .flatMap(key -> reactive.lookupIn(key, specs)
+                        .map(result -> Map.entry(key, result.cas()))
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    /**
+     * Removes the documents and returns how many of them existed.
+     */
+    static long remove(Collection collection, Iterable<String> keys, int concurrency) {
+        var reactive = collection.reactive();
+        return count(keys, reactive::remove, concurrency);
+    }
+
+    /**
+     * Applies the same sub-document mutations to every document and returns how many of them existed.
+     */
+    static long mutateIn(Collection collection, Iterable<String> keys, List<MutateInSpec> specs, int concurrency) {
+        var reactive = collection.reactive();
+        return count(keys, key -> reactive.mutateIn(key, specs), concurrency);
+    }
+
+    /**
+     * Writes every item, never stopping at a failing one, and reports the outcome of each key in the order of
+     * the items.
+     */
+    static <T> CouchbaseBatchResult write(Iterable<T> items, Function<T, String> keyOf,
+                                          Function<T, Mono<?>> operation, int concurrency) {
+        List<Outcome> outcomes = Flux.fromIterable(items)
+                .flatMapSequential(item -> {
+                    String key = keyOf.apply(item);
+                    return operation.apply(item)
+                            .map(result -> new Outcome(key, null))
+                            .onErrorResume(error -> Mono.just(new Outcome(key, error)));
+                }, concurrency)
+                .collectList()
+                .block();
+        List<String> succeeded = new ArrayList<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.error() == null) {
+                succeeded.add(outcome.key());
+            } else {
+                failures.put(outcome.key(), outcome.error());
+            }
+        }
+        return new CouchbaseBatchResult(succeeded, failures);
+    }
+
+    private static long count(Iterable<String> keys, Function<String, Mono<?>> operation, int concurrency) {
+        Long count = Flux.fromIterable(keys)
+                .flatMap(key -> operation.apply(key)
+                        .map(result -> key)
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency)
+                .count()
+                .block();
+        return count == null ? 0L : count;
+    }
+
+    private record Outcome(String key, Throwable error) {
+    }
+}
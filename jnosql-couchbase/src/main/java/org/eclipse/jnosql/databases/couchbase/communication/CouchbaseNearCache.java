@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-process near-cache of the values a {@link CouchbaseBucketManager} read, keyed by document id.
+ * It holds at most a fixed number of values, evicting the least recently used one, and each value expires a fixed
+ * time after it was read. Local writes invalidate their keys, and a read that started before an invalidation never
+ * caches its value, so the cache does not keep a value older than a local write.
+ */
+final class CouchbaseNearCache {
+
+    private final int maximumSize;
+
+    private final long ttlNanos;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private long invalidations;
+
+    CouchbaseNearCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    CouchbaseNearCache(int maximumSize, Duration ttl, LongSupplier clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the value cached for the key when it has not expired. It does not record a hit or a miss, because
+     * the caller may still find the value stale.
+     */
+    synchronized Optional<CouchbaseValue> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (clock.getAsLong() - entry.expiresAt() >= 0) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * Returns a stamp to take before reading from Couchbase and to give back to {@link #put(String, CouchbaseValue, long)}.
+     */
+    synchronized long stamp() {
+        return invalidations;
+    }
+
+    /**
+     * Caches the value unless a key was invalidated since the stamp was taken.
+     */
+    synchronized void put(String key, CouchbaseValue value, long stamp) {
+        if (stamp != invalidations) {
+            return;
+        }
+        entries.put(key, new Entry(value, clock.getAsLong() + ttlNanos));
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    synchronized void invalidate(String key) {
+        invalidations++;
+        entries.remove(key);
+    }
+
+    synchronized void invalidate(Iterable<String> keys) {
+        invalidations++;
+        for (String key : keys) {
+            entries.remove(key);
+        }
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    synchronized CouchbaseNearCacheStats stats() {
+        return new CouchbaseNearCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private record Entry(CouchbaseValue value, long expiresAt) {
+    }
+}
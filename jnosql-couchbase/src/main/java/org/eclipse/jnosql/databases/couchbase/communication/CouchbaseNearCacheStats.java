@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+/**
+ * A snapshot of the near-cache counters of a {@link CouchbaseBucketManager}.
+ * A hit that failed the CAS revalidation counts as a miss.
+ *
+ * @param hits      the reads served from the near-cache
+ * @param misses    the reads that went to Couchbase
+ * @param evictions the values dropped because the near-cache was full
+ * @param size      the values currently in the near-cache, including the expired ones not yet dropped
+ */
+public record CouchbaseNearCacheStats(long hits, long misses, long evictions, int size) {
+
+    /**
+     * Returns the fraction of reads served from the near-cache.
+     *
+     * @return the hit ratio, zero when there was no read
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0D : (double) hits / requests;
+    }
+}
@@ -24,6 +24,7 @@ import com.couchbase.client.java.manager.collection.CollectionManager;
 import com.couchbase.client.java.manager.collection.CollectionSpec;
 import com.couchbase.client.java.manager.collection.ScopeSpec;
 import com.couchbase.client.java.manager.query.QueryIndexManager;
+import com.couchbase.client.java.query.QueryScanConsistency;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -47,6 +48,16 @@ public final class CouchbaseSettings {
 
     private static final Logger LOGGER = Logger.getLogger(CouchbaseSettings.class.getName());
 
+    /**
+     * The default value of {@link CouchbaseConfigurations#KV_CONCURRENCY}.
+     */
+    public static final int DEFAULT_KV_CONCURRENCY = 64;
+
+    /**
+     * The default value of {@link CouchbaseConfigurations#NEAR_CACHE_TTL}.
+     */
+    public static final long DEFAULT_NEAR_CACHE_TTL_MILLIS = 60_000L;
+
     private final String host;
 
     private final String user;
@@ -60,9 +71,26 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final int kvConcurrency;
+
+    private final boolean queryPrepared;
+
+    private final QueryScanConsistency queryScanConsistency;
+
+    private final Duration queryTimeout;
+
+    private final int nearCacheSize;
+
+    private final Duration nearCacheTtl;
+
+    private final boolean nearCacheRevalidate;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, int kvConcurrency,
+                      boolean queryPrepared, QueryScanConsistency queryScanConsistency,
+                      Duration queryTimeout, int nearCacheSize, Duration nearCacheTtl,
+                      boolean nearCacheRevalidate) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -70,6 +98,13 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.kvConcurrency = kvConcurrency;
+        this.queryPrepared = queryPrepared;
+        this.queryScanConsistency = queryScanConsistency;
+        this.queryTimeout = queryTimeout;
+        this.nearCacheSize = nearCacheSize;
+        this.nearCacheTtl = nearCacheTtl;
+        this.nearCacheRevalidate = nearCacheRevalidate;
     }
 
 
@@ -139,6 +174,69 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the maximum number of key-value operations in flight {@link CouchbaseConfigurations#KV_CONCURRENCY}
+     *
+     * @return the key-value concurrency {@link CouchbaseConfigurations#KV_CONCURRENCY}
+     */
+    public int getKvConcurrency() {
+        return kvConcurrency;
+    }
+
+    /**
+     * Returns whether the generated N1QL runs as prepared statements {@link CouchbaseConfigurations#QUERY_PREPARED}
+     *
+     * @return true when the generated N1QL runs as prepared statements
+     */
+    public boolean isQueryPrepared() {
+        return queryPrepared;
+    }
+
+    /**
+     * Returns the scan consistency of the generated N1QL {@link CouchbaseConfigurations#QUERY_SCAN_CONSISTENCY}
+     *
+     * @return the scan consistency {@link CouchbaseConfigurations#QUERY_SCAN_CONSISTENCY}
+     */
+    public Optional<QueryScanConsistency> getQueryScanConsistency() {
+        return Optional.ofNullable(queryScanConsistency);
+    }
+
+    /**
+     * Returns the timeout of the generated N1QL {@link CouchbaseConfigurations#QUERY_TIMEOUT}
+     *
+     * @return the timeout {@link CouchbaseConfigurations#QUERY_TIMEOUT}
+     */
+    public Optional<Duration> getQueryTimeout() {
+        return Optional.ofNullable(queryTimeout);
+    }
+
+    /**
+     * Returns the near-cache size {@link CouchbaseConfigurations#NEAR_CACHE_SIZE}
+     *
+     * @return the near-cache size, zero when it is disabled
+     */
+    public int getNearCacheSize() {
+        return nearCacheSize;
+    }
+
+    /**
+     * Returns the near-cache time to live {@link CouchbaseConfigurations#NEAR_CACHE_TTL}
+     *
+     * @return the near-cache time to live
+     */
+    public Duration getNearCacheTtl() {
+        return nearCacheTtl;
+    }
+
+    /**
+     * Returns whether near-cache hits are checked against the document CAS {@link CouchbaseConfigurations#NEAR_CACHE_REVALIDATE}
+     *
+     * @return true when the near-cache hits are checked against the document CAS
+     */
+    public boolean isNearCacheRevalidate() {
+        return nearCacheRevalidate;
+    }
+
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -246,12 +344,20 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && kvConcurrency == that.kvConcurrency
+                && queryPrepared == that.queryPrepared
+                && queryScanConsistency == that.queryScanConsistency
+                && Objects.equals(queryTimeout, that.queryTimeout)
+                && nearCacheSize == that.nearCacheSize
+                && Objects.equals(nearCacheTtl, that.nearCacheTtl)
+                && nearCacheRevalidate == that.nearCacheRevalidate;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, kvConcurrency,
+                queryPrepared, queryScanConsistency, queryTimeout, nearCacheSize, nearCacheTtl, nearCacheRevalidate);
     }
 
     @Override
@@ -264,6 +370,13 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", kvConcurrency=" + kvConcurrency +
+                ", queryPrepared=" + queryPrepared +
+                ", queryScanConsistency=" + queryScanConsistency +
+                ", queryTimeout=" + queryTimeout +
+                ", nearCacheSize=" + nearCacheSize +
+                ", nearCacheTtl=" + nearCacheTtl +
+                ", nearCacheRevalidate=" + nearCacheRevalidate +
                 '}';
     }
 }
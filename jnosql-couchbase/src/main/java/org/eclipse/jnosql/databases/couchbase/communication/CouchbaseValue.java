@@ -30,6 +30,10 @@ final class CouchbaseValue implements Value {
         this.result = result;
     }
 
+    long cas() {
+        return result.cas();
+    }
+
     @Override
     public Object get() {
         return result;
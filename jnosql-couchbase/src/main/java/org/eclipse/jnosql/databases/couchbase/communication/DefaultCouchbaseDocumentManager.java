@@ -15,29 +15,32 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
-import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.MutateInSpec;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -50,17 +53,29 @@ import static java.util.Objects.requireNonNull;
  */
 class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
-    private static final Logger LOGGER = Logger.getLogger(DefaultCouchbaseDocumentManager.class.getName());
+    /**
+     * How many rows are requested from the query service at a time while a result stream is consumed.
+     */
+    private static final int ROWS_PREFETCH = 256;
 
     private final Bucket bucket;
     private final String database;
 
     private final Cluster cluster;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final CouchbaseSettings settings;
+
+    private final int kvConcurrency;
+
+    private final CouchbaseBucketReadiness readiness;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, CouchbaseSettings settings) {
         this.bucket = cluster.bucket(database);
         this.database = database;
         this.cluster = cluster;
+        this.settings = settings;
+        this.kvConcurrency = settings.getKvConcurrency();
+        this.readiness = new CouchbaseBucketReadiness(bucket);
     }
 
     @Override
@@ -99,16 +114,27 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        insert(values, CouchbaseBatchOptions.defaults()).requireSuccess();
+        return values;
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl)).collect(Collectors.toList());
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        insert(values, CouchbaseBatchOptions.defaults().withExpiry(ttl)).requireSuccess();
+        return values;
+    }
+
+    @Override
+    public CouchbaseBatchResult insert(Iterable<CommunicationEntity> entities, CouchbaseBatchOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        var insertOptions = options.toInsertOptions();
+        return write(entities, document -> bucket.collection(document.collection()).reactive()
+                .insert(document.id(), document.json(), insertOptions));
     }
 
     @Override
@@ -128,49 +154,68 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        update(values, CouchbaseBatchOptions.defaults()).requireSuccess();
+        return values;
+    }
+
+    @Override
+    public CouchbaseBatchResult update(Iterable<CommunicationEntity> entities, CouchbaseBatchOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        var upsertOptions = options.toUpsertOptions();
+        return write(entities, document -> bucket.collection(document.collection()).reactive()
+                .upsert(document.id(), document.json(), upsertOptions));
+    }
+
+    private CouchbaseBatchResult write(Iterable<CommunicationEntity> entities,
+                                       Function<Document, Mono<?>> operation) {
+        List<Document> documents = StreamSupport.stream(entities.spliterator(), false)
+                .map(Document::of)
+                .toList();
+        return waitBucketBeReadyAndGet(() -> CouchbaseKeyValueBatch.write(documents, Document::id, operation,
+                kvConcurrency));
     }
 
     @Override
     public void update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        waitBucketBeReadyAndGet(() -> {
-            N1QLQuery n1ql = N1QLBuilder
-                    .of(query, database, bucket.defaultScope().name())
-                    .get();
-
-            cluster.query(
-                    n1ql.query(),
-                    QueryOptions.queryOptions().parameters(n1ql.params())
-            );
-            return Void.class;
+        waitBucketBeReadyAndDo(() -> {
+            N1QLBuilder builder = N1QLBuilder.of(query, database, bucket.defaultScope().name());
+            List<String> keys = query.where().map(N1QLConditions::keysOf).orElse(Collections.emptyList());
+            if (!keys.isEmpty()) {
+                List<MutateInSpec> specs = query.sets().stream()
+                        .<MutateInSpec>map(element -> MutateInSpec.upsert(element.name(), element.get()).createPath())
+                        .toList();
+                CouchbaseKeyValueBatch.mutateIn(bucket.collection(query.name()), keys, specs, kvConcurrency);
+                return;
+            }
+            N1QLQuery n1ql = builder.get();
+            cluster.query(n1ql.query(), queryOptions(n1ql));
         });
     }
 
     @Override
     public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
         waitBucketBeReadyAndDo(() -> {
-            Objects.requireNonNull(query, "query is required");
-            Collection collection = bucket.collection(query.name());
-            SelectQuery delete = DeleteQueryWrapper.of(query);
-            Stream<CommunicationEntity> entities = select(delete);
-            entities.flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
-                    .filter(Objects::nonNull)
-                    .map(d -> d.get(String.class))
-                    .forEach(collection::remove);
+            List<String> keys = query.condition().map(N1QLConditions::keysOf).orElse(Collections.emptyList());
+            if (!keys.isEmpty()) {
+                CouchbaseKeyValueBatch.remove(bucket.collection(query.name()), keys, kvConcurrency);
+                return;
+            }
+            N1QLQuery n1ql = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
+            cluster.query(n1ql.query(), queryOptions(n1ql));
         });
     }
 
     private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
+        readiness.run(runnable);
     }
 
 
     private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+        return readiness.get(supplier);
     }
 
     @Override
@@ -178,30 +223,19 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
         Objects.requireNonNull(query, "query is required");
         return waitBucketBeReadyAndGet(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
-            List<JsonObject> jsons = new ArrayList<>();
+            Stream<JsonObject> jsons = Stream.empty();
             if (n1QLQuery.hasIds()) {
                 Collection collection = bucket.collection(query.name());
-                for (String id : n1QLQuery.ids()) {
-                    try {
-                        GetResult result = collection.get(id);
-                        jsons.add(result.contentAsObject());
-                    } catch (DocumentNotFoundException exp) {
-                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
-                    }
-                }
+                jsons = CouchbaseKeyValueBatch.get(collection, n1QLQuery.ids(), kvConcurrency)
+                        .stream()
+                        .map(GetResult::contentAsObject);
             }
 
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.isParameterEmpty()) {
-                    result = cluster.query(n1QLQuery.query());
-                } else {
-                    result = cluster.query(n1QLQuery.query(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.params()));
-                }
-                jsons.addAll(result.rowsAsObject());
+                jsons = Stream.concat(jsons, rows(n1QLQuery.query(), queryOptions(n1QLQuery))
+                        .toStream(ROWS_PREFETCH));
             }
-            return EntityConverter.convert(jsons, database);
+            return jsons.map(json -> EntityConverter.convert(json, database));
         });
     }
 
@@ -213,7 +247,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
                     .select("COUNT(*)").from(documentCollection).build();
             N1QLQuery n1QLQuery = N1QLBuilder
                     .of(countQuery, database, bucket.defaultScope().name()).get();
-            QueryResult query = cluster.query(n1QLQuery.query());
+            QueryResult query = cluster.query(n1QLQuery.query(), queryOptions(n1QLQuery));
             List<JsonObject> result = query.rowsAsObject();
             var count = result.stream().findFirst()
                     .map(data -> data.getNumber("$1"))
@@ -227,13 +261,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
         Objects.requireNonNull(query, "query is required");
         return waitBucketBeReadyAndGet(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.countOf(query, database, bucket.defaultScope().name()).get();
-            QueryResult result;
-            if (n1QLQuery.isParameterEmpty()) {
-                result = cluster.query(n1QLQuery.query());
-            } else {
-                result = cluster.query(n1QLQuery.query(), QueryOptions
-                        .queryOptions().parameters(n1QLQuery.params()));
-            }
+            QueryResult result = cluster.query(n1QLQuery.query(), queryOptions(n1QLQuery));
             return result.rowsAsObject()
                     .stream()
                     .findFirst()
@@ -246,21 +274,71 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<CommunicationEntity> n1qlQuery(final String n1ql, final JsonObject params) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql, QueryOptions
-                    .queryOptions().parameters(params));
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return waitBucketBeReadyAndGet(() -> entities(rows(n1ql, parameters(params))).toStream(ROWS_PREFETCH));
     }
 
 
     @Override
     public Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql);
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return waitBucketBeReadyAndGet(() -> entities(rows(n1ql, QueryOptions.queryOptions())).toStream(ROWS_PREFETCH));
+    }
+
+    @Override
+    public Stream<CommunicationEntity> n1qlQuery(String n1ql, QueryOptions options) throws NullPointerException {
+        requireNonNull(n1ql, "n1qlQuery is required");
+        requireNonNull(options, "options is required");
+        return waitBucketBeReadyAndGet(() -> entities(rows(n1ql, options)).toStream(ROWS_PREFETCH));
+    }
+
+    @Override
+    public Flow.Publisher<CommunicationEntity> n1qlPublisher(String n1ql, JsonObject params) {
+        requireNonNull(n1ql, "n1qlQuery is required");
+        requireNonNull(params, "params is required");
+        return waitBucketBeReadyAndGet(() -> JdkFlowAdapter.publisherToFlowPublisher(entities(rows(n1ql, parameters(params)))));
+    }
+
+    @Override
+    public Flow.Publisher<CommunicationEntity> n1qlPublisher(String n1ql) {
+        requireNonNull(n1ql, "n1qlQuery is required");
+        return n1qlPublisher(n1ql, JsonObject.create());
+    }
+
+    @Override
+    public QueryOptions queryOptions() {
+        QueryOptions options = QueryOptions.queryOptions().adhoc(!settings.isQueryPrepared());
+        settings.getQueryScanConsistency().ifPresent(options::scanConsistency);
+        settings.getQueryTimeout().ifPresent(options::timeout);
+        return options;
+    }
+
+    /**
+     * The options of the N1QL generated from the queries: its text only depends on the query shape, so it runs as
+     * a prepared statement unless {@link CouchbaseConfigurations#QUERY_PREPARED} is false.
+     */
+    private QueryOptions queryOptions(N1QLQuery n1ql) {
+        QueryOptions options = queryOptions();
+        if (!n1ql.params().isEmpty()) {
+            options.parameters(n1ql.params());
+        }
+        return options;
+    }
+
+    private static QueryOptions parameters(JsonObject params) {
+        QueryOptions options = QueryOptions.queryOptions();
+        if (!params.isEmpty()) {
+            options.parameters(params);
+        }
+        return options;
+    }
+
+    private Flux<JsonObject> rows(String n1ql, QueryOptions options) {
+        return readiness.watch(cluster.reactive().query(n1ql, options)
+                .flatMapMany(ReactiveQueryResult::rowsAsObject));
+    }
+
+    private Flux<CommunicationEntity> entities(Flux<JsonObject> rows) {
+        return rows.map(json -> EntityConverter.convert(json, database));
     }
 
 
@@ -270,4 +348,15 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public void close() {
     }
+
+    private record Document(String collection, String id, JsonObject json) {
+
+        static Document of(CommunicationEntity entity) {
+            requireNonNull(entity, "entity is required");
+            Element id = entity.find(EntityConverter.ID_FIELD)
+                    .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
+            entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
+            return new Document(entity.name(), id.get(String.class), EntityConverter.convert(entity));
+        }
+    }
 }
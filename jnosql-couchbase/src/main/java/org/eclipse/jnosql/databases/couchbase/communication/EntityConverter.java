@@ -25,10 +25,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.StreamSupport.stream;
@@ -45,24 +43,19 @@ final class EntityConverter {
     }
 
 
-    static Stream<CommunicationEntity> convert(List<JsonObject> result, String database) {
-        return
-                result.stream()
-                        .map(JsonObject::toMap)
-                        .filter(Objects::nonNull)
-                        .map(map -> {
-                            if (map.size() == 1) {
-                                Map.Entry<String, Object> entry = map.entrySet().stream().findFirst().get();
-                                if (entry.getValue() instanceof Map) {
-                                    List<Element> documents = toDocuments((Map<String, Object>) entry.getValue());
-                                    return CommunicationEntity.of(entry.getKey(), documents);
-                                }
-                            }
-                            List<Element> documents = toDocuments(map);
-                            Optional<Element> entityDocument = documents.stream().filter(d -> COLLECTION_FIELD.equals(d.name())).findFirst();
-                            String collection = entityDocument.map(d -> d.get(String.class)).orElse(database);
-                            return CommunicationEntity.of(collection, documents);
-                        });
+    static CommunicationEntity convert(JsonObject json, String database) {
+        Map<String, Object> map = json.toMap();
+        if (map.size() == 1) {
+            Map.Entry<String, Object> entry = map.entrySet().stream().findFirst().get();
+            if (entry.getValue() instanceof Map) {
+                List<Element> documents = toDocuments((Map<String, Object>) entry.getValue());
+                return CommunicationEntity.of(entry.getKey(), documents);
+            }
+        }
+        List<Element> documents = toDocuments(map);
+        Optional<Element> entityDocument = documents.stream().filter(d -> COLLECTION_FIELD.equals(d.name())).findFirst();
+        String collection = entityDocument.map(d -> d.get(String.class)).orElse(database);
+        return CommunicationEntity.of(collection, documents);
     }
 
     private static List<Element> toDocuments(Map<String, Object> map) {
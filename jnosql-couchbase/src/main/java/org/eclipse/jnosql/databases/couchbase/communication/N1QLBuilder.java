@@ -14,13 +14,14 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 
 import java.util.function.Supplier;
 
 sealed interface N1QLBuilder extends Supplier<N1QLQuery>
-        permits N1QLSelectQueryBuilder, N1QLUpdateQueryBuilder {
+        permits N1QLSelectQueryBuilder, N1QLUpdateQueryBuilder, N1QLDeleteQueryBuilder {
 
 
     static N1QLBuilder of(SelectQuery query, String database, String scope) {
@@ -35,4 +36,8 @@ sealed interface N1QLBuilder extends Supplier<N1QLQuery>
         return new N1QLUpdateQueryBuilder(query, database, name);
     }
 
+    static N1QLBuilder of(DeleteQuery query, String database, String scope) {
+        return new N1QLDeleteQueryBuilder(query, database, scope);
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.json.JsonObject;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.driver.StringMatch;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Writes a {@link CriteriaCondition} as a N1QL predicate over an aliased keyspace, used by the UPDATE and DELETE
+ * statements, where every field, including {@link EntityConverter#ID_FIELD}, becomes a parameterized predicate.
+ */
+final class N1QLConditions {
+
+    private static final Pattern NOT_IDENTIFIER = Pattern.compile("[^A-Za-z0-9_]");
+
+    private final String alias;
+
+    private final JsonObject params;
+
+    N1QLConditions(String alias, JsonObject params) {
+        this.alias = alias;
+        this.params = params;
+    }
+
+    /**
+     * Returns the document keys when the condition only matches by {@link EntityConverter#ID_FIELD}, either
+     * with an equals or an in; otherwise, an empty list.
+     */
+    static List<String> keysOf(CriteriaCondition condition) {
+        Element document = condition.element();
+        if (!EntityConverter.ID_FIELD.equals(document.name())) {
+            return Collections.emptyList();
+        }
+        return switch (condition.condition()) {
+            case EQUALS -> List.of(document.get(String.class));
+            case IN -> document.get(new TypeReference<List<String>>() {
+            });
+            default -> Collections.emptyList();
+        };
+    }
+
+    void append(CriteriaCondition condition, StringBuilder n1ql) {
+        Element document = condition.element();
+        switch (condition.condition()) {
+            case EQUALS:
+                predicate(n1ql, " = ", document);
+                return;
+            case IN:
+                predicate(n1ql, " IN ", document);
+                return;
+            case LESSER_THAN:
+                predicate(n1ql, " < ", document);
+                return;
+            case GREATER_THAN:
+                predicate(n1ql, " > ", document);
+                return;
+            case LESSER_EQUALS_THAN:
+                predicate(n1ql, " <= ", document);
+                return;
+            case GREATER_EQUALS_THAN:
+                predicate(n1ql, " >= ", document);
+                return;
+            case LIKE:
+                predicate(n1ql, " LIKE ", document);
+                return;
+            case CONTAINS:
+                predicate(n1ql, " LIKE ", Element.of(document.name(), StringMatch.CONTAINS.format(document.get(String.class))));
+                return;
+            case STARTS_WITH:
+                predicate(n1ql, " LIKE ", Element.of(document.name(), StringMatch.STARTS_WITH.format(document.get(String.class))));
+                return;
+            case ENDS_WITH:
+                predicate(n1ql, " LIKE ", Element.of(document.name(), StringMatch.ENDS_WITH.format(document.get(String.class))));
+                return;
+            case NOT:
+                n1ql.append(" NOT ");
+                append(document.get(CriteriaCondition.class), n1ql);
+                return;
+            case OR:
+                appendCondition(n1ql, document.get(new TypeReference<>() {
+                }), " OR ");
+                return;
+            case AND:
+                appendCondition(n1ql, document.get(new TypeReference<>() {
+                }), " AND ");
+                return;
+            case BETWEEN:
+                predicateBetween(n1ql, document);
+                return;
+            default:
+                throw new UnsupportedOperationException("There is not support condition for " + condition.condition());
+        }
+    }
+
+    String identifierOf(String field) {
+        return "%s.%s".formatted(alias, field);
+    }
+
+    String param(String name, Object value) {
+        return param(params, name, value);
+    }
+
+    /**
+     * Binds the value to a new named parameter and returns its name. The name only depends on the field and on
+     * how many parameters were bound before, so the same query shape always produces the same text, which lets
+     * the query service reuse a prepared statement.
+     */
+    static String param(JsonObject params, String name, Object value) {
+        String param = "$" + NOT_IDENTIFIER.matcher(name).replaceAll("_") + "_" + params.size();
+        params.put(param, value);
+        return param;
+    }
+
+    private void predicateBetween(StringBuilder n1ql, Element document) {
+        String name = identifierOf(document.name());
+
+        List<Object> values = new ArrayList<>();
+        ((Iterable<?>) document.get()).forEach(values::add);
+
+        String param = param(document.name(), values.get(0));
+        String param2 = param(document.name(), values.get(1));
+        n1ql.append(name).append(" BETWEEN ").append(param).append(" AND ").append(param2);
+    }
+
+    private void appendCondition(StringBuilder n1ql, List<CriteriaCondition> conditions, String condition) {
+        int index = 0;
+        for (CriteriaCondition documentCondition : conditions) {
+            StringBuilder query = new StringBuilder();
+            append(documentCondition, query);
+            if (index == 0) {
+                n1ql.append(" ").append(query);
+            } else if (!query.isEmpty()) {
+                n1ql.append(condition).append(query);
+            }
+            index++;
+        }
+    }
+
+    private void predicate(StringBuilder n1ql, String condition, Element document) {
+        String name = identifierOf(document.name());
+        String param = param(document.name(), document.get());
+        n1ql.append(name).append(condition).append(param);
+    }
+}
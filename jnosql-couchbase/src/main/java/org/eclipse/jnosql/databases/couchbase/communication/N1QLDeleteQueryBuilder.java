@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.json.JsonObject;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+
+import java.util.Collections;
+import java.util.Objects;
+
+record N1QLDeleteQueryBuilder(DeleteQuery query, String database, String scope) implements N1QLBuilder {
+
+    N1QLDeleteQueryBuilder {
+        Objects.requireNonNull(query.name(), "documentCollection is required");
+        Objects.requireNonNull(database, "database is required");
+        Objects.requireNonNull(scope, "scope is required");
+    }
+
+    @Override
+    public N1QLQuery get() {
+        var alias = "d";
+        var n1ql = new StringBuilder();
+        var params = JsonObject.create();
+        n1ql.append("DELETE FROM ")
+                .append(database).append(".")
+                .append(scope).append(".")
+                .append(query.name())
+                .append(" AS ").append(alias);
+
+        query.condition().ifPresent(condition -> {
+            n1ql.append(" WHERE ");
+            new N1QLConditions(alias, params).append(condition, n1ql);
+        });
+
+        return N1QLQuery.of(n1ql, params, Collections.emptyList());
+    }
+
+}
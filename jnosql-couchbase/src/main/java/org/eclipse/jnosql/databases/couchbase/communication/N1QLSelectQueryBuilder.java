@@ -24,11 +24,15 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 record N1QLSelectQueryBuilder(SelectQuery query, String database, String scope,
                               boolean shouldCount) implements N1QLBuilder {
+
+    static final String LIMIT_PARAM = "$limit";
+
+    static final String OFFSET_PARAM = "$offset";
+
     @Override
     public N1QLQuery get() {
 
@@ -60,12 +64,18 @@ record N1QLSelectQueryBuilder(SelectQuery query, String database, String scope,
             n1ql.append(order);
         }
 
+        if (!ids.isEmpty() && params.isEmpty()) {
+            return N1QLQuery.of(n1ql, params, ids);
+        }
+
         if (query.limit() > 0) {
-            n1ql.append(" LIMIT ").append(query.limit());
+            n1ql.append(" LIMIT ").append(LIMIT_PARAM);
+            params.put(LIMIT_PARAM, query.limit());
         }
 
         if (query.skip() > 0) {
-            n1ql.append(" OFFSET ").append(query.skip());
+            n1ql.append(" OFFSET ").append(OFFSET_PARAM);
+            params.put(OFFSET_PARAM, query.skip());
         }
 
         return N1QLQuery.of(n1ql, params, ids);
@@ -145,18 +155,14 @@ record N1QLSelectQueryBuilder(SelectQuery query, String database, String scope,
     }
 
     private void predicateBetween(StringBuilder n1ql, JsonObject params, Element document) {
-        n1ql.append(" BETWEEN ");
-        ThreadLocalRandom random = ThreadLocalRandom.current();
         String name = identifierOf(document.name());
 
         List<Object> values = new ArrayList<>();
         ((Iterable<?>) document.get()).forEach(values::add);
 
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        String param2 = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
-        params.put(param, values.get(0));
-        params.put(param2, values.get(1));
+        String param = N1QLConditions.param(params, document.name(), values.get(0));
+        String param2 = N1QLConditions.param(params, document.name(), values.get(1));
+        n1ql.append(name).append("BETWEEN ").append(param).append(" AND ").append(param2);
     }
 
     private void appendCondition(StringBuilder n1ql, JsonObject params,
@@ -179,12 +185,9 @@ record N1QLSelectQueryBuilder(SelectQuery query, String database, String scope,
                            String condition,
                            Element document,
                            JsonObject params) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
         String name = identifierOf(document.name());
-        Object value = document.get();
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
+        String param = N1QLConditions.param(params, document.name(), document.get());
         n1ql.append(name).append(condition).append(param);
-        params.put(param, value);
     }
 
     private String identifierOf(String name) {
@@ -16,8 +16,10 @@ package org.eclipse.jnosql.databases.couchbase.mapping;
 
 
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -38,6 +40,9 @@ import java.util.stream.Stream;
  *
  * // Plain query execution
  * Stream<User> allUsers = template.n1qlQuery("SELECT * FROM users");
+ *
+ * // Publisher with backpressure for large results
+ * Flow.Publisher<User> users = template.n1qlPublisher("SELECT * FROM users");
  * }</pre>
  */
 public interface CouchbaseTemplate extends DocumentTemplate {
@@ -68,5 +73,51 @@ public interface CouchbaseTemplate extends DocumentTemplate {
      */
     <T> Stream<T> n1qlQuery(String n1qlQuery);
 
+    /**
+     * Executes an N1QL query with the given options and returns the query result.
+     * Example:
+     * {@code template.n1qlQuery("SELECT * FROM users WHERE status = $status",
+     * QueryOptions.queryOptions().parameters(params).adhoc(false))}
+     *
+     * @param <T>       the entity type
+     * @param n1qlQuery the N1QL query to execute
+     * @param options   the query options, such as the parameters, adhoc, scan consistency and timeout
+     * @return a {@link Stream} of entities representing the query result
+     * @throws NullPointerException if either {@code n1qlQuery} or {@code options} is null
+     */
+    <T> Stream<T> n1qlQuery(String n1qlQuery, QueryOptions options);
+
+    /**
+     * Creates the query options configured for the underlying {@link CouchbaseDocumentManager}, such as whether
+     * the N1QL runs as a prepared statement, its scan consistency and its timeout.
+     *
+     * @return a new {@link QueryOptions} with the configured defaults
+     * @see org.eclipse.jnosql.databases.couchbase.communication.CouchbaseDocumentManager#queryOptions()
+     */
+    QueryOptions queryOptions();
+
+    /**
+     * Executes an N1QL query with named parameters and publishes the entities as the rows arrive,
+     * requesting more rows from Couchbase only as the subscriber demands them.
+     *
+     * @param <T>       the entity type
+     * @param n1qlQuery the N1QL query to execute
+     * @param params    the parameters for the query
+     * @return a {@link Flow.Publisher} of entities representing the query result
+     * @throws NullPointerException if either {@code n1qlQuery} or {@code params} is null
+     */
+    <T> Flow.Publisher<T> n1qlPublisher(String n1qlQuery, JsonObject params);
+
+    /**
+     * Executes a plain N1QL query and publishes the entities as the rows arrive,
+     * requesting more rows from Couchbase only as the subscriber demands them.
+     *
+     * @param <T>       the entity type
+     * @param n1qlQuery the N1QL query to execute
+     * @return a {@link Flow.Publisher} of entities representing the query result
+     * @throws NullPointerException if {@code n1qlQuery} is null
+     */
+    <T> Flow.Publisher<T> n1qlPublisher(String n1qlQuery);
+
 
 }
@@ -16,10 +16,12 @@ package org.eclipse.jnosql.databases.couchbase.mapping;
 
 
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseDocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -27,7 +29,9 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.semistructured.AbstractSemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
+import reactor.adapter.JdkFlowAdapter;
 
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -109,4 +113,37 @@ class DefaultCouchbaseTemplate extends AbstractSemiStructuredTemplate
                 .map(d -> (T) d);
     }
 
+    @Override
+    public <T> Stream<T> n1qlQuery(String n1qlQuery, QueryOptions options) {
+        requireNonNull(n1qlQuery, "n1qlQuery is required");
+        requireNonNull(options, "options is required");
+        return manager.get().n1qlQuery(n1qlQuery, options)
+                .map(converter::toEntity)
+                .map(d -> (T) d);
+    }
+
+    @Override
+    public QueryOptions queryOptions() {
+        return manager.get().queryOptions();
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> n1qlPublisher(String n1qlQuery, JsonObject params) {
+        requireNonNull(n1qlQuery, "n1qlQuery is required");
+        requireNonNull(params, "params is required");
+        return toEntities(manager.get().n1qlPublisher(n1qlQuery, params));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> n1qlPublisher(String n1qlQuery) {
+        requireNonNull(n1qlQuery, "n1qlQuery is required");
+        return toEntities(manager.get().n1qlPublisher(n1qlQuery));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Flow.Publisher<T> toEntities(Flow.Publisher<CommunicationEntity> publisher) {
+        return JdkFlowAdapter.publisherToFlowPublisher(JdkFlowAdapter.flowPublisherToFlux(publisher)
+                .map(entity -> (T) converter.toEntity(entity)));
+    }
+
 }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.couchbase.mapping;
 
+import com.couchbase.client.java.query.QueryScanConsistency;
 import org.eclipse.jnosql.mapping.ProviderQuery;
 
 import java.lang.annotation.ElementType;
@@ -34,6 +35,10 @@ import java.lang.annotation.Target;
  *
  *     @N1QL("SELECT * FROM products WHERE category = $category")
  *     List<Product> findByCategory(@Param("category") String category);
+ *
+ *     @N1QL(value = "SELECT * FROM products WHERE sku = $sku",
+ *           scanConsistency = N1QL.ScanConsistency.REQUEST_PLUS, timeout = 500)
+ *     Optional<Product> findBySku(@Param("sku") String sku);
  * }
  * }</pre>
  */
@@ -47,4 +52,73 @@ public @interface N1QL {
      * @return the N1QL query
      */
     String value();
+
+    /**
+     * Whether the query runs as a prepared statement, so the query service plans it once and reuses the plan
+     * on the next calls. {@link Prepared#DEFAULT} uses the {@code jnosql.couchbase.query.prepared} configuration.
+     *
+     * @return whether to run the query as a prepared statement
+     */
+    Prepared prepared() default Prepared.DEFAULT;
+
+    /**
+     * The scan consistency of the query. {@link ScanConsistency#DEFAULT} uses the
+     * {@code jnosql.couchbase.query.scan.consistency} configuration.
+     *
+     * @return the scan consistency
+     */
+    ScanConsistency scanConsistency() default ScanConsistency.DEFAULT;
+
+    /**
+     * The query timeout in milliseconds; zero or a negative value uses the Couchbase client default.
+     *
+     * @return the timeout in milliseconds
+     */
+    long timeout() default 0;
+
+    /**
+     * Whether a {@link N1QL} query runs as a prepared statement.
+     */
+    enum Prepared {
+        /**
+         * Uses the {@code jnosql.couchbase.query.prepared} configuration.
+         */
+        DEFAULT,
+        /**
+         * Runs the query as a prepared statement.
+         */
+        TRUE,
+        /**
+         * Runs the query ad hoc.
+         */
+        FALSE
+    }
+
+    /**
+     * The scan consistency of a {@link N1QL} query.
+     */
+    enum ScanConsistency {
+        /**
+         * Uses the {@code jnosql.couchbase.query.scan.consistency} configuration.
+         */
+        DEFAULT(null),
+        /**
+         * {@link QueryScanConsistency#NOT_BOUNDED}.
+         */
+        NOT_BOUNDED(QueryScanConsistency.NOT_BOUNDED),
+        /**
+         * {@link QueryScanConsistency#REQUEST_PLUS}.
+         */
+        REQUEST_PLUS(QueryScanConsistency.REQUEST_PLUS);
+
+        private final QueryScanConsistency value;
+
+        ScanConsistency(QueryScanConsistency value) {
+            this.value = value;
+        }
+
+        QueryScanConsistency value() {
+            return value;
+        }
+    }
 }
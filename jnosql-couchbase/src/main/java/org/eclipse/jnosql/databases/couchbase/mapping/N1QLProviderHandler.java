@@ -15,12 +15,14 @@
 package org.eclipse.jnosql.databases.couchbase.mapping;
 
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.eclipse.jnosql.mapping.ProviderQuery;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryMetadataUtils;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.ProviderQueryHandler;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -38,16 +40,28 @@ class N1QLProviderHandler implements ProviderQueryHandler {
                 .findFirst().orElseThrow();
 
         Map<String, Object> attributes = sampleQueryProvider.attributes();
-        var cql = (String) attributes.get("value");
+        var n1ql = (String) attributes.get("value");
         Map<String, Object> params = RepositoryMetadataUtils.INSTANCE.getParamsFromName(method, parameters);
-        Stream<T> result;
-        if (params.isEmpty()) {
-            result = template.n1qlQuery(cql);
-        } else {
+        QueryOptions options = template.queryOptions();
+        var prepared = (N1QL.Prepared) attributes.getOrDefault("prepared", N1QL.Prepared.DEFAULT);
+        if (prepared != N1QL.Prepared.DEFAULT) {
+            options.adhoc(prepared == N1QL.Prepared.FALSE);
+        }
+        var scanConsistency = (N1QL.ScanConsistency) attributes.getOrDefault("scanConsistency",
+                N1QL.ScanConsistency.DEFAULT);
+        if (scanConsistency != N1QL.ScanConsistency.DEFAULT) {
+            options.scanConsistency(scanConsistency.value());
+        }
+        var timeout = ((Number) attributes.getOrDefault("timeout", 0L)).longValue();
+        if (timeout > 0) {
+            options.timeout(Duration.ofMillis(timeout));
+        }
+        if (!params.isEmpty()) {
             var jsonObject = JsonObject.create();
             params.forEach(jsonObject::put);
-            result = template.n1qlQuery(cql, jsonObject);
+            options.parameters(jsonObject);
         }
+        Stream<T> result = template.n1qlQuery(n1ql, options);
         return RepositoryMetadataUtils.INSTANCE.execute(context, result);
     }
 }
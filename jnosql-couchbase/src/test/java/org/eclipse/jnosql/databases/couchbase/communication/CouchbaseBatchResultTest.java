@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CouchbaseBatchResultTest {
+
+    @Test
+    void shouldSucceedWithoutFailures() {
+        CouchbaseBatchResult result = new CouchbaseBatchResult(List.of("ada"), Map.of());
+        assertSoftly(soft -> {
+            soft.assertThat(result.isSuccess()).isTrue();
+            soft.assertThat(result.succeeded()).containsExactly("ada");
+        });
+        assertThatCode(result::requireSuccess).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldThrowFirstFailureWithOthersSuppressed() {
+        IllegalArgumentException first = new IllegalArgumentException("ada");
+        IllegalStateException second = new IllegalStateException("grace");
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        failures.put("ada", first);
+        failures.put("grace", second);
+        CouchbaseBatchResult result = new CouchbaseBatchResult(List.of(), failures);
+
+        assertThatThrownBy(result::requireSuccess)
+                .isSameAs(first)
+                .satisfies(error -> assertSoftly(soft -> soft.assertThat(error.getSuppressed()).containsExactly(second)));
+    }
+
+    @Test
+    void shouldCreateOptions() {
+        CouchbaseBatchOptions options = CouchbaseBatchOptions.defaults()
+                .withDurability(DurabilityLevel.MAJORITY)
+                .withExpiry(Duration.ofMinutes(1));
+        assertSoftly(soft -> {
+            soft.assertThat(CouchbaseBatchOptions.defaults().durability()).isEqualTo(DurabilityLevel.NONE);
+            soft.assertThat(CouchbaseBatchOptions.defaults().expiry()).isNull();
+            soft.assertThat(options.durability()).isEqualTo(DurabilityLevel.MAJORITY);
+            soft.assertThat(options.expiry()).isEqualTo(Duration.ofMinutes(1));
+        });
+    }
+}
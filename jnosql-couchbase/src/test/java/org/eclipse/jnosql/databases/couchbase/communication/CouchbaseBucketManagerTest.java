@@ -29,6 +29,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -94,6 +95,22 @@ public class CouchbaseBucketManagerTest {
     }
 
 
+    @Test
+    public void shouldPutValuesInBatch() {
+        CouchbaseBucketManager couchbaseManager = (CouchbaseBucketManager) manager;
+        List<KeyValueEntity> entities = asList(KeyValueEntity.of(KEY_OTAVIO, userOtavio),
+                KeyValueEntity.of(KEY_SORO, userSoro));
+
+        CouchbaseBatchResult result = couchbaseManager.put(entities, CouchbaseBatchOptions.defaults());
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.succeeded()).containsExactly(KEY_OTAVIO, KEY_SORO);
+
+        CouchbaseBatchResult removed = couchbaseManager.delete(asList(KEY_OTAVIO, "not_found"),
+                CouchbaseBatchOptions.defaults());
+        assertThat(removed.succeeded()).containsExactly(KEY_OTAVIO);
+        assertThat(removed.failures()).containsOnlyKeys("not_found");
+    }
+
     @Test
     public void shouldPutPrimitivesValues() {
         manager.put("integer", 1);
@@ -180,5 +197,54 @@ public class CouchbaseBucketManagerTest {
         assertThat(StreamSupport.stream(manager.get(keys).spliterator(), false).count()).isEqualTo(0L);
     }
 
+    @Test
+    public void shouldServeRepeatedReadsFromNearCache() {
+        Settings settings = Database.INSTANCE.getSettingsBuilder()
+                .put(CouchbaseConfigurations.NEAR_CACHE_SIZE.get(), "10")
+                .put(CouchbaseConfigurations.NEAR_CACHE_REVALIDATE.get(), "true")
+                .build();
+        var cached = (CouchbaseBucketManager) Database.INSTANCE.getKeyValueConfiguration().apply(settings)
+                .apply(CouchbaseUtil.BUCKET_NAME);
+
+        cached.put(KEY_OTAVIO, userOtavio);
+        assertThat(cached.get(KEY_OTAVIO)).isPresent();
+        assertThat(cached.get(KEY_OTAVIO).map(v -> v.get(User.class))).contains(userOtavio);
+
+        User changed = new User("otavio-santana");
+        manager.put(KEY_OTAVIO, changed);
+        assertThat(cached.get(KEY_OTAVIO).map(v -> v.get(User.class))).contains(changed);
+
+        assertThat(cached.nearCacheStats()).hasValueSatisfying(stats -> {
+            assertThat(stats.hits()).isEqualTo(1L);
+            assertThat(stats.misses()).isEqualTo(2L);
+        });
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldInvalidateNearCacheWithOneShotIterables() {
+        Settings settings = Database.INSTANCE.getSettingsBuilder()
+                .put(CouchbaseConfigurations.NEAR_CACHE_SIZE.get(), "10")
+                .build();
+        var cached = (CouchbaseBucketManager) Database.INSTANCE.getKeyValueConfiguration().apply(settings)
+                .apply(CouchbaseUtil.BUCKET_NAME);
+        cached.put(KEY_OTAVIO, userOtavio);
+        cached.put(KEY_SORO, userSoro);
+        assertThat(cached.get(KEY_OTAVIO)).isPresent();
+        assertThat(cached.get(KEY_SORO)).isPresent();
+
+        User otavio = new User("otavio-santana");
+        User soro = new User("soro-santana");
+        Iterable<KeyValueEntity> entities = Stream.of(KeyValueEntity.of(KEY_OTAVIO, Value.of(otavio)),
+                KeyValueEntity.of(KEY_SORO, Value.of(soro)))::iterator;
+        cached.put(entities, CouchbaseBatchOptions.defaults()).requireSuccess();
+
+        assertThat(cached.get(KEY_OTAVIO).map(v -> v.get(User.class))).contains(otavio);
+        assertThat(cached.get(KEY_SORO).map(v -> v.get(User.class))).contains(soro);
+
+        Iterable<String> keys = Stream.of(KEY_OTAVIO, KEY_SORO)::iterator;
+        cached.delete(keys, CouchbaseBatchOptions.defaults()).requireSuccess();
+
+        assertThat(cached.get(KEY_OTAVIO)).isEmpty();
+        assertThat(cached.get(KEY_SORO)).isEmpty();
+    }
+}
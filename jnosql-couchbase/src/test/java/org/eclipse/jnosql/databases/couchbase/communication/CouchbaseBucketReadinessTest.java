@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.core.error.RequestCanceledException;
+import com.couchbase.client.java.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CouchbaseBucketReadinessTest {
+
+    private Bucket bucket;
+
+    private CouchbaseBucketReadiness readiness;
+
+    @BeforeEach
+    void setUp() {
+        this.bucket = mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        this.readiness = new CouchbaseBucketReadiness(bucket);
+    }
+
+    @Test
+    void shouldWaitOnlyOnFirstOperation() {
+        assertThat(readiness.isReady()).isFalse();
+        assertThat(readiness.get(() -> "one")).isEqualTo("one");
+        readiness.run(() -> { });
+        assertThat(readiness.get(() -> "two")).isEqualTo("two");
+
+        assertThat(readiness.isReady()).isTrue();
+        verify(bucket, times(1)).waitUntilReady(any());
+    }
+
+    @Test
+    void shouldCheckAgainAfterConnectionError() {
+        readiness.get(() -> "one");
+        RequestCanceledException exception = mock(RequestCanceledException.class);
+
+        assertThatThrownBy(() -> readiness.get(() -> {
+            throw exception;
+        })).isSameAs(exception);
+        assertThat(readiness.isReady()).isFalse();
+
+        readiness.get(() -> "two");
+        verify(bucket, times(2)).waitUntilReady(any());
+    }
+
+    @Test
+    void shouldCheckAgainAfterConnectionErrorWhileRowsAreRead() {
+        readiness.get(() -> "one");
+        RequestCanceledException exception = mock(RequestCanceledException.class);
+        var rows = readiness.watch(Flux.concat(Flux.just("row"), Flux.<String>error(exception)));
+
+        assertThatThrownBy(() -> rows.toStream().toList()).isSameAs(exception);
+        assertThat(readiness.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldKeepReadyAfterApplicationErrorWhileRowsAreRead() {
+        readiness.get(() -> "one");
+        var rows = readiness.watch(Flux.<String>error(mock(DocumentNotFoundException.class)));
+
+        assertThatThrownBy(() -> rows.toStream().toList()).isInstanceOf(DocumentNotFoundException.class);
+        assertThat(readiness.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldKeepReadyAfterApplicationError() {
+        readiness.get(() -> "one");
+        DocumentNotFoundException exception = mock(DocumentNotFoundException.class);
+
+        assertThatThrownBy(() -> readiness.get(() -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        assertThat(readiness.isReady()).isTrue();
+        verify(bucket, times(1)).waitUntilReady(any());
+    }
+}
@@ -14,10 +14,15 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import com.couchbase.client.java.query.QueryScanConsistency;
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 
 
@@ -46,4 +51,90 @@ public class CouchbaseDocumentConfigurationTest {
         assertThat(configuration instanceof CouchbaseDocumentConfiguration).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUseDefaultKvConcurrency() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder().build());
+        assertThat(configuration.toCouchbaseSettings().getKvConcurrency())
+                .isEqualTo(CouchbaseSettings.DEFAULT_KV_CONCURRENCY);
+    }
+
+    @Test
+    public void shouldReadKvConcurrency() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder().put(CouchbaseConfigurations.KV_CONCURRENCY.get(), "16").build());
+        assertThat(configuration.toCouchbaseSettings().getKvConcurrency()).isEqualTo(16);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveKvConcurrency() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        assertThatThrownBy(() -> configuration.setKvConcurrency(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveKvConcurrencySetting() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        Settings settings = Settings.builder().put(CouchbaseConfigurations.KV_CONCURRENCY.get(), "0").build();
+        assertThatThrownBy(() -> configuration.update(settings))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldReadQuerySettings() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.QUERY_PREPARED.get(), "false")
+                .put(CouchbaseConfigurations.QUERY_SCAN_CONSISTENCY.get(), "request_plus")
+                .put(CouchbaseConfigurations.QUERY_TIMEOUT.get(), "1500")
+                .build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+        assertThat(settings.isQueryPrepared()).isFalse();
+        assertThat(settings.getQueryScanConsistency()).contains(QueryScanConsistency.REQUEST_PLUS);
+        assertThat(settings.getQueryTimeout()).contains(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void shouldPrepareQueriesByDefault() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder().build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+        assertThat(settings.isQueryPrepared()).isTrue();
+        assertThat(settings.getQueryScanConsistency()).isEmpty();
+        assertThat(settings.getQueryTimeout()).isEmpty();
+    }
+
+    @Test
+    public void shouldReadNearCacheSettings() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.NEAR_CACHE_SIZE.get(), "1000")
+                .put(CouchbaseConfigurations.NEAR_CACHE_TTL.get(), "5000")
+                .put(CouchbaseConfigurations.NEAR_CACHE_REVALIDATE.get(), "true")
+                .build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+        assertThat(settings.getNearCacheSize()).isEqualTo(1000);
+        assertThat(settings.getNearCacheTtl()).isEqualTo(Duration.ofMillis(5000));
+        assertThat(settings.isNearCacheRevalidate()).isTrue();
+    }
+
+    @Test
+    public void shouldDisableNearCacheByDefault() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder().build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+        assertThat(settings.getNearCacheSize()).isZero();
+        assertThat(settings.getNearCacheTtl())
+                .isEqualTo(Duration.ofMillis(CouchbaseSettings.DEFAULT_NEAR_CACHE_TTL_MILLIS));
+        assertThat(settings.isNearCacheRevalidate()).isFalse();
+    }
+
+    @Test
+    public void shouldRejectNegativeNearCacheSize() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        assertThatThrownBy(() -> configuration.setNearCacheSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
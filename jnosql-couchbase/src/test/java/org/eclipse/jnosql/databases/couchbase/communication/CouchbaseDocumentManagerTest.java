@@ -33,6 +33,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import reactor.adapter.JdkFlowAdapter;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -121,6 +122,23 @@ public class CouchbaseDocumentManagerTest {
         assertThat(updated.find("newField").get()).isEqualTo(newField);
     }
 
+    @Test
+    void shouldInsertInBatch() {
+        CommunicationEntity entity = getEntity();
+        entityManager.insert(entity);
+
+        CommunicationEntity other = CommunicationEntity.of(COLLECTION_PERSON_NAME);
+        other.add("_id", "id2");
+        other.add("name", "Ada");
+        CommunicationEntity duplicated = getEntity();
+
+        CouchbaseBatchResult result = entityManager.insert(List.of(other, duplicated), CouchbaseBatchOptions.defaults());
+        assertSoftly(soft -> {
+            soft.assertThat(result.succeeded()).containsExactly("id2");
+            soft.assertThat(result.failures()).containsOnlyKeys("id");
+        });
+    }
+
     @Test
     void shouldUpdateQuery() {
         List<CommunicationEntity> persistedEntities =
@@ -186,6 +204,17 @@ public class CouchbaseDocumentManagerTest {
         assertThat(entityManager.select(query).findAny().isEmpty()).isTrue();
     }
 
+    @Test
+    void shouldRemoveEntityById() {
+        CommunicationEntity documentEntity = entityManager.insert(getEntity());
+        Element id = documentEntity.find("_id").get();
+        SelectQuery query = select().from(COLLECTION_PERSON_NAME).where(id.name()).eq(id.get()).build();
+        DeleteQuery deleteQuery = delete().from(COLLECTION_PERSON_NAME)
+                .where(id.name()).in(List.of(id.get(), "not_found")).build();
+        entityManager.delete(deleteQuery);
+        assertThat(entityManager.select(query).findAny()).isEmpty();
+    }
+
     @Test
     void shouldSaveSubDocument() {
         CommunicationEntity entity = getEntity();
@@ -327,6 +356,18 @@ public class CouchbaseDocumentManagerTest {
         );
     }
 
+    @Test
+    void shouldPublishN1QlParameters() {
+        CommunicationEntity entity = getEntity();
+        entityManager.insert(entity);
+
+        JsonObject params = JsonObject.create().put("name", entity.find("name", String.class).orElse(null));
+
+        await().until(() -> !JdkFlowAdapter.flowPublisherToFlux(entityManager
+                        .n1qlPublisher("select * from `jnosql`._default.person where name = $name", params))
+                .collectList().block().isEmpty());
+    }
+
     @Test
     void shouldCreateLimitOrderQuery() {
         CommunicationEntity entity = getEntity();
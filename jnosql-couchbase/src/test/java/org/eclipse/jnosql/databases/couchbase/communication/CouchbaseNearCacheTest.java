@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.kv.GetResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.mock;
+
+class CouchbaseNearCacheTest {
+
+    private AtomicLong clock;
+
+    private CouchbaseNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new AtomicLong();
+        this.cache = new CouchbaseNearCache(2, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    void shouldReturnCachedValue() {
+        CouchbaseValue value = value();
+        cache.put("otavio", value, cache.stamp());
+        assertThat(cache.get("otavio")).containsSame(value);
+        assertThat(cache.get("poliana")).isEmpty();
+    }
+
+    @Test
+    void shouldExpireValue() {
+        cache.put("otavio", value(), cache.stamp());
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.get("otavio")).isEmpty();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        cache.put("otavio", value(), cache.stamp());
+        cache.put("poliana", value(), cache.stamp());
+        cache.get("otavio");
+        cache.put("ada", value(), cache.stamp());
+
+        assertSoftly(softly -> {
+            softly.assertThat(cache.get("otavio")).isPresent();
+            softly.assertThat(cache.get("poliana")).isEmpty();
+            softly.assertThat(cache.get("ada")).isPresent();
+            softly.assertThat(cache.stats().evictions()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldInvalidate() {
+        cache.put("otavio", value(), cache.stamp());
+        cache.put("poliana", value(), cache.stamp());
+        cache.invalidate("otavio");
+        assertThat(cache.get("otavio")).isEmpty();
+        cache.invalidate(List.of("poliana"));
+        assertThat(cache.get("poliana")).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheValueReadBeforeInvalidation() {
+        long stamp = cache.stamp();
+        cache.invalidate("otavio");
+        cache.put("otavio", value(), stamp);
+        assertThat(cache.get("otavio")).isEmpty();
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        cache.hit();
+        cache.hit();
+        cache.hit();
+        cache.miss();
+        CouchbaseNearCacheStats stats = cache.stats();
+        assertSoftly(softly -> {
+            softly.assertThat(stats.hits()).isEqualTo(3L);
+            softly.assertThat(stats.misses()).isEqualTo(1L);
+            softly.assertThat(stats.hitRatio()).isEqualTo(0.75D);
+        });
+    }
+
+    private static CouchbaseValue value() {
+        return new CouchbaseValue(mock(GetResult.class));
+    }
+}
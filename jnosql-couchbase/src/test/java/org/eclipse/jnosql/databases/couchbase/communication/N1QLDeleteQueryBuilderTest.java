@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+
+class N1QLDeleteQueryBuilderTest {
+
+    @Test
+    void shouldDeleteAll() {
+        DeleteQuery query = delete().from("person").build();
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(n1ql.query()).isEqualTo("DELETE FROM jnosql._default.person AS d");
+            soft.assertThat(n1ql.isParameterEmpty()).isTrue();
+            soft.assertThat(n1ql.hasIds()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldDeleteWhere() {
+        DeleteQuery query = delete().from("person").where("age").gt(10).and("_id").eq("ada").build();
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(n1ql.query())
+                    .isEqualTo("DELETE FROM jnosql._default.person AS d WHERE  d.age > $age_0 AND d._id = $_id_1");
+            soft.assertThat(n1ql.params().getNames()).hasSize(2);
+            soft.assertThat(n1ql.hasIds()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldFindKeysOfIdCondition() {
+        assertSoftly(soft -> {
+            soft.assertThat(N1QLConditions.keysOf(CriteriaCondition.eq(Element.of("_id", "ada"))))
+                    .containsExactly("ada");
+            soft.assertThat(N1QLConditions.keysOf(CriteriaCondition.in(Element.of("_id", List.of("ada", "grace")))))
+                    .containsExactly("ada", "grace");
+            soft.assertThat(N1QLConditions.keysOf(CriteriaCondition.eq(Element.of("name", "ada"))))
+                    .isEmpty();
+            soft.assertThat(N1QLConditions.keysOf(CriteriaCondition.eq(Element.of("_id", "ada"))
+                    .and(CriteriaCondition.eq(Element.of("name", "ada"))))).isEmpty();
+        });
+    }
+}
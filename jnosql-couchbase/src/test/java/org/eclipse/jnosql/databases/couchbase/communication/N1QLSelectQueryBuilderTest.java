@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class N1QLSelectQueryBuilderTest {
+
+    @Test
+    void shouldBindValuesAndPagination() {
+        SelectQuery query = select().from("person").where("name").eq("Ada")
+                .and("age").between(10, 20).skip(10).limit(5).build();
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(n1ql.query()).isEqualTo("select * from jnosql._default.person WHERE "
+                    + "  name  = $name_0 AND  age BETWEEN $age_1 AND $age_2 LIMIT $limit OFFSET $offset");
+            soft.assertThat(n1ql.params().getString("$name_0")).isEqualTo("Ada");
+            soft.assertThat(n1ql.params().getLong("$limit")).isEqualTo(5L);
+            soft.assertThat(n1ql.params().getLong("$offset")).isEqualTo(10L);
+        });
+    }
+
+    @Test
+    void shouldKeepSameQueryTextAcrossValuesAndPages() {
+        SelectQuery first = select().from("person").where("name").eq("Ada").skip(0).limit(10).build();
+        SelectQuery second = select().from("person").where("name").eq("Grace").skip(10).limit(10).build();
+        N1QLQuery firstN1ql = N1QLBuilder.of(first, "jnosql", "_default").get();
+        N1QLQuery secondN1ql = N1QLBuilder.of(second, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(firstN1ql.query())
+                    .isEqualTo("select * from jnosql._default.person WHERE  name  = $name_0 LIMIT $limit");
+            soft.assertThat(secondN1ql.query()).isEqualTo(firstN1ql.query() + " OFFSET $offset");
+        });
+    }
+
+    @Test
+    void shouldUseValidParameterNameForNestedField() {
+        SelectQuery query = select().from("person").where("address.city").eq("Salvador").build();
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(n1ql.query()).endsWith(" address.city  = $address_city_0");
+            soft.assertThat(n1ql.params().getString("$address_city_0")).isEqualTo("Salvador");
+        });
+    }
+
+    @Test
+    void shouldNotPaginateIdOnlyQuery() {
+        SelectQuery query = select().from("person").where("_id").eq("ada").limit(1).build();
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertSoftly(soft -> {
+            soft.assertThat(n1ql.hasOnlyIds()).isTrue();
+            soft.assertThat(n1ql.ids()).containsExactly("ada");
+        });
+    }
+}
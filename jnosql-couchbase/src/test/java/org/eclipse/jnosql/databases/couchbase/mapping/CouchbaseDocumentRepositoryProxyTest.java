@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.databases.couchbase.mapping;
 
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
@@ -64,6 +66,8 @@ public class CouchbaseDocumentRepositoryProxyTest {
         when(template.insert(any(Human.class))).thenReturn(new Human());
         when(template.insert(any(Human.class), any(Duration.class))).thenReturn(new Human());
         when(template.update(any(Human.class))).thenReturn(new Human());
+        when(template.queryOptions()).thenAnswer(invocation -> QueryOptions.queryOptions().adhoc(false)
+                .scanConsistency(QueryScanConsistency.NOT_BOUNDED));
         humanRepository = producer.get(HumanRepository.class, template);
 
     }
@@ -71,19 +75,51 @@ public class CouchbaseDocumentRepositoryProxyTest {
 
     @Test
     public void shouldFindAll() {
+        ArgumentCaptor<QueryOptions> captor = ArgumentCaptor.forClass(QueryOptions.class);
         humanRepository.findAllQuery();
-        verify(template).n1qlQuery("select * from Person");
+        verify(template).n1qlQuery(Mockito.eq("select * from Person"), captor.capture());
+
+        assertThat(captor.getValue().build().adhoc()).isFalse();
     }
 
     @Test
     public void shouldFindByNameN1ql() {
-        ArgumentCaptor<JsonObject> captor = ArgumentCaptor.forClass(JsonObject.class);
+        ArgumentCaptor<QueryOptions> captor = ArgumentCaptor.forClass(QueryOptions.class);
+        humanRepository.findByName("Ada");
+        verify(template).n1qlQuery(Mockito.eq("select * from Person where name = $name"), captor.capture());
+
+        JsonObject value = JsonObject.create();
+        captor.getValue().build().injectParams(value);
+
+        assertThat(value.getString("$name")).isEqualTo("Ada");
+    }
+
+    @Test
+    public void shouldUseConfiguredOptionsByDefault() {
+        ArgumentCaptor<QueryOptions> captor = ArgumentCaptor.forClass(QueryOptions.class);
         humanRepository.findByName("Ada");
         verify(template).n1qlQuery(Mockito.eq("select * from Person where name = $name"), captor.capture());
 
-        JsonObject value = captor.getValue();
+        QueryOptions.Built options = captor.getValue().build();
+        JsonObject json = JsonObject.create();
+        options.injectParams(json);
+        assertThat(options.adhoc()).isFalse();
+        assertThat(json.getString("scan_consistency")).isEqualTo("not_bounded");
+        assertThat(options.timeout()).isEmpty();
+    }
+
+    @Test
+    public void shouldUseN1qlMethodOptions() {
+        ArgumentCaptor<QueryOptions> captor = ArgumentCaptor.forClass(QueryOptions.class);
+        humanRepository.findByNameConsistent("Ada");
+        verify(template).n1qlQuery(Mockito.eq("select * from Person where name = $name"), captor.capture());
 
-        assertThat(value.getString("name")).isEqualTo("Ada");
+        QueryOptions.Built options = captor.getValue().build();
+        JsonObject json = JsonObject.create();
+        options.injectParams(json);
+        assertThat(options.adhoc()).isTrue();
+        assertThat(json.getString("scan_consistency")).isEqualTo("request_plus");
+        assertThat(options.timeout()).contains(Duration.ofMillis(500));
     }
 
     @Test
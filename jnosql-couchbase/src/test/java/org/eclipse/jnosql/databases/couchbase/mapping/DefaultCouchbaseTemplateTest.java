@@ -35,7 +35,12 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
 
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 
@@ -92,4 +97,22 @@ public class DefaultCouchbaseTemplateTest {
         Mockito.verify(manager).n1qlQuery("select * from Person where name = $name");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldPublishN1ql() {
+        JsonObject params = JsonObject.create().put("name", "Ada");
+        when(manager.n1qlPublisher("select * from Person where name = $name", params))
+                .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.empty()));
+        Flow.Publisher<Object> publisher = template.n1qlPublisher("select * from Person where name = $name", params);
+        assertThat(JdkFlowAdapter.flowPublisherToFlux(publisher).collectList().block()).isEmpty();
+        Mockito.verify(manager).n1qlPublisher("select * from Person where name = $name", params);
+    }
+
+    @Test
+    public void shouldPublishN1ql2() {
+        when(manager.n1qlPublisher("select * from Person"))
+                .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.empty()));
+        template.n1qlPublisher("select * from Person");
+        Mockito.verify(manager).n1qlPublisher("select * from Person");
+    }
+
+}
@@ -28,4 +28,8 @@ public interface HumanRepository extends CouchbaseRepository<Human, String> {
 
     @N1QL("select * from Person where name = $name")
     List<Human> findByName(@Param("name") String name);
+
+    @N1QL(value = "select * from Person where name = $name", prepared = N1QL.Prepared.FALSE,
+            scanConsistency = N1QL.ScanConsistency.REQUEST_PLUS, timeout = 500)
+    List<Human> findByNameConsistent(@Param("name") String name);
 }
@@ -0,0 +1,275 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+
+/**
+ * Reads the {@code _changes} feed lazily and saves the consumer checkpoint as the changes are processed.
+ * A change counts as processed once the next one is requested, or when the feed ended; closing the stream early saves
+ * the last processed change, never the one the consumer is still working on.
+ */
+final class ChangesSpliterator extends Spliterators.AbstractSpliterator<CouchDBChange> {
+
+    private final Source source;
+
+    private final Function<Map<String, Object>, CouchDBChange> converter;
+
+    private final CouchDBCheckpointStore checkpointStore;
+
+    private final String consumer;
+
+    private final int batchSize;
+
+    private String current;
+
+    private String processed;
+
+    private int unsaved;
+
+    private boolean finished;
+
+    ChangesSpliterator(Source source, Function<Map<String, Object>, CouchDBChange> converter,
+                       CouchDBChangesOptions options) {
+        super(Long.MAX_VALUE, ORDERED | NONNULL);
+        this.source = source;
+        this.converter = converter;
+        this.checkpointStore = options.checkpointStore();
+        this.consumer = options.consumer();
+        this.batchSize = options.batchSize();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CouchDBChange> action) {
+        if (finished) {
+            return false;
+        }
+        acknowledge();
+        Map<String, Object> json;
+        try {
+            json = source.next();
+        } catch (RuntimeException exception) {
+            close();
+            throw exception instanceof CouchDBHttpClientException ? exception
+                    : new CouchDBHttpClientException("An error reading the changes feed", exception);
+        }
+        if (json == null) {
+            if (source.lastSequence() != null) {
+                processed = source.lastSequence();
+                unsaved++;
+            }
+            close();
+            return false;
+        }
+        CouchDBChange change = converter.apply(json);
+        current = change.sequence();
+        action.accept(change);
+        return true;
+    }
+
+    void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try (source) {
+            checkpoint();
+        } catch (IOException exception) {
+            throw new CouchDBHttpClientException("An error when closing the changes feed", exception);
+        }
+    }
+
+    private void acknowledge() {
+        if (current == null) {
+            return;
+        }
+        processed = current;
+        current = null;
+        if (++unsaved >= batchSize) {
+            checkpoint();
+        }
+    }
+
+    private void checkpoint() {
+        if (checkpointStore != null && processed != null && unsaved > 0) {
+            checkpointStore.save(consumer, processed);
+            unsaved = 0;
+        }
+    }
+
+    /**
+     * Where the change rows come from.
+     */
+    interface Source extends Closeable {
+
+        /**
+         * Returns the next change row or null when the feed ended.
+         */
+        Map<String, Object> next();
+
+        /**
+         * Returns the sequence CouchDB reported when the feed ended, or null.
+         */
+        String lastSequence();
+    }
+
+    /**
+     * Requests the changes in batches with the normal or longpoll feed, each request starting from the last
+     * sequence of the previous one. An endless source keeps requesting when a batch is empty.
+     */
+    static final class PollingSource implements Source {
+
+        private final Function<String, Map<String, Object>> fetch;
+
+        private final boolean endless;
+
+        private final int batchSize;
+
+        private final Deque<Map<String, Object>> buffer = new ArrayDeque<>();
+
+        private String since;
+
+        private boolean ended;
+
+        PollingSource(Function<String, Map<String, Object>> fetch, String since, boolean endless, int batchSize) {
+            this.fetch = fetch;
+            this.since = since;
+            this.endless = endless;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> next() {
+            while (buffer.isEmpty()) {
+                if (ended) {
+                    return null;
+                }
+                Map<String, Object> page = fetch.apply(since);
+                List<Map<String, Object>> results = (List<Map<String, Object>>)
+                        page.getOrDefault(CouchDBConstant.RESULTS_RESPONSE, emptyList());
+                since = Objects.toString(page.get(CouchDBConstant.LAST_SEQ_RESPONSE), since);
+                buffer.addAll(results);
+                if (!endless) {
+                    Object pending = page.get(CouchDBConstant.PENDING_RESPONSE);
+                    ended = results.isEmpty() || (pending == null ? results.size() < batchSize
+                            : Long.parseLong(pending.toString()) == 0L);
+                }
+            }
+            return buffer.poll();
+        }
+
+        @Override
+        public String lastSequence() {
+            return ended ? since : null;
+        }
+
+        @Override
+        public void close() {
+            buffer.clear();
+            ended = true;
+        }
+    }
+
+    /**
+     * Reads the rows of a continuous feed, one JSON object per line, skipping the heartbeat blank lines. Closing the
+     * body of a chunked response reads it to its end, which a continuous feed never reaches, so closing the source
+     * before the feed ended cancels the request first.
+     */
+    static final class ContinuousSource implements Source {
+
+        private final Closeable response;
+
+        private final BufferedReader reader;
+
+        private final Runnable cancel;
+
+        private String lastSequence;
+
+        private boolean ended;
+
+        ContinuousSource(Closeable response, InputStream content, Runnable cancel) {
+            this.response = response;
+            this.reader = new BufferedReader(new InputStreamReader(content, UTF_8));
+            this.cancel = cancel;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Map<String, Object> json;
+                    try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                        json = MangoResultSpliterator.toMap(jsonReader.readObject());
+                    }
+                    if (json.containsKey(CouchDBConstant.LAST_SEQ_RESPONSE)) {
+                        lastSequence = Objects.toString(json.get(CouchDBConstant.LAST_SEQ_RESPONSE), null);
+                        ended = true;
+                        return null;
+                    }
+                    return json;
+                }
+                ended = true;
+                return null;
+            } catch (IOException exception) {
+                throw new CouchDBHttpClientException("An error reading the changes feed", exception);
+            }
+        }
+
+        @Override
+        public String lastSequence() {
+            return lastSequence;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (ended) {
+                try (response) {
+                    reader.close();
+                }
+                return;
+            }
+            cancel.run();
+            try {
+                response.close();
+            } catch (IOException exception) {
+                // the connection was aborted by the cancel, so the rest of the body cannot be read
+            }
+        }
+    }
+}
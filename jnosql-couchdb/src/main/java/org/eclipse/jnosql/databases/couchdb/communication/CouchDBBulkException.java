@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.List;
+
+/**
+ * Thrown by the batch insert, the batch update and the delete by query of {@link CouchDBDocumentManager} when
+ * CouchDB rejected some documents. {@code _bulk_docs} is not atomic, so every document not listed in
+ * {@link #failures()} was written.
+ */
+public class CouchDBBulkException extends CouchDBHttpClientException {
+
+    private final transient List<CouchDBBulkFailure> failures;
+
+    CouchDBBulkException(List<CouchDBBulkFailure> failures) {
+        super("CouchDB rejected " + failures.size() + " document(s) in a bulk request: " + failures);
+        this.failures = List.copyOf(failures);
+    }
+
+    /**
+     * Returns the rejected documents, in the order they were sent.
+     *
+     * @return the rejected documents
+     */
+    public List<CouchDBBulkFailure> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the rejected documents that had a newer revision at the database.
+     *
+     * @return the conflicts
+     */
+    public List<CouchDBBulkFailure> conflicts() {
+        return failures.stream().filter(CouchDBBulkFailure::isConflict).toList();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A document that CouchDB rejected in a {@code _bulk_docs} request, while the other documents of the same request
+ * were written.
+ *
+ * @param id     the document id
+ * @param error  the CouchDB error, such as {@code conflict} or {@code not_found}
+ * @param reason the CouchDB explanation of the error
+ */
+public record CouchDBBulkFailure(String id, String error, String reason) {
+
+    /**
+     * Whether the document has a newer revision than the one sent.
+     *
+     * @return true when the error is {@code conflict}
+     */
+    public boolean isConflict() {
+        return CouchDBConstant.CONFLICT.equals(error);
+    }
+
+    static CouchDBBulkFailure of(Map<String, Object> json) {
+        return new CouchDBBulkFailure(Objects.toString(json.get(CouchDBConstant.ID_RESPONSE), null),
+                Objects.toString(json.get(CouchDBConstant.ERROR_RESPONSE), null),
+                Objects.toString(json.get(CouchDBConstant.REASON_RESPONSE), null));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A single row of the CouchDB {@code _changes} feed.
+ *
+ * @param sequence the update sequence of the change, to resume the feed from
+ * @param id       the document id
+ * @param revision the document revision after the change
+ * @param deleted  whether the change deleted the document
+ * @param entity   the changed document, present when {@link CouchDBChangesOptions#includeDocs()} is set and the
+ *                 document was written through JNoSQL and not deleted
+ */
+public record CouchDBChange(String sequence, String id, String revision, boolean deleted,
+                            Optional<CommunicationEntity> entity) {
+
+    @SuppressWarnings("unchecked")
+    static CouchDBChange of(Map<String, Object> json, Function<Map<String, Object>, CommunicationEntity> toEntity) {
+        String revision = null;
+        if (json.get(CouchDBConstant.CHANGES_RESPONSE) instanceof List<?> changes && !changes.isEmpty()
+                && changes.get(0) instanceof Map<?, ?> change) {
+            revision = Objects.toString(change.get(CouchDBConstant.REV_RESPONSE), null);
+        }
+        Optional<CommunicationEntity> entity = Optional.empty();
+        if (json.get(CouchDBConstant.DOC_RESPONSE) instanceof Map<?, ?> document
+                && document.containsKey(CouchDBConstant.ENTITY)) {
+            entity = Optional.of(toEntity.apply((Map<String, Object>) document));
+        }
+        return new CouchDBChange(Objects.toString(json.get(CouchDBConstant.SEQ_RESPONSE), null),
+                Objects.toString(json.get(CouchDBConstant.ID_RESPONSE), null), revision,
+                Boolean.TRUE.equals(json.get(CouchDBConstant.DELETED_RESPONSE)), entity);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+/**
+ * The ways to read the CouchDB {@code _changes} feed through {@link CouchDBDocumentManager#changes(CouchDBChangesOptions)}.
+ */
+public enum CouchDBChangesFeed {
+
+    /**
+     * Reads the changes made so far, in batches, and ends.
+     */
+    NORMAL("normal"),
+    /**
+     * Reads the changes in batches, each request waiting until there is a new change; it never ends.
+     */
+    LONGPOLL("longpoll"),
+    /**
+     * Keeps a single request open and reads each change as soon as it happens; it ends only when the
+     * {@link CouchDBChangesOptions#timeout()} passes without a change.
+     */
+    CONTINUOUS("continuous");
+
+    private final String value;
+
+    CouchDBChangesFeed(String value) {
+        this.value = value;
+    }
+
+    String value() {
+        return value;
+    }
+}
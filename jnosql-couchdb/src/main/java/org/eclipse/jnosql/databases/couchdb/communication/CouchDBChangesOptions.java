@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How {@link CouchDBDocumentManager#changes(CouchDBChangesOptions)} reads the {@code _changes} feed.
+ * <pre>{@code
+ * CouchDBChangesOptions options = CouchDBChangesOptions.since("now")
+ *         .withFeed(CouchDBChangesFeed.LONGPOLL)
+ *         .withCollection("Person")
+ *         .withCheckpoint(manager.checkpointStore(), "person-read-model");
+ * }</pre>
+ *
+ * @param since           the sequence to start from: {@code 0} for every change, {@code now} for the new ones only,
+ *                        or a sequence returned by a previous {@link CouchDBChange}
+ * @param feed            how the feed is read
+ * @param includeDocs     whether each change brings its document
+ * @param batchSize       the maximum number of changes per request, and how many processed changes go between two
+ *                        checkpoints
+ * @param timeout         how long CouchDB waits for a change before it ends a longpoll or continuous request, null
+ *                        for the CouchDB default
+ * @param filter          a design document filter, such as {@code ddoc/name}, or null
+ * @param collection      the entity name the changes are restricted to, or null for every document
+ * @param checkpointStore where the last processed sequence is kept, or null to not checkpoint
+ * @param consumer        the name the sequence is kept under in the checkpoint store
+ */
+public record CouchDBChangesOptions(String since, CouchDBChangesFeed feed, boolean includeDocs, int batchSize,
+                                    Duration timeout, String filter, String collection,
+                                    CouchDBCheckpointStore checkpointStore, String consumer) {
+
+    /**
+     * The default {@link #batchSize()}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    public CouchDBChangesOptions {
+        Objects.requireNonNull(since, "since is required");
+        Objects.requireNonNull(feed, "feed is required");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (filter != null && collection != null) {
+            throw new IllegalArgumentException("filter and collection cannot be used together");
+        }
+        if (checkpointStore != null) {
+            Objects.requireNonNull(consumer, "consumer is required");
+        }
+    }
+
+    /**
+     * Returns the options to read, with its documents, the changes after the sequence in batches of
+     * {@value #DEFAULT_BATCH_SIZE}, then stop.
+     *
+     * @param since the sequence to start from
+     * @return the options
+     * @throws NullPointerException when since is null
+     */
+    public static CouchDBChangesOptions since(String since) {
+        return new CouchDBChangesOptions(since, CouchDBChangesFeed.NORMAL, true, DEFAULT_BATCH_SIZE,
+                null, null, null, null, null);
+    }
+
+    /**
+     * Returns a copy of these options with the given feed.
+     *
+     * @param feed how the feed is read
+     * @return the new options
+     */
+    public CouchDBChangesOptions withFeed(CouchDBChangesFeed feed) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Returns a copy of these options with the given includeDocs.
+     *
+     * @param includeDocs whether each change brings its document
+     * @return the new options
+     */
+    public CouchDBChangesOptions withIncludeDocs(boolean includeDocs) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Returns a copy of these options with the given batchSize.
+     *
+     * @param batchSize the maximum number of changes per request
+     * @return the new options
+     */
+    public CouchDBChangesOptions withBatchSize(int batchSize) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Returns a copy of these options with the given timeout.
+     *
+     * @param timeout how long CouchDB waits for a change, or null for the CouchDB default
+     * @return the new options
+     */
+    public CouchDBChangesOptions withTimeout(Duration timeout) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Returns a copy of these options with the given filter.
+     *
+     * @param filter the design document filter, such as {@code ddoc/name}
+     * @return the new options
+     */
+    public CouchDBChangesOptions withFilter(String filter) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Returns a copy of these options with the given collection.
+     *
+     * @param collection the entity name the changes are restricted to
+     * @return the new options
+     */
+    public CouchDBChangesOptions withCollection(String collection) {
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+
+    /**
+     * Resumes from the sequence the consumer saved in the store, falling back to {@link #since()}, and saves the
+     * sequence as the changes are processed. A change counts as processed once the next one is requested or the
+     * stream is fully read.
+     *
+     * @param checkpointStore the store
+     * @param consumer        the consumer name
+     * @return the options
+     * @throws NullPointerException when there is a null parameter
+     */
+    public CouchDBChangesOptions withCheckpoint(CouchDBCheckpointStore checkpointStore, String consumer) {
+        Objects.requireNonNull(checkpointStore, "checkpointStore is required");
+        Objects.requireNonNull(consumer, "consumer is required");
+        return new CouchDBChangesOptions(since, feed, includeDocs, batchSize, timeout, filter, collection,
+                checkpointStore, consumer);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.Optional;
+
+/**
+ * Keeps the last processed sequence of each {@code _changes} consumer, so a consumer resumes the feed where it
+ * stopped instead of reading it from the start.
+ *
+ * @see CouchDBChangesOptions#withCheckpoint(CouchDBCheckpointStore, String)
+ * @see CouchDBDocumentManager#checkpointStore()
+ */
+public interface CouchDBCheckpointStore {
+
+    /**
+     * Returns the last sequence saved for the consumer.
+     *
+     * @param consumer the consumer name
+     * @return the sequence or {@link Optional#empty()} when the consumer never saved one
+     */
+    Optional<String> load(String consumer);
+
+    /**
+     * Saves the last sequence the consumer processed.
+     *
+     * @param consumer the consumer name
+     * @param sequence the sequence
+     */
+    void save(String consumer, String sequence);
+
+    /**
+     * Returns a store that keeps the sequences in memory, so they are lost when the application stops.
+     *
+     * @return a new in-memory store
+     */
+    static CouchDBCheckpointStore inMemory() {
+        return new InMemoryCheckpointStore();
+    }
+}
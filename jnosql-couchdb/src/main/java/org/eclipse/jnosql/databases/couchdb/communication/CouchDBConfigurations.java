@@ -81,7 +81,28 @@ public enum  CouchDBConfigurations implements Supplier<String> {
     /**
      * Determines whether compressed entities should be decompressed automatically.
      */
-    COMPRESSION("jnosql.couchdb.compression");
+    COMPRESSION("jnosql.couchdb.compression"),
+    /**
+     * The maximum number of documents sent in a single {@code _bulk_docs} request by the batch insert, update and
+     * the delete by query. The default value is "500".
+     */
+    BULK_SIZE("jnosql.couchdb.bulk.size"),
+    /**
+     * The number of documents requested per page when a query is read through the Mango bookmarks.
+     * The default value is "200".
+     */
+    PAGE_SIZE("jnosql.couchdb.page.size"),
+    /**
+     * The Mango indexes created, when missing, as the database is opened, split by a semicolon and each declared as
+     * {@code Entity:field1,field2}, such as {@code Person:name,age;Book:title}. The queries on those fields use them.
+     */
+    INDEXES("jnosql.couchdb.indexes"),
+    /**
+     * The number of document revisions that each manager keeps, per database, so an update of an entity without
+     * {@code _rev} does not read the document first. A stale revision is read again on conflict.
+     * By default, it is zero, which disables the cache.
+     */
+    REVISION_CACHE_SIZE("jnosql.couchdb.revision.cache.size");
 
     private final String configuration;
 
@@ -29,6 +29,35 @@ final class CouchDBConstant {
     static final String REV_HEADER = "If-Match";
     static final String FIND = "/_find";
     static final String DOCS_RESPONSE = "docs";
+    static final String BULK_DOCS = "/_bulk_docs";
+    static final String ALL_DOCS = "/_all_docs";
+    static final String KEYS = "keys";
+    static final String ROWS_RESPONSE = "rows";
+    static final String VALUE_RESPONSE = "value";
+    static final String KEY_RESPONSE = "key";
+    static final String ERROR_RESPONSE = "error";
+    static final String REASON_RESPONSE = "reason";
+    static final String DELETED = "_deleted";
+    static final String DELETED_RESPONSE = "deleted";
+    static final String NOT_FOUND = "not_found";
+    static final String CONFLICT = "conflict";
+    static final String CHANGES = "/_changes";
+    static final String LOCAL = "/_local/";
+    static final String RESULTS_RESPONSE = "results";
+    static final String LAST_SEQ_RESPONSE = "last_seq";
+    static final String PENDING_RESPONSE = "pending";
+    static final String SEQ_RESPONSE = "seq";
+    static final String CHANGES_RESPONSE = "changes";
+    static final String DOC_RESPONSE = "doc";
+    static final String SELECTOR_FILTER = "_selector";
+    static final String INDEX = "/_index";
+    static final String INDEX_QUERY = "index";
+    static final String NAME = "name";
+    static final String DDOC = "ddoc";
+    static final String TYPE = "type";
+    static final String USE_INDEX_QUERY = "use_index";
+    static final String EXECUTION_STATS_QUERY = "execution_stats";
+    static final String WARNING_RESPONSE = "warning";
 
     static final String COUNT = "/_all_docs?limit=0";
     static final String BOOKMARK = "bookmark";
@@ -23,13 +23,17 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.BULK_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.COMPRESSION;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.CONNECTION_TIMEOUT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.ENABLE_SSL;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.INDEXES;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_CACHE_ENTRIES;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_CONNECTIONS;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_OBJECT_SIZE_BYTES;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.PAGE_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.PORT;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.REVISION_CACHE_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.SOCKET_TIMEOUT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.TOKEN;
 
@@ -66,6 +70,15 @@ public class CouchDBDocumentConfiguration implements DatabaseConfiguration {
 
         settings.get(ENABLE_SSL, Boolean.class).ifPresent(configuration::enableSSL);
         settings.get(COMPRESSION, Boolean.class).ifPresent(configuration::compression);
+        settings.get(BULK_SIZE, Integer.class).ifPresent(configuration::bulkSize);
+        settings.get(PAGE_SIZE, Integer.class).ifPresent(configuration::pageSize);
+        settings.get(REVISION_CACHE_SIZE, Integer.class).ifPresent(configuration::revisionCacheSize);
+        settings.get(INDEXES, String.class).stream()
+                .flatMap(indexes -> Arrays.stream(indexes.split(";")))
+                .map(String::trim)
+                .filter(index -> !index.isEmpty())
+                .map(CouchDBIndex::parse)
+                .forEach(configuration::index);
 
         return new CouchDBDocumentManagerFactory(configuration.build());
     }
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 
+import java.util.stream.Stream;
+
 /**
  * A CouchDB-specific extension of {@link DatabaseManager} that provides an additional
  * feature to count the number of documents in the database.
@@ -31,6 +33,9 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
  *
  * long totalDocuments = documentManager.count();
  * }</pre>
+ * The batch insert, the batch update and the delete by query send the documents through {@code _bulk_docs}, in
+ * chunks of {@link CouchDBConfigurations#BULK_SIZE}. When CouchDB rejects some documents, for instance on a revision
+ * conflict, the others are still written and a {@link CouchDBBulkException} reports the rejected ones.
  *
  * @see DatabaseManager
  */
@@ -45,4 +50,41 @@ public interface CouchDBDocumentManager extends DatabaseManager {
      * @throws UnsupportedOperationException if the database does not support counting documents
      */
     long count();
+
+    /**
+     * Creates the Mango index unless it already exists, then the queries that select by all its fields are hinted
+     * to use it. The indexes of {@link CouchDBConfigurations#INDEXES} are created when the manager is opened.
+     * CouchDB logs a warning, and the manager logs it too, for each query that no index fits.
+     *
+     * @param index the index
+     * @throws NullPointerException when index is null
+     */
+    void createIndex(CouchDBIndex index);
+
+    /**
+     * Reads the {@code _changes} feed of the database as a lazy stream. The normal feed ends once the changes made
+     * so far were read, while the longpoll and continuous feeds keep waiting for new changes; close the stream to
+     * stop them.
+     * <pre>{@code
+     * var options = CouchDBChangesOptions.since("0")
+     *         .withFeed(CouchDBChangesFeed.CONTINUOUS)
+     *         .withCheckpoint(documentManager.checkpointStore(), "read-model");
+     * try (Stream<CouchDBChange> changes = documentManager.changes(options)) {
+     *     changes.forEach(readModel::apply);
+     * }
+     * }</pre>
+     *
+     * @param options how the feed is read
+     * @return the changes
+     * @throws NullPointerException when options is null
+     */
+    Stream<CouchDBChange> changes(CouchDBChangesOptions options);
+
+    /**
+     * Returns a {@link CouchDBCheckpointStore} that keeps the sequences in {@code _local} documents of this
+     * database, which are neither replicated nor listed in the changes feed.
+     *
+     * @return the checkpoint store
+     */
+    CouchDBCheckpointStore checkpointStore();
 }
@@ -40,6 +40,7 @@ public class CouchDBDocumentManagerFactory implements DatabaseManagerFactory {
 
         CouchDBHttpClient client = configuration.getClient(database);
         client.createDatabase();
+        configuration.getIndexes().forEach(client::createIndex);
         return new DefaultCouchDBDocumentManager(client, database);
     }
 
@@ -38,6 +38,10 @@ public final class CouchDBDocumentQuery implements SelectQuery {
 
     private String bookmark;
 
+    private List<String> index = List.of();
+
+    private boolean executionStats;
+
 
     private CouchDBDocumentQuery(SelectQuery query) {
         this.query = query;
@@ -59,6 +63,63 @@ public final class CouchDBDocumentQuery implements SelectQuery {
         json.computeIfPresent(CouchDBConstant.BOOKMARK, (k, v) -> this.bookmark = v.toString());
     }
 
+    void setBookmark(String bookmark) {
+        this.bookmark = bookmark;
+    }
+
+    /**
+     * The index the query must use, as a design document optionally followed by the index name.
+     * Empty lets CouchDB choose the index.
+     *
+     * @return the index
+     */
+    public List<String> getIndex() {
+        return index;
+    }
+
+    /**
+     * Whether CouchDB returns the execution statistics of the query, which are logged with the query warnings.
+     *
+     * @return true when the statistics are requested
+     */
+    public boolean isExecutionStats() {
+        return executionStats;
+    }
+
+    /**
+     * Returns a copy of this query, with the same bookmark, that tells CouchDB to use the given index.
+     *
+     * @param index the index
+     * @return the new query
+     * @throws NullPointerException when index is null
+     */
+    public CouchDBDocumentQuery withIndex(CouchDBIndex index) {
+        Objects.requireNonNull(index, "index is required");
+        CouchDBDocumentQuery copy = copy();
+        copy.index = List.of(index.designDocument(), index.name());
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this query, with the same bookmark, that asks CouchDB for the execution statistics.
+     *
+     * @param executionStats true to request the statistics
+     * @return the new query
+     */
+    public CouchDBDocumentQuery withExecutionStats(boolean executionStats) {
+        CouchDBDocumentQuery copy = copy();
+        copy.executionStats = executionStats;
+        return copy;
+    }
+
+    private CouchDBDocumentQuery copy() {
+        CouchDBDocumentQuery copy = new CouchDBDocumentQuery(query);
+        copy.bookmark = bookmark;
+        copy.index = index;
+        copy.executionStats = executionStats;
+        return copy;
+    }
+
     @Override
     public long limit() {
         return query.limit();
@@ -99,12 +160,14 @@ public final class CouchDBDocumentQuery implements SelectQuery {
         }
         CouchDBDocumentQuery that = (CouchDBDocumentQuery) o;
         return Objects.equals(query, that.query) &&
-                Objects.equals(bookmark, that.bookmark);
+                Objects.equals(bookmark, that.bookmark) &&
+                Objects.equals(index, that.index) &&
+                executionStats == that.executionStats;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, bookmark);
+        return Objects.hash(query, bookmark, index, executionStats);
     }
 
     @Override
@@ -112,6 +175,8 @@ public final class CouchDBDocumentQuery implements SelectQuery {
         return "CouchDBDocumentQuery{" +
                 "query=" + query +
                 ", bookmark='" + bookmark + '\'' +
+                ", index=" + index +
+                ", executionStats=" + executionStats +
                 '}';
     }
 
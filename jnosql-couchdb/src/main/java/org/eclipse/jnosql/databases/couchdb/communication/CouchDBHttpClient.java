@@ -45,6 +45,10 @@ final class CouchDBHttpClient {
         }
     }
 
+    void createIndex(CouchDBIndex index) {
+        httpExecute.createIndex(database, index);
+    }
+
     public CommunicationEntity insert(CommunicationEntity entity) {
         return this.httpExecute.insert(database, entity);
     }
@@ -53,6 +57,14 @@ final class CouchDBHttpClient {
         return this.httpExecute.update(database, entity);
     }
 
+    public List<CommunicationEntity> insert(List<CommunicationEntity> entities) {
+        return this.httpExecute.insert(database, entities);
+    }
+
+    public List<CommunicationEntity> update(List<CommunicationEntity> entities) {
+        return this.httpExecute.update(database, entities);
+    }
+
     public Stream<CommunicationEntity> select(SelectQuery query) {
         return this.httpExecute.select(database, query);
     }
@@ -61,6 +73,14 @@ final class CouchDBHttpClient {
         this.httpExecute.delete(database, query);
     }
 
+    public Stream<CouchDBChange> changes(CouchDBChangesOptions options) {
+        return httpExecute.changes(database, options);
+    }
+
+    public CouchDBCheckpointStore checkpointStore() {
+        return new LocalDocumentCheckpointStore(httpExecute, database);
+    }
+
     public long count() {
         return httpExecute.count(database);
     }
@@ -15,16 +15,37 @@
 package org.eclipse.jnosql.databases.couchdb.communication;
 
 
+import org.apache.hc.core5.http.HttpStatus;
 import org.eclipse.jnosql.communication.CommunicationException;
 
 class CouchDBHttpClientException extends CommunicationException {
 
+    private final int status;
+
     public CouchDBHttpClientException(String message) {
         super(message);
+        this.status = 0;
     }
 
     public CouchDBHttpClientException(String message, Throwable cause) {
         super(message, cause);
+        this.status = 0;
+    }
+
+    CouchDBHttpClientException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * The HTTP status CouchDB answered with, or zero when the error did not come from a response.
+     */
+    int status() {
+        return status;
+    }
+
+    boolean isConflict() {
+        return status == HttpStatus.SC_CONFLICT;
     }
 
 }
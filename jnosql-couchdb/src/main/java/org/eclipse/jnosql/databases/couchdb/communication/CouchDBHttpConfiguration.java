@@ -21,6 +21,8 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.util.Timeout;
 
+import java.util.List;
+
 class CouchDBHttpConfiguration {
 
     private final String host;
@@ -39,6 +41,10 @@ class CouchDBHttpConfiguration {
     private final boolean compression;
     private final int maxObjectSizeBytes;
     private final int maxCacheEntries;
+    private final int bulkSize;
+    private final int pageSize;
+    private final int revisionCacheSize;
+    private final List<CouchDBIndex> indexes;
     private final String url;
 
 
@@ -48,7 +54,8 @@ class CouchDBHttpConfiguration {
                              String password,
                              String token,
                              boolean compression, int maxObjectSizeBytes,
-                             int maxCacheEntries) {
+                             int maxCacheEntries, int bulkSize, int pageSize,
+                             int revisionCacheSize, List<CouchDBIndex> indexes) {
         this.host = host;
         this.port = port;
         this.maxConnections = maxConnections;
@@ -61,6 +68,10 @@ class CouchDBHttpConfiguration {
         this.compression = compression;
         this.maxObjectSizeBytes = maxObjectSizeBytes;
         this.maxCacheEntries = maxCacheEntries;
+        this.bulkSize = bulkSize;
+        this.pageSize = pageSize;
+        this.revisionCacheSize = revisionCacheSize;
+        this.indexes = List.copyOf(indexes);
         this.url = createUrl();
         this.authenticationStrategy = CouchDBAuthenticationStrategyFactory.of(username, password, token);
     }
@@ -84,6 +95,26 @@ class CouchDBHttpConfiguration {
         return url;
     }
 
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getRevisionCacheSize() {
+        return revisionCacheSize;
+    }
+
+    public List<CouchDBIndex> getIndexes() {
+        return indexes;
+    }
+
 
     private CloseableHttpClient getHttpClient() {
         CacheConfig cacheConfig = CacheConfig.custom()
@@ -14,6 +14,10 @@
  */
 package org.eclipse.jnosql.databases.couchdb.communication;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 class CouchDBHttpConfigurationBuilder {
 
     private String host = "localhost";
@@ -30,6 +34,10 @@ class CouchDBHttpConfigurationBuilder {
     private boolean compression = false;
     private int maxObjectSizeBytes = 8192;
     private int maxCacheEntries = 1000;
+    private int bulkSize = 500;
+    private int pageSize = 200;
+    private int revisionCacheSize = 0;
+    private final List<CouchDBIndex> indexes = new ArrayList<>();
 
     public CouchDBHttpConfigurationBuilder port(int port) {
         this.port = port;
@@ -87,6 +95,35 @@ class CouchDBHttpConfigurationBuilder {
         return this;
     }
 
+    public CouchDBHttpConfigurationBuilder bulkSize(int bulkSize) {
+        if (bulkSize <= 0) {
+            throw new IllegalArgumentException("bulkSize must be positive: " + bulkSize);
+        }
+        this.bulkSize = bulkSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder pageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder revisionCacheSize(int revisionCacheSize) {
+        if (revisionCacheSize < 0) {
+            throw new IllegalArgumentException("revisionCacheSize must not be negative: " + revisionCacheSize);
+        }
+        this.revisionCacheSize = revisionCacheSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder index(CouchDBIndex index) {
+        this.indexes.add(Objects.requireNonNull(index, "index is required"));
+        return this;
+    }
+
     public CouchDBHttpConfigurationBuilder token(String token) {
         this.token = token;
         return this;
@@ -96,7 +133,7 @@ class CouchDBHttpConfigurationBuilder {
         return new CouchDBHttpConfiguration(host, port, maxConnections, connectionTimeout,
                 socketTimeout, enableSSL, username, password, token,
                 compression,
-                maxObjectSizeBytes, maxCacheEntries);
+                maxObjectSizeBytes, maxCacheEntries, bulkSize, pageSize, revisionCacheSize, indexes);
     }
 
 
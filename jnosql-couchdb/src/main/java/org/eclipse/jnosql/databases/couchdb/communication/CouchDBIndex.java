@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A Mango JSON index over the documents of one entity. The index always starts with the {@code @entity} field,
+ * which every query selector has, followed by the given fields.
+ * <pre>{@code
+ * documentManager.createIndex(CouchDBIndex.of("Person", "name", "age"));
+ * }</pre>
+ *
+ * @param name       the index name, also used as its design document
+ * @param collection the entity name
+ * @param fields     the indexed fields, in order
+ * @see CouchDBDocumentManager#createIndex(CouchDBIndex)
+ * @see CouchDBConfigurations#INDEXES
+ */
+public record CouchDBIndex(String name, String collection, List<String> fields) {
+
+    private static final String DESIGN_PREFIX = "jnosql-";
+
+    public CouchDBIndex {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(fields, "fields is required");
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The index " + name + " requires at least one field");
+        }
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * Returns an index named after the entity and its fields.
+     *
+     * @param collection the entity name
+     * @param fields     the indexed fields, in order
+     * @return the index
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when there is no field
+     */
+    public static CouchDBIndex of(String collection, String... fields) {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(fields, "fields is required");
+        return new CouchDBIndex(collection + "-" + String.join("-", fields), collection, Arrays.asList(fields));
+    }
+
+    /**
+     * Reads an index declared as {@code Entity:field1,field2}.
+     */
+    static CouchDBIndex parse(String declaration) {
+        int separator = declaration.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("The index must be declared as Entity:field1,field2 - " + declaration);
+        }
+        String[] fields = Arrays.stream(declaration.substring(separator + 1).split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .toArray(String[]::new);
+        return of(declaration.substring(0, separator).trim(), fields);
+    }
+
+    /**
+     * The design document that holds the index.
+     */
+    String designDocument() {
+        return DESIGN_PREFIX + name;
+    }
+
+    /**
+     * The {@code POST /{db}/_index} body.
+     */
+    Map<String, Object> toRequest() {
+        List<String> indexed = new ArrayList<>();
+        indexed.add(CouchDBConstant.ENTITY);
+        indexed.addAll(fields);
+        return Map.of(CouchDBConstant.INDEX_QUERY, Map.of(CouchDBConstant.FIELDS_QUERY, indexed),
+                CouchDBConstant.NAME, name,
+                CouchDBConstant.DDOC, designDocument(),
+                CouchDBConstant.TYPE, "json");
+    }
+
+    /**
+     * Returns the index that covers the most fields among those that the query selects by with AND,
+     * when all the fields of that index are in the selector.
+     */
+    static Optional<CouchDBIndex> bestFor(SelectQuery query, List<CouchDBIndex> indexes) {
+        Set<String> selected = new HashSet<>();
+        query.condition().ifPresent(condition -> collect(condition, selected));
+        return indexes.stream()
+                .filter(index -> index.collection().equals(query.name()))
+                .filter(index -> selected.containsAll(index.fields()))
+                .max(Comparator.comparingInt(index -> index.fields().size()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(CriteriaCondition condition, Set<String> fields) {
+        Condition operator = condition.condition();
+        if (operator == Condition.AND) {
+            ((List<CriteriaCondition>) condition.element().value().get()).forEach(c -> collect(c, fields));
+        } else if (operator != Condition.OR && operator != Condition.NOT) {
+            fields.add(condition.element().name());
+        }
+    }
+}
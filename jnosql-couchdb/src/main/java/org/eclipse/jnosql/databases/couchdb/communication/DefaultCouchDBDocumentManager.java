@@ -57,8 +57,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return connector.insert(StreamSupport.stream(entities.spliterator(), false).toList());
     }
 
     @Override
@@ -78,8 +77,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return connector.update(StreamSupport.stream(entities.spliterator(), false).toList());
     }
 
     @Override
@@ -99,6 +97,23 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
         return connector.count();
     }
 
+    @Override
+    public void createIndex(CouchDBIndex index) {
+        Objects.requireNonNull(index, "index is required");
+        connector.createIndex(index);
+    }
+
+    @Override
+    public Stream<CouchDBChange> changes(CouchDBChangesOptions options) {
+        Objects.requireNonNull(options, "options is required");
+        return connector.changes(options);
+    }
+
+    @Override
+    public CouchDBCheckpointStore checkpointStore() {
+        return connector.checkpointStore();
+    }
+
     @Override
     public long count(String documentCollection) {
        throw new UnsupportedOperationException("CouchDB does not have support to count by document Collection," +
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.couchdb.communication;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,6 +37,17 @@ final class DeleteElement {
         return rev;
     }
 
+    /**
+     * Returns the {@code _bulk_docs} document that deletes this revision.
+     */
+    Map<String, Object> toDeletion() {
+        Map<String, Object> deletion = new HashMap<>();
+        deletion.put(CouchDBConstant.ID, id);
+        deletion.put(CouchDBConstant.REV, rev);
+        deletion.put(CouchDBConstant.DELETED, true);
+        return deletion;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
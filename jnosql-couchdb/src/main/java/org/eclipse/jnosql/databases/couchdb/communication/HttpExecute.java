@@ -17,7 +17,6 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import jakarta.json.JsonObject;
 import jakarta.json.bind.Jsonb;
-import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
@@ -34,20 +33,34 @@ import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Elements;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 
 class HttpExecute {
 
+    private static final Logger LOGGER = Logger.getLogger(HttpExecute.class.getName());
 
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
     private static final ContentType APPLICATION_JSON = ContentType.APPLICATION_JSON;
@@ -58,14 +71,22 @@ class HttpExecute {
     private static final Type JSON =
             new HashMap<String, Object>() {}.getClass().getGenericSuperclass();
 
+    private static final byte[] EMPTY_JSON = "{}".getBytes(UTF_8);
+
+    private static final Type LIST_JSON =
+            new ArrayList<HashMap<String, Object>>() {}.getClass().getGenericSuperclass();
+
     private final CouchDBHttpConfiguration configuration;
     private final CloseableHttpClient client;
     private final MangoQueryConverter converter;
+    private final List<CouchDBIndex> indexes = new CopyOnWriteArrayList<>();
+    private final RevisionCache revisionCache;
 
     HttpExecute(CouchDBHttpConfiguration configuration, CloseableHttpClient client) {
         this.configuration = configuration;
         this.client = client;
         this.converter = new MangoQueryConverter();
+        this.revisionCache = new RevisionCache(configuration.getRevisionCacheSize());
     }
 
     public List<String> getDatabases() {
@@ -82,6 +103,19 @@ class HttpExecute {
         }
     }
 
+    /**
+     * Creates the index unless an index with the same definition exists, CouchDB answers "exists" in that case,
+     * and lets the next queries on its fields use it.
+     */
+    public void createIndex(String database, CouchDBIndex index) {
+        HttpPost request = new HttpPost(configuration.getUrl() + database + CouchDBConstant.INDEX);
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(index.toRequest()), APPLICATION_JSON));
+        execute(request, JSON, HttpStatus.SC_OK);
+        indexes.removeIf(i -> i.name().equals(index.name()));
+        indexes.add(index);
+    }
+
     public CommunicationEntity insert(String database, CommunicationEntity entity) {
         Map<String, Object> map = new HashMap<>(entity.toMap());
         String id = map.getOrDefault(CouchDBConstant.ID, "").toString();
@@ -104,6 +138,8 @@ class HttpExecute {
 
             entity.add(CouchDBConstant.ID, json.get(CouchDBConstant.ID_RESPONSE));
             entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV_RESPONSE));
+            revisionCache.put(Objects.toString(json.get(CouchDBConstant.ID_RESPONSE), null),
+                    json.get(CouchDBConstant.REV_RESPONSE));
             return entity;
 
         } catch (Exception ex) {
@@ -113,26 +149,254 @@ class HttpExecute {
         }
     }
 
+    /**
+     * Writes the entity with its {@code _rev}, or else the cached revision of its id, and reads the current revision
+     * only when there is none or when CouchDB answers with a conflict, in which case the write is tried once more.
+     */
     public CommunicationEntity update(String database, CommunicationEntity entity) {
         String id = getId(entity);
+        Optional<Object> revision = knownRevision(id, entity);
+        if (revision.isPresent()) {
+            entity.add(CouchDBConstant.REV, revision.get());
+            try {
+                return insert(database, entity);
+            } catch (CouchDBHttpClientException exception) {
+                if (!exception.isConflict()) {
+                    throw exception;
+                }
+                revisionCache.remove(id);
+            }
+        }
         Map<String, Object> json = findById(database, id);
         entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
         return insert(database, entity);
     }
 
+    public List<CommunicationEntity> insert(String database, List<CommunicationEntity> entities) {
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        for (List<CommunicationEntity> chunk : chunks(entities)) {
+            List<Map<String, Object>> documents = chunk.stream().map(this::toDocument).toList();
+            List<Map<String, Object>> results = bulkDocs(database, documents);
+            for (int index = 0; index < chunk.size(); index++) {
+                Map<String, Object> result = results.get(index);
+                if (result.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+                    failures.add(CouchDBBulkFailure.of(result));
+                    revisionCache.remove(Objects.toString(result.get(CouchDBConstant.ID_RESPONSE), null));
+                } else {
+                    CommunicationEntity entity = chunk.get(index);
+                    entity.add(CouchDBConstant.ID, result.get(CouchDBConstant.ID_RESPONSE));
+                    entity.add(CouchDBConstant.REV, result.get(CouchDBConstant.REV_RESPONSE));
+                    revisionCache.put(Objects.toString(result.get(CouchDBConstant.ID_RESPONSE), null),
+                            result.get(CouchDBConstant.REV_RESPONSE));
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return entities;
+    }
+
+    /**
+     * Writes the entities with their {@code _rev}, or else the cached revisions, reading in a single request per
+     * chunk the revisions still unknown. The conflicts of the known revisions are written once more with the current
+     * revisions.
+     */
+    public List<CommunicationEntity> update(String database, List<CommunicationEntity> entities) {
+        entities.forEach(this::getId);
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        List<CommunicationEntity> found = new ArrayList<>();
+        Set<String> known = new HashSet<>();
+        for (List<CommunicationEntity> chunk : chunks(entities)) {
+            List<String> unknown = new ArrayList<>();
+            for (CommunicationEntity entity : chunk) {
+                String id = getId(entity);
+                Optional<Object> revision = knownRevision(id, entity);
+                if (revision.isPresent()) {
+                    entity.add(CouchDBConstant.REV, revision.get());
+                    known.add(id);
+                } else {
+                    unknown.add(id);
+                }
+            }
+            Map<String, Object> revisions = unknown.isEmpty() ? Map.of() : revisions(database, unknown);
+            for (CommunicationEntity entity : chunk) {
+                String id = getId(entity);
+                if (known.contains(id)) {
+                    found.add(entity);
+                } else if (revisions.containsKey(id)) {
+                    entity.add(CouchDBConstant.REV, revisions.get(id));
+                    found.add(entity);
+                } else {
+                    failures.add(new CouchDBBulkFailure(id, CouchDBConstant.NOT_FOUND, "missing"));
+                }
+            }
+        }
+        List<CouchDBBulkFailure> rejected = new ArrayList<>();
+        try {
+            insert(database, found);
+        } catch (CouchDBBulkException exception) {
+            rejected.addAll(exception.failures());
+        }
+        List<CouchDBBulkFailure> retried = rejected.stream()
+                .filter(CouchDBBulkFailure::isConflict)
+                .filter(failure -> known.contains(failure.id()))
+                .toList();
+        rejected.removeAll(retried);
+        failures.addAll(rejected);
+        if (!retried.isEmpty()) {
+            failures.addAll(retry(database, found, retried));
+        }
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return entities;
+    }
+
+    private List<CouchDBBulkFailure> retry(String database, List<CommunicationEntity> entities,
+                                           List<CouchDBBulkFailure> conflicts) {
+        Map<String, CommunicationEntity> byId = new LinkedHashMap<>();
+        entities.forEach(entity -> byId.put(getId(entity), entity));
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        List<CommunicationEntity> found = new ArrayList<>();
+        for (List<CouchDBBulkFailure> chunk : chunks(conflicts)) {
+            Map<String, Object> revisions = revisions(database, chunk.stream().map(CouchDBBulkFailure::id).toList());
+            for (CouchDBBulkFailure conflict : chunk) {
+                Object rev = revisions.get(conflict.id());
+                if (rev == null) {
+                    failures.add(new CouchDBBulkFailure(conflict.id(), CouchDBConstant.NOT_FOUND, "missing"));
+                } else {
+                    CommunicationEntity entity = byId.get(conflict.id());
+                    entity.add(CouchDBConstant.REV, rev);
+                    found.add(entity);
+                }
+            }
+        }
+        try {
+            insert(database, found);
+        } catch (CouchDBBulkException exception) {
+            failures.addAll(exception.failures());
+        }
+        return failures;
+    }
+
+    private Optional<Object> knownRevision(String id, CommunicationEntity entity) {
+        return entity.find(CouchDBConstant.REV)
+                .map(element -> element.value().get())
+                .or(() -> revisionCache.get(id));
+    }
+
+    /**
+     * Streams the documents of the query a page at a time; each page is read with the streaming parser and its
+     * response released before the documents are handed out, so a stream that is not fully read never keeps a pooled
+     * connection. A {@link CouchDBDocumentQuery} reads a single page and its bookmark is updated once the page was
+     * read, any other query follows the bookmarks page by page until its end.
+     */
     public Stream<CommunicationEntity> select(String database, SelectQuery query) {
-        return executeQuery(database, query).stream().map(this::toEntity);
+        if (query instanceof CouchDBDocumentQuery documentQuery) {
+            return page(database, documentQuery, documentQuery::setBookmark).readAll().stream()
+                    .map(this::toEntity);
+        }
+        var pages = new MangoPagingSpliterator(query, configuration.getPageSize(),
+                (page, bookmark) -> page(database, page, bookmark));
+        return StreamSupport.stream(pages, false)
+                .onClose(pages::close)
+                .map(this::toEntity);
+    }
+
+    private MangoResultSpliterator page(String database, SelectQuery query, Consumer<String> bookmark) {
+        CloseableHttpResponse response = open(findRequest(database, query));
+        try {
+            InputStream content = response.getEntity() == null
+                    ? new ByteArrayInputStream(EMPTY_JSON) : response.getEntity().getContent();
+            return new MangoResultSpliterator(response, content, bookmark, this::warn);
+        } catch (Exception ex) {
+            closeQuietly(response, ex);
+            throw ex instanceof CouchDBHttpClientException
+                    ? (CouchDBHttpClientException) ex
+                    : new CouchDBHttpClientException("An error accessing the database", ex);
+        }
     }
 
     public void delete(String database, org.eclipse.jnosql.communication.semistructured.DeleteQuery query) {
         CouchDBDocumentQuery documentQuery =
-                CouchDBDocumentQuery.of(new CouchdbDeleteQuery(query));
+                CouchDBDocumentQuery.of(new CouchdbDeleteQuery(query, configuration.getBulkSize()));
 
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
         List<Map<String, Object>> entities = executeQuery(database, documentQuery);
         while (!entities.isEmpty()) {
-            entities.stream().map(DeleteElement::new).forEach(e -> delete(database, e));
+            List<DeleteElement> elements = entities.stream().map(DeleteElement::new).toList();
+            elements.forEach(element -> revisionCache.remove(element.getId()));
+            List<Map<String, Object>> deletions = elements.stream()
+                    .map(DeleteElement::toDeletion)
+                    .toList();
+            bulkDocs(database, deletions).stream()
+                    .filter(result -> result.containsKey(CouchDBConstant.ERROR_RESPONSE))
+                    .map(CouchDBBulkFailure::of)
+                    .forEach(failures::add);
             entities = executeQuery(database, documentQuery);
         }
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+    }
+
+    public Stream<CouchDBChange> changes(String database, CouchDBChangesOptions options) {
+        String since = Optional.ofNullable(options.checkpointStore())
+                .flatMap(store -> store.load(options.consumer()))
+                .orElse(options.since());
+        ChangesSpliterator.Source source;
+        if (options.feed() == CouchDBChangesFeed.CONTINUOUS) {
+            HttpPost request = changesRequest(database, options, since);
+            CloseableHttpResponse response = open(request);
+            try {
+                source = new ChangesSpliterator.ContinuousSource(response, response.getEntity().getContent(),
+                        request::cancel);
+            } catch (Exception ex) {
+                closeQuietly(response, ex);
+                throw new CouchDBHttpClientException("An error accessing the changes feed", ex);
+            }
+        } else {
+            source = new ChangesSpliterator.PollingSource(
+                    s -> execute(changesRequest(database, options, s), JSON, HttpStatus.SC_OK),
+                    since, options.feed() == CouchDBChangesFeed.LONGPOLL, options.batchSize());
+        }
+        var changes = new ChangesSpliterator(source, json -> CouchDBChange.of(json, this::toEntity), options);
+        return StreamSupport.stream(changes, false).onClose(changes::close);
+    }
+
+    Optional<Map<String, Object>> findLocal(String database, String id) {
+        HttpGet request = new HttpGet(configuration.getUrl() + database + CouchDBConstant.LOCAL
+                + URLEncoder.encode(id, UTF_8));
+        configuration.strategy().apply(request);
+        try (CloseableHttpResponse response = client.execute(request)) {
+            if (response.getCode() == HttpStatus.SC_NOT_FOUND) {
+                return Optional.empty();
+            }
+            if (response.getCode() != HttpStatus.SC_OK) {
+                throw new CouchDBHttpClientException("HTTP " + response.getCode() + " error: "
+                        + readBody(response.getEntity()));
+            }
+            try (InputStream content = response.getEntity().getContent()) {
+                return Optional.of(JSONB.fromJson(content, JSON));
+            }
+        } catch (Exception ex) {
+            throw ex instanceof CouchDBHttpClientException
+                    ? (CouchDBHttpClientException) ex
+                    : new CouchDBHttpClientException("An error accessing the database", ex);
+        }
+    }
+
+    void saveLocal(String database, String id, String field, Object value) {
+        Map<String, Object> document = new HashMap<>();
+        findLocal(database, id).map(json -> json.get(CouchDBConstant.REV))
+                .ifPresent(rev -> document.put(CouchDBConstant.REV, rev));
+        document.put(field, value);
+        HttpPut request = new HttpPut(configuration.getUrl() + database + CouchDBConstant.LOCAL
+                + URLEncoder.encode(id, UTF_8));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(document), APPLICATION_JSON));
+        execute(request, JSON, HttpStatus.SC_CREATED);
     }
 
     public long count(String database) {
@@ -141,20 +405,60 @@ class HttpExecute {
         return Long.parseLong(json.get(CouchDBConstant.TOTAL_ROWS_RESPONSE).toString());
     }
 
-    private void delete(String database, DeleteElement id) {
-        HttpDelete request = new HttpDelete(configuration.getUrl() + database + "/" + id.getId());
-        request.addHeader(CouchDBConstant.REV_HEADER, id.getRev());
-        execute(request, null, HttpStatus.SC_OK, true);
+    private List<Map<String, Object>> bulkDocs(String database, List<Map<String, Object>> documents) {
+        HttpPost request = new HttpPost(configuration.getUrl() + database + CouchDBConstant.BULK_DOCS);
+        setHeader(request);
+        Map<String, Object> body = Map.of(CouchDBConstant.DOCS_RESPONSE, documents);
+        request.setEntity(new StringEntity(JSONB.toJson(body), APPLICATION_JSON));
+        return execute(request, LIST_JSON, HttpStatus.SC_CREATED);
     }
 
+    /**
+     * Reads the current revision of the documents in a single request; the deleted and missing ones are left out.
+     */
     @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> executeQuery(String database, SelectQuery query) {
-        HttpPost request = new HttpPost(configuration.getUrl() + database + CouchDBConstant.FIND);
+    private Map<String, Object> revisions(String database, List<String> ids) {
+        HttpPost request = new HttpPost(configuration.getUrl() + database + CouchDBConstant.ALL_DOCS);
         setHeader(request);
-        JsonObject mangoQuery = converter.apply(query);
-        request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
+        Map<String, Object> body = Map.of(CouchDBConstant.KEYS, ids);
+        request.setEntity(new StringEntity(JSONB.toJson(body), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+
+        Map<String, Object> revisions = new HashMap<>();
+        List<Map<String, Object>> rows = (List<Map<String, Object>>)
+                json.getOrDefault(CouchDBConstant.ROWS_RESPONSE, emptyList());
+        for (Map<String, Object> row : rows) {
+            if (row.get(CouchDBConstant.VALUE_RESPONSE) instanceof Map<?, ?> value
+                    && !Boolean.TRUE.equals(value.get(CouchDBConstant.DELETED_RESPONSE))) {
+                revisions.put(row.get(CouchDBConstant.KEY_RESPONSE).toString(), value.get(CouchDBConstant.REV_RESPONSE));
+            }
+        }
+        return revisions;
+    }
+
+    private Map<String, Object> toDocument(CommunicationEntity entity) {
+        Map<String, Object> document = new HashMap<>(entity.toMap());
+        if (document.getOrDefault(CouchDBConstant.ID, "").toString().isEmpty()) {
+            document.remove(CouchDBConstant.ID);
+        }
+        document.put(CouchDBConstant.ENTITY, entity.name());
+        return document;
+    }
+
+    private <T> List<List<T>> chunks(List<T> elements) {
+        int size = configuration.getBulkSize();
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < elements.size(); start += size) {
+            chunks.add(elements.subList(start, Math.min(start + size, elements.size())));
+        }
+        return chunks;
+    }
 
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> executeQuery(String database, SelectQuery query) {
+        HttpPost request = findRequest(database, query);
         Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        warn(json);
 
         if (query instanceof CouchDBDocumentQuery) {
             ((CouchDBDocumentQuery) query).setBookmark(json);
@@ -164,6 +468,68 @@ class HttpExecute {
                 json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
     }
 
+    /**
+     * The changes are always requested with POST, so the caching client never buffers them.
+     */
+    private HttpPost changesRequest(String database, CouchDBChangesOptions options, String since) {
+        StringBuilder url = new StringBuilder(configuration.getUrl()).append(database).append(CouchDBConstant.CHANGES)
+                .append("?feed=").append(options.feed().value())
+                .append("&since=").append(URLEncoder.encode(since, UTF_8))
+                .append("&include_docs=").append(options.includeDocs());
+        if (options.feed() != CouchDBChangesFeed.CONTINUOUS) {
+            url.append("&limit=").append(options.batchSize());
+        }
+        if (options.feed() != CouchDBChangesFeed.NORMAL) {
+            url.append("&heartbeat=").append(Math.max(1000, configuration.getSocketTimeout() / 2));
+        }
+        if (options.timeout() != null) {
+            url.append("&timeout=").append(options.timeout().toMillis());
+        }
+        Map<String, Object> body = new HashMap<>();
+        if (options.filter() != null) {
+            url.append("&filter=").append(URLEncoder.encode(options.filter(), UTF_8));
+        } else if (options.collection() != null) {
+            url.append("&filter=").append(CouchDBConstant.SELECTOR_FILTER);
+            body.put(CouchDBConstant.SELECTOR_QUERY, Map.of(CouchDBConstant.ENTITY, options.collection()));
+        }
+        HttpPost request = new HttpPost(url.toString());
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(body), APPLICATION_JSON));
+        return request;
+    }
+
+    private HttpPost findRequest(String database, SelectQuery query) {
+        HttpPost request = new HttpPost(configuration.getUrl() + database + CouchDBConstant.FIND);
+        setHeader(request);
+        JsonObject mangoQuery = converter.apply(withIndex(query));
+        request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
+        return request;
+    }
+
+    /**
+     * Hints the index created by {@link #createIndex(String, CouchDBIndex)} that best fits the query, unless the
+     * query already names one.
+     */
+    private SelectQuery withIndex(SelectQuery query) {
+        CouchDBDocumentQuery documentQuery = query instanceof CouchDBDocumentQuery q ? q : CouchDBDocumentQuery.of(query);
+        if (indexes.isEmpty() || !documentQuery.getIndex().isEmpty()) {
+            return query;
+        }
+        return CouchDBIndex.bestFor(query, indexes).<SelectQuery>map(documentQuery::withIndex).orElse(query);
+    }
+
+    /**
+     * CouchDB answers with a warning when no index fits the query, which then reads the whole database.
+     */
+    private void warn(Map<String, Object> response) {
+        Object warning = response.get(CouchDBConstant.WARNING_RESPONSE);
+        if (warning != null && LOGGER.isLoggable(Level.WARNING)) {
+            Object stats = response.get(CouchDBConstant.EXECUTION_STATS_QUERY);
+            LOGGER.log(Level.WARNING, "CouchDB query warning: " + warning
+                    + (stats == null ? "" : ", execution stats: " + stats));
+        }
+    }
+
     private CommunicationEntity toEntity(Map<String, Object> jsonEntity) {
         CommunicationEntity entity =
                 CommunicationEntity.of(jsonEntity.get(CouchDBConstant.ENTITY).toString());
@@ -200,14 +566,20 @@ class HttpExecute {
             if (!ignoreStatus && response.getCode() != expectedStatus) {
                 String body = readBody(response.getEntity());
                 throw new CouchDBHttpClientException(
-                        "HTTP " + response.getCode() + " error: " + body);
+                        "HTTP " + response.getCode() + " error: " + body, response.getCode());
             }
 
             if (type == null) {
                 return null;
             }
 
-            return JSONB.fromJson(readBody(response.getEntity()), type);
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                return JSONB.fromJson("{}", type);
+            }
+            try (InputStream content = entity.getContent()) {
+                return JSONB.fromJson(content, type);
+            }
 
         } catch (Exception ex) {
             throw ex instanceof CouchDBHttpClientException
@@ -225,6 +597,37 @@ class HttpExecute {
         return out.toString(UTF_8);
     }
 
+    /**
+     * Executes the request and returns the response, still open, when it has the OK status.
+     */
+    private CloseableHttpResponse open(ClassicHttpRequest request) {
+        configuration.strategy().apply(request);
+        CloseableHttpResponse response = null;
+        try {
+            response = client.execute(request);
+            if (response.getCode() != HttpStatus.SC_OK) {
+                String body = readBody(response.getEntity());
+                throw new CouchDBHttpClientException("HTTP " + response.getCode() + " error: " + body);
+            }
+            return response;
+        } catch (Exception ex) {
+            closeQuietly(response, ex);
+            throw ex instanceof CouchDBHttpClientException
+                    ? (CouchDBHttpClientException) ex
+                    : new CouchDBHttpClientException("An error accessing the database", ex);
+        }
+    }
+
+    private void closeQuietly(CloseableHttpResponse response, Exception cause) {
+        if (response != null) {
+            try {
+                response.close();
+            } catch (IOException exception) {
+                cause.addSuppressed(exception);
+            }
+        }
+    }
+
     private void setHeader(HttpMessage request) {
         request.setHeader("Accept", APPLICATION_JSON.getMimeType());
         request.setHeader("Content-Type", APPLICATION_JSON.getMimeType());
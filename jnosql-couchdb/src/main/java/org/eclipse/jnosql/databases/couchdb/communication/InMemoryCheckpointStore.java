@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class InMemoryCheckpointStore implements CouchDBCheckpointStore {
+
+    private final Map<String, String> sequences = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> load(String consumer) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        return Optional.ofNullable(sequences.get(consumer));
+    }
+
+    @Override
+    public void save(String consumer, String sequence) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        Objects.requireNonNull(sequence, "sequence is required");
+        sequences.put(consumer, sequence);
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryCheckpointStore{" +
+                "sequences=" + sequences +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps each consumer sequence in a {@code _local} document of the database itself. Local documents are not
+ * replicated and not listed in the {@code _changes} feed, so the checkpoints never show up as changes.
+ */
+final class LocalDocumentCheckpointStore implements CouchDBCheckpointStore {
+
+    private static final String PREFIX = "jnosql-changes-";
+
+    private final HttpExecute httpExecute;
+
+    private final String database;
+
+    LocalDocumentCheckpointStore(HttpExecute httpExecute, String database) {
+        this.httpExecute = httpExecute;
+        this.database = database;
+    }
+
+    @Override
+    public Optional<String> load(String consumer) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        return httpExecute.findLocal(database, PREFIX + consumer)
+                .map(json -> json.get(CouchDBConstant.SEQ_RESPONSE))
+                .map(Object::toString);
+    }
+
+    @Override
+    public void save(String consumer, String sequence) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        Objects.requireNonNull(sequence, "sequence is required");
+        httpExecute.saveLocal(database, PREFIX + consumer, CouchDBConstant.SEQ_RESPONSE, sequence);
+    }
+
+    @Override
+    public String toString() {
+        return "LocalDocumentCheckpointStore{" +
+                "database='" + database + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Reads every document of a {@link SelectQuery} one page at a time, following the Mango bookmark of each page
+ * instead of growing the {@code skip}, so a full scan costs one request per page and only the page being read is
+ * in memory. Each page is read at once and its response released before its documents are handed out, so a stream
+ * that stops early, such as {@code findFirst}, never keeps a pooled connection. The query skip only applies to the
+ * first page, and the query limit, when set, caps the documents read across all pages.
+ */
+final class MangoPagingSpliterator extends Spliterators.AbstractSpliterator<Map<String, Object>> {
+
+    private final SelectQuery query;
+
+    private final int pageSize;
+
+    private final BiFunction<SelectQuery, Consumer<String>, MangoResultSpliterator> reader;
+
+    private Iterator<Map<String, Object>> page;
+
+    private String bookmark;
+
+    private String nextBookmark;
+
+    private long requested;
+
+    private long read;
+
+    private long total;
+
+    private boolean finished;
+
+    MangoPagingSpliterator(SelectQuery query, int pageSize,
+                           BiFunction<SelectQuery, Consumer<String>, MangoResultSpliterator> reader) {
+        super(Long.MAX_VALUE, ORDERED | NONNULL);
+        this.query = query;
+        this.pageSize = pageSize;
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+        while (!finished) {
+            if (page == null && !openNextPage()) {
+                finished = true;
+                return false;
+            }
+            if (page.hasNext()) {
+                read++;
+                total++;
+                action.accept(page.next());
+                return true;
+            }
+            page = null;
+            if (read < requested || nextBookmark == null || nextBookmark.equals(bookmark)) {
+                finished = true;
+                return false;
+            }
+            bookmark = nextBookmark;
+        }
+        return false;
+    }
+
+    void close() {
+        finished = true;
+        page = null;
+    }
+
+    private boolean openNextPage() {
+        long remaining = query.limit() > 0 ? query.limit() - total : Long.MAX_VALUE;
+        if (remaining <= 0) {
+            return false;
+        }
+        requested = Math.min(pageSize, remaining);
+        read = 0;
+        nextBookmark = null;
+        SelectQuery pageQuery = new PageQuery(query, requested, bookmark == null ? query.skip() : 0);
+        page = reader.apply(bookmark == null ? pageQuery : CouchDBDocumentQuery.of(pageQuery, bookmark),
+                value -> nextBookmark = value).readAll().iterator();
+        return true;
+    }
+
+    private record PageQuery(SelectQuery query, long limit, long skip) implements SelectQuery {
+
+        @Override
+        public String name() {
+            return query.name();
+        }
+
+        @Override
+        public Optional<CriteriaCondition> condition() {
+            return query.condition();
+        }
+
+        @Override
+        public List<Sort<?>> sorts() {
+            return query.sorts();
+        }
+
+        @Override
+        public List<String> columns() {
+            return query.columns();
+        }
+    }
+}
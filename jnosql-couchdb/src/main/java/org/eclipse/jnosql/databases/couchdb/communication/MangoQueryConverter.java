@@ -59,8 +59,15 @@ final class MangoQueryConverter implements Function<SelectQuery, JsonObject> {
         }
 
         if (documentQuery instanceof CouchDBDocumentQuery) {
-            Optional<String> bookmark = CouchDBDocumentQuery.class.cast(documentQuery).getBookmark();
+            CouchDBDocumentQuery couchDBQuery = CouchDBDocumentQuery.class.cast(documentQuery);
+            Optional<String> bookmark = couchDBQuery.getBookmark();
             bookmark.ifPresent(b -> bookmark(b, select));
+            if (!couchDBQuery.getIndex().isEmpty()) {
+                select.add(CouchDBConstant.USE_INDEX_QUERY, Json.createArrayBuilder(couchDBQuery.getIndex()).build());
+            }
+            if (couchDBQuery.isExecutionStats()) {
+                select.add(CouchDBConstant.EXECUTION_STATS_QUERY, true);
+            }
         }
 
         JsonObject selector = getSelector(documentQuery);
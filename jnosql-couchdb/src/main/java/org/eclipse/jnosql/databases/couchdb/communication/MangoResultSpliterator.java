@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Reads the {@code docs} array of a {@code _find} response one document at a time, so only the current document is
+ * held in memory. The bookmark, which CouchDB writes after the documents, is given to the consumer once the array
+ * was read, and the other top-level fields, such as {@code warning} and {@code execution_stats}, once the response
+ * ended. The response is closed when the last document was read, when reading fails, or by {@link #close()}.
+ * {@link #readAll()} reads the page at once, so short-circuiting streams never keep the pooled connection.
+ */
+final class MangoResultSpliterator extends Spliterators.AbstractSpliterator<Map<String, Object>> {
+
+    private final Closeable response;
+
+    private final JsonParser parser;
+
+    private final Consumer<String> bookmark;
+
+    private final Consumer<Map<String, Object>> metadata;
+
+    private final Map<String, Object> fields = new HashMap<>();
+
+    private boolean started;
+
+    private boolean finished;
+
+    MangoResultSpliterator(Closeable response, InputStream content, Consumer<String> bookmark) {
+        this(response, content, bookmark, m -> { });
+    }
+
+    MangoResultSpliterator(Closeable response, InputStream content, Consumer<String> bookmark,
+                           Consumer<Map<String, Object>> metadata) {
+        super(Long.MAX_VALUE, ORDERED | NONNULL);
+        this.response = response;
+        this.parser = Json.createParser(content);
+        this.bookmark = bookmark;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+        if (finished) {
+            return false;
+        }
+        Map<String, Object> document = next();
+        if (document == null) {
+            close();
+            return false;
+        }
+        action.accept(document);
+        return true;
+    }
+
+    /**
+     * Reads every remaining document and releases the response.
+     */
+    List<Map<String, Object>> readAll() {
+        List<Map<String, Object>> documents = new ArrayList<>();
+        try {
+            forEachRemaining(documents::add);
+        } finally {
+            close();
+        }
+        return documents;
+    }
+
+    void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try (response) {
+            parser.close();
+        } catch (IOException exception) {
+            throw new CouchDBHttpClientException("An error when closing the query result", exception);
+        }
+    }
+
+    private Map<String, Object> next() {
+        try {
+            if (!started) {
+                started = true;
+                if (parser.next() != JsonParser.Event.START_OBJECT || !readUntilDocs()) {
+                    return null;
+                }
+            }
+            if (parser.next() == JsonParser.Event.START_OBJECT) {
+                return toMap(parser.getObject());
+            }
+            readUntilDocs();
+            return null;
+        } catch (RuntimeException exception) {
+            close();
+            throw new CouchDBHttpClientException("An error reading the query result", exception);
+        }
+    }
+
+    /**
+     * Reads the top-level keys until the start of the {@code docs} array or the end of the response.
+     */
+    private boolean readUntilDocs() {
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_OBJECT) {
+                metadata.accept(fields);
+                return false;
+            }
+            String key = parser.getString();
+            JsonParser.Event value = parser.next();
+            if (CouchDBConstant.DOCS_RESPONSE.equals(key) && value == JsonParser.Event.START_ARRAY) {
+                return true;
+            }
+            Object field = toJava(parser.getValue());
+            if (CouchDBConstant.BOOKMARK.equals(key) && field instanceof String text) {
+                bookmark.accept(text);
+            }
+            fields.put(key, field);
+        }
+        return false;
+    }
+
+    static Map<String, Object> toMap(JsonObject json) {
+        Map<String, Object> map = new HashMap<>();
+        json.forEach((key, value) -> map.put(key, toJava(value)));
+        return map;
+    }
+
+    private static Object toJava(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> toMap(value.asJsonObject());
+            case ARRAY -> toList(value.asJsonArray());
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).bigDecimalValue();
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
+
+    private static List<Object> toList(JsonArray array) {
+        List<Object> list = new ArrayList<>(array.size());
+        array.forEach(value -> list.add(toJava(value)));
+        return list;
+    }
+}
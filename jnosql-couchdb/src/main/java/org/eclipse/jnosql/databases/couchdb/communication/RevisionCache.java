@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The latest revision written or read for each document id of a database, bounded to the most recently used ids.
+ * A revision may be stale when another client wrote the document, so the writer that uses it must read the
+ * current revision again on a conflict. A cache of size zero keeps nothing.
+ */
+final class RevisionCache {
+
+    private final int size;
+
+    private final Map<String, String> revisions;
+
+    RevisionCache(int size) {
+        this.size = size;
+        this.revisions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > RevisionCache.this.size;
+            }
+        };
+    }
+
+    Optional<String> get(String id) {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        synchronized (revisions) {
+            return Optional.ofNullable(revisions.get(id));
+        }
+    }
+
+    void put(String id, Object revision) {
+        if (size == 0 || id == null || revision == null) {
+            return;
+        }
+        synchronized (revisions) {
+            revisions.put(id, revision.toString());
+        }
+    }
+
+    void remove(String id) {
+        if (size == 0) {
+            return;
+        }
+        synchronized (revisions) {
+            revisions.remove(id);
+        }
+    }
+
+    int size() {
+        synchronized (revisions) {
+            return revisions.size();
+        }
+    }
+}
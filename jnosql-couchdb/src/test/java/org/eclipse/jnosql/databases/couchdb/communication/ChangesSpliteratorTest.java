@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangesSpliteratorTest {
+
+    private final CouchDBCheckpointStore store = CouchDBCheckpointStore.inMemory();
+
+    @Test
+    void shouldReadPagesUntilNothingIsPending() {
+        List<String> requested = new ArrayList<>();
+        var source = new ChangesSpliterator.PollingSource(since -> {
+            requested.add(since);
+            return switch (since) {
+                case "0" -> page("2", 1, row("1", "otavio"), row("2", "poliana"));
+                case "2" -> page("3", 0, row("3", "ada"));
+                default -> throw new IllegalStateException(since);
+            };
+        }, "0", false, 2);
+        var changes = spliterator(source, 2);
+
+        List<CouchDBChange> result = StreamSupport.stream(changes, false).toList();
+
+        assertThat(result).extracting(CouchDBChange::id).containsExactly("otavio", "poliana", "ada");
+        assertThat(requested).containsExactly("0", "2");
+        assertThat(store.load("consumer")).contains("3");
+    }
+
+    @Test
+    void shouldCheckpointOnlyProcessedChangesWhenClosedEarly() {
+        var source = new ChangesSpliterator.PollingSource(since -> page("3", 0,
+                row("1", "otavio"), row("2", "poliana"), row("3", "ada")), "0", false, 10);
+        var changes = spliterator(source, 10);
+
+        try (var stream = StreamSupport.stream(changes, false).onClose(changes::close)) {
+            assertThat(stream.limit(2).toList()).hasSize(2);
+        }
+
+        assertThat(store.load("consumer")).contains("1");
+    }
+
+    @Test
+    void shouldCheckpointEveryBatch() {
+        var source = new ChangesSpliterator.PollingSource(since -> page("3", 0,
+                row("1", "otavio"), row("2", "poliana"), row("3", "ada")), "0", false, 10);
+        var changes = spliterator(source, 1);
+        var iterator = StreamSupport.stream(changes, false).iterator();
+
+        iterator.next();
+        iterator.next();
+        assertThat(store.load("consumer")).contains("1");
+    }
+
+    @Test
+    void shouldReadContinuousFeed() {
+        AtomicBoolean closed = new AtomicBoolean();
+        String feed = """
+                {"seq":"1","id":"otavio","changes":[{"rev":"1-a"}],"doc":{"_id":"otavio","@entity":"Person","name":"Otavio"}}
+
+                {"seq":"2","id":"poliana","changes":[{"rev":"2-b"}],"deleted":true}
+                {"last_seq":"2","pending":0}
+                """;
+        AtomicBoolean cancelled = new AtomicBoolean();
+        var source = new ChangesSpliterator.ContinuousSource(() -> closed.set(true),
+                new ByteArrayInputStream(feed.getBytes(UTF_8)), () -> cancelled.set(true));
+
+        List<CouchDBChange> result = StreamSupport.stream(spliterator(source, 10), false).toList();
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).revision()).isEqualTo("1-a");
+        assertThat(result.get(0).entity()).map(CommunicationEntity::name).contains("Person");
+        assertThat(result.get(1).deleted()).isTrue();
+        assertThat(result.get(1).entity()).isEmpty();
+        assertThat(store.load("consumer")).contains("2");
+        assertThat(closed).isTrue();
+        assertThat(cancelled).isFalse();
+    }
+
+    @Test
+    void shouldCancelContinuousFeedClosedEarly() {
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        String feed = """
+                {"seq":"1","id":"otavio","changes":[{"rev":"1-a"}]}
+                {"seq":"2","id":"poliana","changes":[{"rev":"2-b"}]}
+                """;
+        var source = new ChangesSpliterator.ContinuousSource(() -> closed.set(true),
+                new ByteArrayInputStream(feed.getBytes(UTF_8)), () -> cancelled.set(true));
+        var changes = spliterator(source, 10);
+
+        try (var stream = StreamSupport.stream(changes, false).onClose(changes::close)) {
+            assertThat(stream.findFirst()).isPresent();
+        }
+
+        assertThat(cancelled).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidOptions() {
+        assertThatThrownBy(() -> CouchDBChangesOptions.since("0").withBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CouchDBChangesOptions.since("0").withFilter("app/people").withCollection("Person"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ChangesSpliterator spliterator(ChangesSpliterator.Source source, int batchSize) {
+        var options = CouchDBChangesOptions.since("0").withBatchSize(batchSize).withCheckpoint(store, "consumer");
+        return new ChangesSpliterator(source, json -> CouchDBChange.of(json, ChangesSpliteratorTest::toEntity),
+                options);
+    }
+
+    private static CommunicationEntity toEntity(Map<String, Object> json) {
+        return CommunicationEntity.of(json.get(CouchDBConstant.ENTITY).toString());
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> page(String lastSeq, long pending, Map<String, Object>... rows) {
+        return Map.of("results", List.of(rows), "last_seq", lastSeq, "pending", pending);
+    }
+
+    private static Map<String, Object> row(String seq, String id) {
+        return Map.of("seq", seq, "id", id, "changes", List.of(Map.of("rev", "1-" + id)));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CouchDBBulkFailureTest {
+
+    @Test
+    void shouldReadBulkDocsError() {
+        var failure = CouchDBBulkFailure.of(Map.of("id", "otavio", "error", "conflict",
+                "reason", "Document update conflict."));
+        assertSoftly(softly -> {
+            softly.assertThat(failure.id()).isEqualTo("otavio");
+            softly.assertThat(failure.error()).isEqualTo("conflict");
+            softly.assertThat(failure.reason()).isEqualTo("Document update conflict.");
+            softly.assertThat(failure.isConflict()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldListConflicts() {
+        var conflict = new CouchDBBulkFailure("otavio", "conflict", "Document update conflict.");
+        var forbidden = new CouchDBBulkFailure("poliana", "forbidden", "Invalid document.");
+        var exception = new CouchDBBulkException(List.of(conflict, forbidden));
+        assertThat(exception.failures()).containsExactly(conflict, forbidden);
+        assertThat(exception.conflicts()).containsExactly(conflict);
+    }
+
+    @Test
+    void shouldRejectNonPositiveBulkSize() {
+        assertThatThrownBy(() -> new CouchDBHttpConfigurationBuilder().bulkSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
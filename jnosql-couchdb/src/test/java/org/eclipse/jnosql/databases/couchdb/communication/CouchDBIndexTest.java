@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class CouchDBIndexTest {
+
+    @Test
+    void shouldParseDeclaration() {
+        var index = CouchDBIndex.parse(" Person : name, age ");
+        assertSoftly(softly -> {
+            softly.assertThat(index.name()).isEqualTo("Person-name-age");
+            softly.assertThat(index.collection()).isEqualTo("Person");
+            softly.assertThat(index.fields()).containsExactly("name", "age");
+            softly.assertThat(index.designDocument()).isEqualTo("jnosql-Person-name-age");
+        });
+    }
+
+    @Test
+    void shouldRejectDeclarationWithoutFields() {
+        assertThatThrownBy(() -> CouchDBIndex.parse("Person"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CouchDBIndex.parse("Person:"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateRequest() {
+        var request = CouchDBIndex.of("Person", "name").toRequest();
+        assertThat(request).containsEntry("index", Map.of("fields", List.of("@entity", "name")))
+                .containsEntry("name", "Person-name")
+                .containsEntry("ddoc", "jnosql-Person-name")
+                .containsEntry("type", "json");
+    }
+
+    @Test
+    void shouldPickIndexWithMostFields() {
+        var name = CouchDBIndex.of("Person", "name");
+        var nameAge = CouchDBIndex.of("Person", "name", "age");
+        var city = CouchDBIndex.of("Person", "city");
+        var query = select().from("Person").where("name").eq("Ada").and("age").gt(10).build();
+        assertThat(CouchDBIndex.bestFor(query, List.of(name, nameAge, city))).contains(nameAge);
+    }
+
+    @Test
+    void shouldIgnoreIndexOfOtherEntity() {
+        var index = CouchDBIndex.of("Book", "name");
+        var query = select().from("Person").where("name").eq("Ada").build();
+        assertThat(CouchDBIndex.bestFor(query, List.of(index))).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreFieldsUnderOr() {
+        var index = CouchDBIndex.of("Person", "name");
+        var query = select().from("Person").where("name").eq("Ada").or("name").eq("Poliana").build();
+        assertThat(CouchDBIndex.bestFor(query, List.of(index))).isEmpty();
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +45,7 @@ import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
 class DefaultCouchDBDocumentManagerTest {
@@ -89,6 +91,23 @@ class DefaultCouchDBDocumentManagerTest {
         assertThat(updated.find("newField").get()).isEqualTo(newField);
     }
 
+    @Test
+    void shouldUpdateWithStaleRevision() {
+        var entity = entityManager.insert(getEntity());
+        var stale = entity.find(CouchDBConstant.REV).orElseThrow().get();
+        entity.add(Elements.of("newField", "10"));
+        entityManager.update(entity);
+
+        entity.add(CouchDBConstant.REV, stale);
+        entity.add(Elements.of("newField", "20"));
+        var updated = entityManager.update(entity);
+        assertThat(updated.find(CouchDBConstant.REV).orElseThrow().get()).isNotEqualTo(stale);
+        var query = select().from(COLLECTION_NAME)
+                .where(CouchDBConstant.ID).eq(entity.find(CouchDBConstant.ID).orElseThrow().get()).build();
+        assertThat(entityManager.singleResult(query).orElseThrow().find("newField").orElseThrow().get())
+                .isEqualTo("20");
+    }
+
     @Test
     void shouldReturnErrorOnUpdate() {
         assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> entityManager.update((CommunicationEntity) null));
@@ -320,6 +339,125 @@ class DefaultCouchDBDocumentManagerTest {
         return entity;
     }
 
+    @Test
+    void shouldInsertAndUpdateInBulk() {
+        List<CommunicationEntity> entities = List.of(getEntity(), getEntity(), getEntity());
+        entityManager.insert(entities);
+        assertThat(entities).allSatisfy(e -> assertThat(e.find(CouchDBConstant.REV)).isPresent());
+
+        entities.forEach(e -> e.add("city", "Salvador da Bahia"));
+        entityManager.update(entities);
+
+        var query = select().from(COLLECTION_NAME).where("city").eq("Salvador da Bahia").build();
+        assertThat(entityManager.select(query).count()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldReportConflictsInBulk() {
+        var existing = entityManager.insert(getEntity());
+        var duplicated = CommunicationEntity.of(COLLECTION_NAME);
+        duplicated.add(CouchDBConstant.ID, existing.find(CouchDBConstant.ID).orElseThrow().get());
+        duplicated.add("name", "Otavio");
+        var fresh = getEntity();
+
+        assertThatExceptionOfType(CouchDBBulkException.class)
+                .isThrownBy(() -> entityManager.insert(List.of(duplicated, fresh)))
+                .satisfies(e -> assertThat(e.conflicts()).hasSize(1));
+        assertThat(fresh.find(CouchDBConstant.REV)).isPresent();
+    }
+
+    @Test
+    void shouldRemoveInBulk() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 60; index++) {
+            entities.add(getEntity());
+        }
+        entityManager.insert(entities);
+
+        entityManager.delete(delete().from(COLLECTION_NAME).where("name").eq("Poliana").build());
+        var query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        assertThat(entityManager.select(query).findAny()).isEmpty();
+    }
+
+    @Test
+    void shouldSelectEveryPage() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 60; index++) {
+            entities.add(getEntity());
+        }
+        entityManager.insert(entities);
+
+        var query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        assertThat(entityManager.select(query).count()).isEqualTo(60L);
+        var limited = select().from(COLLECTION_NAME).where("name").eq("Poliana").skip(5).limit(40).build();
+        assertThat(entityManager.select(limited).count()).isEqualTo(40L);
+    }
+
+    @Test
+    void shouldReleaseConnectionsOfShortCircuitedSelects() {
+        entityManager.insert(List.of(getEntity(), getEntity(), getEntity()));
+        var query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        var documentQuery = CouchDBDocumentQuery.of(query);
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            for (int index = 0; index < 50; index++) {
+                assertThat(entityManager.select(query).findFirst()).isPresent();
+                assertThat(entityManager.select(documentQuery).findAny()).isPresent();
+            }
+        });
+    }
+
+    @Test
+    void shouldCreateIndexOnce() {
+        var index = CouchDBIndex.of(COLLECTION_NAME, "name");
+        entityManager.createIndex(index);
+        entityManager.createIndex(index);
+        entityManager.insert(getEntity());
+
+        var query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        assertThat(entityManager.select(query).count()).isEqualTo(1L);
+        var hinted = CouchDBDocumentQuery.of(query).withIndex(index).withExecutionStats(true);
+        assertThat(entityManager.select(hinted).count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReadChangesAndResumeFromCheckpoint() {
+        var store = entityManager.checkpointStore();
+        var consumer = "test-" + UUID.randomUUID();
+        var options = CouchDBChangesOptions.since("now").withCollection(COLLECTION_NAME)
+                .withCheckpoint(store, consumer);
+        try (var changes = entityManager.changes(options)) {
+            assertThat(changes.count()).isZero();
+        }
+
+        var entity = entityManager.insert(getEntity());
+        try (var changes = entityManager.changes(options)) {
+            var found = changes.toList();
+            assertThat(found).extracting(CouchDBChange::id)
+                    .containsExactly(entity.find(CouchDBConstant.ID).orElseThrow().get(String.class));
+            assertThat(found.get(0).entity()).isPresent();
+        }
+
+        try (var changes = entityManager.changes(options)) {
+            assertThat(changes.count()).isZero();
+        }
+        assertThat(store.load(consumer)).isPresent();
+    }
+
+    @Test
+    void shouldCloseContinuousChangesEarly() {
+        var entity = entityManager.insert(getEntity());
+        var options = CouchDBChangesOptions.since("0").withCollection(COLLECTION_NAME)
+                .withFeed(CouchDBChangesFeed.CONTINUOUS);
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (var changes = entityManager.changes(options)) {
+                assertThat(changes.findFirst()).isPresent();
+            }
+        });
+        assertThat(entityManager.select(select().from(COLLECTION_NAME).build()).toList())
+                .extracting(found -> found.find(CouchDBConstant.ID).orElseThrow().get())
+                .contains(entity.find(CouchDBConstant.ID).orElseThrow().get());
+    }
+
     private CommunicationEntity getEntity() {
         CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
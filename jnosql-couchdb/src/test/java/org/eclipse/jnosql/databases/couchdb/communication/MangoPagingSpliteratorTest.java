@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class MangoPagingSpliteratorTest {
+
+    private final List<SelectQuery> requests = new ArrayList<>();
+
+    @Test
+    void shouldFollowBookmarksUntilAShortPage() {
+        var query = select().from("person").build();
+        var pages = new MangoPagingSpliterator(query, 2, this::page);
+
+        List<Map<String, Object>> documents = StreamSupport.stream(pages, false).toList();
+
+        assertThat(documents).extracting(d -> d.get("_id")).containsExactly("0", "1", "2", "3", "4");
+        assertThat(requests).hasSize(3);
+        assertThat(requests).extracting(SelectQuery::limit).containsOnly(2L);
+        assertThat(requests.get(0)).isNotInstanceOf(CouchDBDocumentQuery.class);
+        assertThat(((CouchDBDocumentQuery) requests.get(2)).getBookmark()).contains("4");
+    }
+
+    @Test
+    void shouldApplySkipOnlyToFirstPageAndStopAtLimit() {
+        var query = select().from("person").skip(1).limit(3).build();
+        var pages = new MangoPagingSpliterator(query, 2, this::page);
+
+        List<Map<String, Object>> documents = StreamSupport.stream(pages, false).toList();
+
+        assertThat(documents).hasSize(3);
+        assertThat(requests).extracting(SelectQuery::skip).containsExactly(1L, 0L);
+        assertThat(requests).extracting(SelectQuery::limit).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldReleaseEachPageBeforeItsDocuments() {
+        var query = select().from("person").build();
+        List<Boolean> released = new ArrayList<>();
+        var pages = new MangoPagingSpliterator(query, 2, (page, bookmark) -> {
+            requests.add(page);
+            released.add(false);
+            int index = released.size() - 1;
+            return new MangoResultSpliterator(() -> released.set(index, true),
+                    new ByteArrayInputStream("{\"docs\":[{\"_id\":\"0\"},{\"_id\":\"1\"}],\"bookmark\":\"2\"}"
+                            .getBytes(UTF_8)), bookmark);
+        });
+
+        assertThat(StreamSupport.stream(pages, false).findFirst()).isPresent();
+        assertThat(released).containsExactly(true);
+    }
+
+    @Test
+    void shouldStopOnEmptyResult() {
+        var query = select().from("person").where("name").eq("none").build();
+        var pages = new MangoPagingSpliterator(query, 2, (page, bookmark) -> {
+            requests.add(page);
+            return spliterator("{\"docs\":[],\"bookmark\":\"nil\"}", bookmark);
+        });
+        assertThat(StreamSupport.stream(pages, false).count()).isZero();
+        assertThat(requests).hasSize(1);
+    }
+
+    /**
+     * Serves five documents, numbered from the bookmark, in pages of the requested limit.
+     */
+    private MangoResultSpliterator page(SelectQuery page, Consumer<String> bookmark) {
+        requests.add(page);
+        int start = page instanceof CouchDBDocumentQuery documentQuery
+                ? Integer.parseInt(documentQuery.getBookmark().orElseThrow()) : (int) page.skip();
+        int end = (int) Math.min(5, start + page.limit());
+        String docs = IntStream.range(start, end)
+                .mapToObj(index -> "{\"_id\":\"" + index + "\"}")
+                .collect(Collectors.joining(","));
+        return spliterator("{\"docs\":[" + docs + "],\"bookmark\":\"" + end + "\"}", bookmark);
+    }
+
+    private static MangoResultSpliterator spliterator(String json, Consumer<String> bookmark) {
+        return new MangoResultSpliterator(() -> { }, new ByteArrayInputStream(json.getBytes(UTF_8)), bookmark);
+    }
+}
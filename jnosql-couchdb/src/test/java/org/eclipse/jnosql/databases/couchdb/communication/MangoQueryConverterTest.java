@@ -146,5 +146,15 @@ class MangoQueryConverterTest {
         assertThat(jsonObject).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @JsonSource("select_all_index_stats.json")
+    public void shouldReturnSelectFromAllIndexStats(JsonObject expected) {
+        var query = select().from("person").build();
+        JsonObject jsonObject = converter.apply(CouchDBDocumentQuery.of(query)
+                .withIndex(CouchDBIndex.of("person", "name"))
+                .withExecutionStats(true));
+        assertThat(jsonObject).isEqualTo(expected);
+    }
+
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MangoResultSpliteratorTest {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final AtomicReference<String> bookmark = new AtomicReference<>();
+
+    @Test
+    void shouldReadDocumentsAndBookmark() {
+        var documents = spliterator("""
+                {"docs":[{"_id":"otavio","age":42,"tags":["a","b"],"address":{"city":"Salvador"},"active":true},
+                {"_id":"poliana","age":null}],
+                "bookmark":"g1AAAA","warning":"no matching index found"}""");
+
+        List<Map<String, Object>> result = StreamSupport.stream(documents, false).toList();
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).containsEntry("_id", "otavio")
+                .containsEntry("age", new BigDecimal(42))
+                .containsEntry("tags", List.of("a", "b"))
+                .containsEntry("address", Map.of("city", "Salvador"))
+                .containsEntry("active", true);
+        assertThat(result.get(1)).containsEntry("age", null);
+        assertThat(bookmark.get()).isEqualTo("g1AAAA");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldReadWarningAndExecutionStats() {
+        AtomicReference<Map<String, Object>> metadata = new AtomicReference<>();
+        var documents = new MangoResultSpliterator(() -> closed.set(true), new ByteArrayInputStream("""
+                {"docs":[{"_id":"otavio"}],"bookmark":"g1AAAA","warning":"No matching index found",
+                "execution_stats":{"total_docs_examined":10}}""".getBytes(UTF_8)), bookmark::set, metadata::set);
+
+        assertThat(StreamSupport.stream(documents, false).count()).isEqualTo(1L);
+        assertThat(metadata.get()).containsEntry("warning", "No matching index found")
+                .containsEntry("execution_stats", Map.of("total_docs_examined", new BigDecimal(10)))
+                .containsEntry("bookmark", "g1AAAA");
+    }
+
+    @Test
+    void shouldReadEmptyResult() {
+        var documents = spliterator("{\"docs\":[],\"bookmark\":\"nil\"}");
+        assertThat(StreamSupport.stream(documents, false).count()).isZero();
+        assertThat(bookmark.get()).isEqualTo("nil");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseWithoutReadingEverything() {
+        var documents = spliterator("{\"docs\":[{\"_id\":\"otavio\"},{\"_id\":\"poliana\"}]}");
+        try (var stream = StreamSupport.stream(documents, false).onClose(documents::close)) {
+            assertThat(stream.findFirst()).isPresent();
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseOnInvalidJson() {
+        var documents = spliterator("{\"docs\":[{\"_id\":");
+        assertThatThrownBy(() -> StreamSupport.stream(documents, false).toList())
+                .isInstanceOf(CouchDBHttpClientException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldReadAllAndClose() {
+        var documents = spliterator("{\"docs\":[{\"_id\":\"otavio\"},{\"_id\":\"poliana\"}],\"bookmark\":\"g1\"}");
+        assertThat(documents.readAll()).extracting(d -> d.get("_id")).containsExactly("otavio", "poliana");
+        assertThat(bookmark.get()).isEqualTo("g1");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseWhenReadAllFails() {
+        var documents = spliterator("{\"docs\":[{\"_id\":");
+        assertThatThrownBy(documents::readAll).isInstanceOf(CouchDBHttpClientException.class);
+        assertThat(closed).isTrue();
+    }
+
+    private MangoResultSpliterator spliterator(String json) {
+        return new MangoResultSpliterator(() -> closed.set(true),
+                new ByteArrayInputStream(json.getBytes(UTF_8)), bookmark::set);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RevisionCacheTest {
+
+    @Test
+    void shouldKeepLatestRevision() {
+        var cache = new RevisionCache(10);
+        cache.put("otavio", "1-a");
+        cache.put("otavio", "2-b");
+        assertThat(cache.get("otavio")).contains("2-b");
+        cache.remove("otavio");
+        assertThat(cache.get("otavio")).isEmpty();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new RevisionCache(2);
+        cache.put("otavio", "1-a");
+        cache.put("poliana", "1-b");
+        cache.get("otavio");
+        cache.put("ada", "1-c");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("otavio")).contains("1-a");
+        assertThat(cache.get("poliana")).isEmpty();
+        assertThat(cache.get("ada")).contains("1-c");
+    }
+
+    @Test
+    void shouldKeepNothingWhenDisabled() {
+        var cache = new RevisionCache(0);
+        cache.put("otavio", "1-a");
+        assertThat(cache.get("otavio")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectNegativeSize() {
+        assertThatThrownBy(() -> new CouchDBHttpConfigurationBuilder().revisionCacheSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
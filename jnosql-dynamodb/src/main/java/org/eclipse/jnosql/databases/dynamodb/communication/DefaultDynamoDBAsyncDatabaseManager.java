@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toAttributeValue;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toCommunicationEntity;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toItem;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toItemUpdate;
+
+/**
+ * Provides the default asynchronous dynamo db database manager support. The tables are described once and kept,
+ * and created with the same defaults as {@link DefaultDynamoDBDatabaseManager} when
+ * {@link DynamoDBConfigurations#CREATE_TABLES} is enabled.
+ */
+public class DefaultDynamoDBAsyncDatabaseManager implements DynamoDBAsyncDatabaseManager {
+
+    private final String database;
+
+    private final Settings settings;
+
+    private final DynamoDbAsyncClient client;
+
+    private final DynamoDBAsyncBatch batch;
+
+    private final ConcurrentHashMap<String, CompletableFuture<TableDescription>> tables = new ConcurrentHashMap<>();
+
+/**
+ * Returns the default asynchronous dynamo db database manager.
+ *
+ * @param database the database
+ * @param client the asynchronous dynamo db client
+ * @param settings the settings
+ */
+    public DefaultDynamoDBAsyncDatabaseManager(String database, DynamoDbAsyncClient client, Settings settings) {
+        this.database = database;
+        this.client = client;
+        this.settings = settings;
+        this.batch = DynamoDBAsyncBatch.of(client, settings);
+    }
+
+    @Override
+    public String name() {
+        return database;
+    }
+
+    @Override
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        return client;
+    }
+
+    @Override
+    public CompletableFuture<CommunicationEntity> insert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return table(entity.name())
+                .thenCompose(table -> client.putItem(PutItemRequest.builder()
+                        .tableName(table.tableName())
+                        .item(toItem(entity))
+                        .build()))
+                .thenApply(response -> entity);
+    }
+
+    @Override
+    public CompletableFuture<List<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> result = StreamSupport.stream(entities.spliterator(), false).toList();
+        CompletableFuture<?>[] writes = result.stream()
+                .collect(Collectors.groupingBy(CommunicationEntity::name, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(group -> table(group.getKey()).thenCompose(table -> batch.write(table.tableName(),
+                        group.getValue().stream()
+                                .map(entity -> WriteRequest.builder()
+                                        .putRequest(PutRequest.builder().item(toItem(entity)).build())
+                                        .build())
+                                .toList(), keyAttributes(table))))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(writes).thenApply(ignored -> result);
+    }
+
+    @Override
+    public CompletableFuture<CommunicationEntity> update(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return table(entity.name())
+                .thenCompose(table -> {
+                    Map<String, AttributeValue> key = key(table, entity);
+                    Map<String, AttributeValueUpdate> updates = toItemUpdate(entity);
+                    key.keySet().forEach(updates::remove);
+                    return client.updateItem(UpdateItemRequest.builder()
+                            .tableName(table.tableName())
+                            .key(key)
+                            .attributeUpdates(updates)
+                            .build());
+                })
+                .thenApply(response -> entity);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return table(query.name()).thenCompose(table -> {
+            List<String> keyAttributes = keyAttributes(table);
+            var selectQuery = SelectQuery.builder()
+                    .select(keyAttributes.toArray(new String[0]))
+                    .from(query.name());
+            query.condition().ifPresent(selectQuery::where);
+            Optional<DynamoDBQuery> item = new DynamoDBQuerySelectBuilder(query.name(), selectQuery.build(), table).item();
+            if (item.isPresent()) {
+                return client.deleteItem(item.get().deleteItemRequest(table.tableName()).build())
+                        .<Void>thenApply(response -> null)
+                        .exceptionally(error -> {
+                            if (DynamoDBPublishers.unwrap(error) instanceof ConditionalCheckFailedException) {
+                                return null;
+                            }
+                            throw error instanceof RuntimeException exception ? exception
+                                    : new IllegalStateException(error);
+                        });
+            }
+            return batch.write(table.tableName(), select(selectQuery.build())
+                    .map(entity -> WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder().key(key(table, entity)).build())
+                            .build()), keyAttributes);
+        });
+    }
+
+    @Override
+    public SdkPublisher<CommunicationEntity> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return page(DynamoDBPublishers.defer(table(query.name()).thenApply(table -> {
+            DynamoDBQuery dynamoDBQuery = DynamoDBQuery.builderOf(query.name(), query, table).get()
+                    .withConsistentRead(DynamoTableUtils.consistentRead(query.name(), settings));
+            if (dynamoDBQuery.isGetItem()) {
+                return DynamoDBPublishers.defer(client.getItem(dynamoDBQuery.getItemRequest(table.tableName()).build())
+                        .thenApply(response -> response.hasItem() && !response.item().isEmpty()
+                                ? DynamoDBPublishers.of(List.of(toCommunicationEntity(dynamoDBQuery.table(), response.item())))
+                                : DynamoDBPublishers.<CommunicationEntity>of(List.of())));
+            }
+            Integer pageSize = query.limit() > 0 && dynamoDBQuery.filterExpression().isBlank()
+                    ? (int) Math.min(query.skip() + query.limit(), Integer.MAX_VALUE) : null;
+            if (dynamoDBQuery.isQuery()) {
+                return client.queryPaginator(dynamoDBQuery.queryRequest(table.tableName()).limit(pageSize).build())
+                        .items()
+                        .map(item -> toCommunicationEntity(dynamoDBQuery.table(), item));
+            }
+            return client.scanPaginator(dynamoDBQuery.scanRequest(table.tableName()).limit(pageSize).build())
+                    .items()
+                    .map(item -> toCommunicationEntity(dynamoDBQuery.table(), item));
+        })), query);
+    }
+
+    /**
+     * Applies the skip and the limit of the query, like {@link DefaultDynamoDBDatabaseManager#select(SelectQuery)};
+     * the limit cancels the subscription to the pages once it is reached.
+     */
+    private static SdkPublisher<CommunicationEntity> page(SdkPublisher<CommunicationEntity> entities, SelectQuery query) {
+        SdkPublisher<CommunicationEntity> page = entities;
+        if (query.skip() > 0) {
+            page = DynamoDBPublishers.skip(page, query.skip());
+        }
+        if (query.limit() > 0) {
+            page = page.limit((int) Math.min(query.limit(), Integer.MAX_VALUE));
+        }
+        return page;
+    }
+
+    @Override
+    public CompletableFuture<Long> count(String table) {
+        requireNonNull(table, "table is required");
+        return client.describeTable(DescribeTableRequest.builder().tableName(table).build())
+                .thenApply(response -> response.table().itemCount())
+                .exceptionally(error -> {
+                    if (DynamoDBPublishers.unwrap(error) instanceof ResourceNotFoundException) {
+                        return 0L;
+                    }
+                    throw error instanceof RuntimeException exception ? exception
+                            : new IllegalStateException(error);
+                });
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private CompletableFuture<TableDescription> table(String name) {
+        CompletableFuture<TableDescription> table = tables.computeIfAbsent(name, this::resolveTable);
+        table.whenComplete((description, error) -> {
+            if (error != null) {
+                tables.remove(name, table);
+            }
+        });
+        return table;
+    }
+
+    private CompletableFuture<TableDescription> resolveTable(String name) {
+        return client.describeTable(DescribeTableRequest.builder().tableName(name).build())
+                .thenApply(DescribeTableResponse::table)
+                .exceptionallyCompose(error -> {
+                    Throwable cause = DynamoDBPublishers.unwrap(error);
+                    if (cause instanceof ResourceNotFoundException && DynamoTableUtils.shouldCreateTables(settings)) {
+                        return createTable(name);
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    private CompletableFuture<TableDescription> createTable(String name) {
+        var waiter = client.waiter();
+        return client.createTable(DynamoTableUtils.createTableRequest(name, settings))
+                .thenCompose(created -> waiter.waitUntilTableExists(DescribeTableRequest.builder().tableName(name).build()))
+                .thenApply(response -> response.matched().response().orElseThrow().table())
+                .whenComplete((description, error) -> waiter.close());
+    }
+
+    private static List<String> keyAttributes(TableDescription table) {
+        return table.keySchema().stream().map(KeySchemaElement::attributeName).toList();
+    }
+
+    private static Map<String, AttributeValue> key(TableDescription table, CommunicationEntity entity) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (KeySchemaElement attribute : table.keySchema()) {
+            key.put(attribute.attributeName(),
+                    toAttributeValue(entity.find(attribute.attributeName(), Object.class).orElse(null)));
+        }
+        return key;
+    }
+}
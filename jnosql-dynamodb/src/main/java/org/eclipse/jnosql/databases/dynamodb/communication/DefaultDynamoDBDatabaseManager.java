@@ -15,44 +15,61 @@
 
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
-import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveResponse;
 import software.amazon.awssdk.services.dynamodb.model.ExecuteStatementRequest;
 import software.amazon.awssdk.services.dynamodb.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
-import software.amazon.awssdk.services.dynamodb.model.KeyType;
-import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
-import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -77,6 +94,20 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
 
     private final ConcurrentHashMap<String, DescribeTableResponse> tables = new ConcurrentHashMap<>();
 
+    private final DynamoDBBatch batch;
+
+    private final DynamoDBCapacity capacity;
+
+    private static final int MAX_SEGMENTS = 1_000_000;
+
+    private static final Pattern WHERE = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The smallest {@code Limit} of a cursor page read with a filter expression. DynamoDB applies the limit before the
+     * filter, so a small one would read a selective filter one item per request.
+     */
+    private static final int FILTERED_PAGE_SIZE = 100;
+
 /**
  * Returns the default dynamo dbdatabase manager.
  *
@@ -88,6 +119,8 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         this.settings = settings;
         this.database = database;
         this.dynamoDbClient = dynamoDbClient;
+        this.capacity = DynamoDBCapacity.of(settings);
+        this.batch = DynamoDBBatch.of(dynamoDbClient, settings, capacity);
     }
 
     @Override
@@ -103,10 +136,12 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity documentEntity) {
         requireNonNull(documentEntity, "documentEntity is required");
-        dynamoDbClient().putItem(PutItemRequest.builder()
+        Consumer<ConsumedCapacity> report = capacity.reporter("PutItem");
+        report.accept(dynamoDbClient().putItem(PutItemRequest.builder()
                 .tableName(createTableIfNeeded(documentEntity.name()).table().tableName())
                 .item(toItem(documentEntity))
-                .build());
+                .returnConsumedCapacity(capacity.mode())
+                .build()).consumedCapacity());
         return documentEntity;
     }
 
@@ -133,12 +168,19 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         try {
             return getDescribeTableResponse(tableName);
         } catch (ResourceNotFoundException ex) {
-            if (!shouldCreateTables())
+            if (!DynamoTableUtils.shouldCreateTables(settings))
                 throw ex;
             return createTable(tableName);
         }
     }
 
+    /**
+     * Returns the cached description of an existing table, without creating it.
+     */
+    private DescribeTableResponse describeTable(String tableName) {
+        return this.tables.computeIfAbsent(tableName, this::getDescribeTableResponse);
+    }
+
     private DescribeTableResponse getDescribeTableResponse(String tableName) {
         return dynamoDbClient().describeTable(DescribeTableRequest.builder()
                 .tableName(tableName)
@@ -148,12 +190,7 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     private DescribeTableResponse createTable(String tableName) {
         try (var waiter = dynamoDbClient().waiter()) {
 
-            dynamoDbClient().createTable(CreateTableRequest.builder()
-                    .tableName(tableName)
-                    .keySchema(defaultKeySchemaFor(tableName))
-                    .attributeDefinitions(defaultAttributeDefinitionsFor(tableName))
-                    .provisionedThroughput(defaultProvisionedThroughputFor(tableName))
-                    .build());
+            dynamoDbClient().createTable(DynamoTableUtils.createTableRequest(tableName, settings));
 
             var tableRequest = DescribeTableRequest.builder().tableName(tableName).build();
             var waiterResponse = waiter.waitUntilTableExists(tableRequest);
@@ -161,63 +198,49 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         }
     }
 
-    private ProvisionedThroughput defaultProvisionedThroughputFor(String tableName) {
-        return DynamoTableUtils.createProvisionedThroughput(
-                this.settings.get(DynamoDBConfigurations.ENTITY_READ_CAPACITY_UNITS.get().formatted(tableName), Long.class)
-                        .orElse(null),
-                this.settings.get(DynamoDBConfigurations.ENTITY_WRITE_CAPACITY_UNITS.get().formatted(tableName), Long.class)
-                        .orElse(null));
-    }
-
-    private Collection<AttributeDefinition> defaultAttributeDefinitionsFor(String tableName) {
-        return List.of(
-                AttributeDefinition.builder()
-                        .attributeName(partitionKeyName(tableName, DynamoDBConverter.ID)).attributeType(ScalarAttributeType.S).build()
-        );
-    }
-
-    private Collection<KeySchemaElement> defaultKeySchemaFor(String tableName) {
-        return List.of(
-                KeySchemaElement.builder()
-                        .attributeName(partitionKeyName(tableName, DynamoDBConverter.ID)).keyType(KeyType.HASH).build()
-        );
-    }
-
-    private String partitionKeyName(String table, String defaultName) {
-        return this.settings
-                .get(DynamoDBConfigurations.ENTITY_PARTITION_KEY.get().formatted(table), String.class)
-                .orElse(defaultName);
-    }
-
-    private boolean shouldCreateTables() {
-        return this.settings
-                .get(DynamoDBConfigurations.CREATE_TABLES, Boolean.class)
-                .orElse(false);
-    }
-
     @Override
     public CommunicationEntity insert(CommunicationEntity documentEntity, Duration ttl) {
         requireNonNull(documentEntity, "documentEntity is required");
         requireNonNull(ttl, "ttl is required");
+        return insert(withTTL(documentEntity, ttl));
+    }
+
+    private CommunicationEntity withTTL(CommunicationEntity documentEntity, Duration ttl) {
         documentEntity.add(getTTLAttributeName(documentEntity.name()).get(), Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS));
-        return insert(documentEntity);
+        return documentEntity;
     }
 
+    /**
+     * Writes the entities of each table with chunked {@code BatchWriteItem} calls; when several entities have the
+     * same key, the last one wins, as it would with one {@code PutItem} per entity.
+     */
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities are required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .toList();
+        List<CommunicationEntity> result = StreamSupport.stream(entities.spliterator(), false).toList();
+        result.stream()
+                .collect(Collectors.groupingBy(CommunicationEntity::name, LinkedHashMap::new, Collectors.toList()))
+                .forEach((name, group) -> {
+                    TableDescription table = createTableIfNeeded(name).table();
+                    batch.write(table.tableName(), group.stream()
+                            .map(entity -> WriteRequest.builder()
+                                    .putRequest(PutRequest.builder().item(toItem(entity)).build())
+                                    .build()), keyAttributes(table));
+                });
+        return result;
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> this.insert(e, ttl))
-                .toList();
+        return insert(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> withTTL(e, ttl))
+                .toList());
+    }
+
+    private static List<String> keyAttributes(TableDescription table) {
+        return table.keySchema().stream().map(KeySchemaElement::attributeName).toList();
     }
 
     @Override
@@ -226,16 +249,18 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         Map<String, AttributeValue> itemKey = getItemKey(documentEntity);
         Map<String, AttributeValueUpdate> attributeUpdates = asItemToUpdate(documentEntity);
         itemKey.keySet().forEach(attributeUpdates::remove);
-        dynamoDbClient().updateItem(UpdateItemRequest.builder()
+        Consumer<ConsumedCapacity> report = capacity.reporter("UpdateItem");
+        report.accept(dynamoDbClient().updateItem(UpdateItemRequest.builder()
                 .tableName(createTableIfNeeded(documentEntity.name()).table().tableName())
                 .key(itemKey)
                 .attributeUpdates(attributeUpdates)
-                .build());
+                .returnConsumedCapacity(capacity.mode())
+                .build()).consumedCapacity());
         return documentEntity;
     }
 
     private Map<String, AttributeValue> getItemKey(CommunicationEntity documentEntity) {
-        DescribeTableResponse describeTableResponse = this.tables.computeIfAbsent(documentEntity.name(), this::getDescribeTableResponse);
+        DescribeTableResponse describeTableResponse = describeTable(documentEntity.name());
         Map<String, AttributeValue> itemKey = describeTableResponse
                 .table()
                 .keySchema()
@@ -261,62 +286,318 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
                 .toList();
     }
 
+    /**
+     * Deletes the item with {@code DeleteItem} when the condition has the equality of the whole primary key, with the
+     * rest of the condition as its condition expression; otherwise, it selects the keys of the matching items, by
+     * {@code Query} when it can, and deletes them with chunked {@code BatchWriteItem} calls as they are read.
+     */
     @Override
     public void delete(DeleteQuery deleteQuery) {
         Objects.requireNonNull(deleteQuery, "deleteQuery is required");
 
-        List<String> primaryKeys = getDescribeTableResponse(deleteQuery.name())
-                .table()
-                .keySchema()
-                .stream()
-                .map(KeySchemaElement::attributeName).toList();
-
+        TableDescription table = describeTable(deleteQuery.name()).table();
+        List<String> primaryKeys = keyAttributes(table);
 
         var selectQueryBuilder = SelectQuery.builder()
                 .select(primaryKeys.toArray(new String[0]))
                 .from(deleteQuery.name());
 
         deleteQuery.condition().ifPresent(selectQueryBuilder::where);
+        SelectQuery selectQuery = selectQueryBuilder.build();
+
+        Optional<DynamoDBQuery> item = new DynamoDBQuerySelectBuilder(deleteQuery.name(), selectQuery, table).item();
+        if (item.isPresent()) {
+            Consumer<ConsumedCapacity> report = capacity.reporter("DeleteItem");
+            try {
+                report.accept(dynamoDbClient().deleteItem(item.get().deleteItemRequest(table.tableName())
+                        .returnConsumedCapacity(capacity.mode())
+                        .build()).consumedCapacity());
+            } catch (ConditionalCheckFailedException exception) {
+                // the item does not match the rest of the condition, so there is nothing to delete
+            }
+            return;
+        }
 
-        select(selectQueryBuilder.build()).forEach(
-                documentEntity ->
-                        dynamoDbClient().deleteItem(DeleteItemRequest.builder()
-                                .tableName(deleteQuery.name())
-                                .key(getItemKey(documentEntity))
-                                .build()));
+        try (Stream<CommunicationEntity> entities = select(selectQuery)) {
+            batch.write(deleteQuery.name(), entities.map(documentEntity -> WriteRequest.builder()
+                    .deleteRequest(DeleteRequest.builder().key(getItemKey(documentEntity)).build())
+                    .build()), primaryKeys);
+        }
     }
 
+    /**
+     * Reads a single item with {@code GetItem} when the condition is the whole primary key, runs a {@code Query} on
+     * the table or on a secondary index when the condition has the equality of its partition key, and scans the
+     * table otherwise, with the consistency configured for the table. Without a filter expression, the query limit,
+     * plus its skip, is the page size of the requests; with one, the requests keep the default page size, because
+     * DynamoDB applies the limit before the filter. No page is read once the stream has the limit.
+     */
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
+        return select(query, DynamoTableUtils.consistentRead(query.name(), settings));
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query, boolean consistentRead) {
+        Objects.requireNonNull(query, "query is required");
+        TableDescription table = createTableIfNeeded(query.name()).table();
         DynamoDBQuery dynamoDBQuery = DynamoDBQuery
-                .builderOf(query.name(), query)
-                .get();
+                .builderOf(query.name(), query, table)
+                .get()
+                .withConsistentRead(consistentRead);
+
+        if (dynamoDBQuery.isGetItem()) {
+            return page(getItem(table.tableName(), dynamoDBQuery), query);
+        }
+        Integer pageSize = query.limit() > 0 && dynamoDBQuery.filterExpression().isBlank()
+                ? (int) Math.min(query.skip() + query.limit(), Integer.MAX_VALUE) : null;
+        if (dynamoDBQuery.isQuery()) {
+            return page(query(dynamoDBQuery.queryRequest(table.tableName()).limit(pageSize).build(),
+                    dynamoDBQuery.table()), query);
+        }
+
+        int totalSegments = this.settings.get(DynamoDBConfigurations.SCAN_SEGMENTS, Integer.class).orElse(1);
+        if (totalSegments > 1) {
+            checkSegments(0, totalSegments);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            return page(parallelScan(query, totalSegments, executor, consistentRead), query)
+                    .onClose(executor::shutdownNow);
+        }
+        return page(scan(dynamoDBQuery.scanRequest(table.tableName()).limit(pageSize).build(),
+                dynamoDBQuery.table()), query);
+    }
 
-        ScanRequest.Builder selectRequest = ScanRequest.builder()
-                .consistentRead(true)
-                .tableName(createTableIfNeeded(dynamoDBQuery.table()).table().tableName())
-                .projectionExpression(dynamoDBQuery.projectionExpression())
-                .select(dynamoDBQuery.projectionExpression() != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES);
+    /**
+     * Applies the skip and the limit of the query. DynamoDB has no offset, so the skipped items are still read;
+     * {@link #selectCursor(SelectQuery, PageRequest)} reads any page at the cost of the first one.
+     */
+    private static Stream<CommunicationEntity> page(Stream<CommunicationEntity> entities, SelectQuery query) {
+        Stream<CommunicationEntity> page = entities;
+        if (query.skip() > 0) {
+            page = page.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            page = page.limit(query.limit());
+        }
+        return page;
+    }
 
-        if (!dynamoDBQuery.filterExpression().isBlank()) {
-            selectRequest = selectRequest.filterExpression(dynamoDBQuery.filterExpression());
+    /**
+     * Reads a page from the {@code LastEvaluatedKey} of the previous one, sent back as the {@code ExclusiveStartKey},
+     * so every page costs the same. The skip and the limit of the query are ignored, the page request sets them. A
+     * request with a filter expression reads at least {@value #FILTERED_PAGE_SIZE} items, and the cursor is then the
+     * key of the last item of the page. A page request without a cursor after the first page still reads the items
+     * before it, and DynamoDB cursors only read forward.
+     *
+     * @throws UnsupportedOperationException when the page request asks for the page before a cursor
+     */
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest pageRequest) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        if (pageRequest.mode() == PageRequest.Mode.CURSOR_PREVIOUS) {
+            throw new UnsupportedOperationException("DynamoDB cursors only read forward");
+        }
+        TableDescription table = createTableIfNeeded(query.name()).table();
+        DynamoDBQuery dynamoDBQuery = DynamoDBQuery.builderOf(query.name(), query, table).get()
+                .withConsistentRead(DynamoTableUtils.consistentRead(query.name(), settings));
+        Set<String> keyAttributes = keyAttributes(table, dynamoDBQuery.indexName());
+        dynamoDBQuery = dynamoDBQuery.withProjectedAttributes(keyAttributes);
+
+        int size = pageRequest.size();
+        long skip = pageRequest.mode() == PageRequest.Mode.OFFSET ? (pageRequest.page() - 1) * size : 0;
+        Map<String, AttributeValue> lastKey = pageRequest.cursor().map(DynamoDBCursor::key).orElse(null);
+        List<Map<String, AttributeValue>> items = new ArrayList<>(size);
+        if (dynamoDBQuery.isGetItem()) {
+            GetItemResponse response = dynamoDbClient().getItem(dynamoDBQuery.getItemRequest(table.tableName())
+                    .returnConsumedCapacity(capacity.mode())
+                    .build());
+            capacity.reporter("GetItem").accept(response.consumedCapacity());
+            if (response.hasItem() && !response.item().isEmpty() && lastKey == null && skip == 0) {
+                items.add(response.item());
+            }
+            lastKey = null;
+        } else {
+            Consumer<ConsumedCapacity> report = capacity.reporter(dynamoDBQuery.isQuery() ? "Query" : "Scan");
+            boolean filtered = !dynamoDBQuery.filterExpression().isBlank();
+            long skipped = 0;
+            do {
+                int limit = (int) Math.min(skip - skipped + size - items.size(), Integer.MAX_VALUE);
+                if (filtered) {
+                    limit = Math.max(limit, FILTERED_PAGE_SIZE);
+                }
+                List<Map<String, AttributeValue>> page;
+                if (dynamoDBQuery.isQuery()) {
+                    QueryResponse response = dynamoDbClient().query(dynamoDBQuery.queryRequest(table.tableName())
+                            .limit(limit)
+                            .exclusiveStartKey(lastKey)
+                            .returnConsumedCapacity(capacity.mode())
+                            .build());
+                    report.accept(response.consumedCapacity());
+                    page = response.items();
+                    lastKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+                } else {
+                    ScanResponse response = dynamoDbClient().scan(dynamoDBQuery.scanRequest(table.tableName())
+                            .limit(limit)
+                            .exclusiveStartKey(lastKey)
+                            .returnConsumedCapacity(capacity.mode())
+                            .build());
+                    report.accept(response.consumedCapacity());
+                    page = response.items();
+                    lastKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+                }
+                for (int index = 0; index < page.size(); index++) {
+                    Map<String, AttributeValue> item = page.get(index);
+                    if (skipped < skip) {
+                        skipped++;
+                    } else if (items.size() < size) {
+                        items.add(item);
+                    } else {
+                        lastKey = key(page.get(index - 1), keyAttributes);
+                        break;
+                    }
+                }
+                if (lastKey != null && lastKey.isEmpty()) {
+                    lastKey = null;
+                }
+            } while (items.size() < size && lastKey != null);
         }
 
-        if (!dynamoDBQuery.expressionAttributeNames().isEmpty()) {
-            selectRequest = selectRequest
-                    .expressionAttributeNames(dynamoDBQuery.expressionAttributeNames());
+        String entityName = dynamoDBQuery.table();
+        List<CommunicationEntity> content = items.stream().map(item -> toCommunicationEntity(entityName, item)).toList();
+        List<PageRequest.Cursor> cursors = items.stream()
+                .map(item -> DynamoDBCursor.of(key(item, keyAttributes)))
+                .toList();
+        PageRequest next = lastKey == null ? null
+                : PageRequest.afterCursor(DynamoDBCursor.of(lastKey), pageRequest.page() + 1, size, false);
+        return new DynamoDBCursoredPage<>(content, cursors, pageRequest, next);
+    }
+
+    /**
+     * Returns the attributes of the {@code LastEvaluatedKey} of the table or of its index: the table keys, plus the
+     * index keys.
+     */
+    private static Set<String> keyAttributes(TableDescription table, String indexName) {
+        Set<String> attributes = new LinkedHashSet<>(keyAttributes(table));
+        if (indexName != null) {
+            table.localSecondaryIndexes().stream()
+                    .filter(index -> indexName.equals(index.indexName()))
+                    .forEach(index -> index.keySchema().forEach(key -> attributes.add(key.attributeName())));
+            table.globalSecondaryIndexes().stream()
+                    .filter(index -> indexName.equals(index.indexName()))
+                    .forEach(index -> index.keySchema().forEach(key -> attributes.add(key.attributeName())));
+        }
+        return attributes;
+    }
 
-            if(!dynamoDBQuery.expressionAttributeValues().isEmpty()) {
-                selectRequest = selectRequest
-                        .expressionAttributeValues(dynamoDBQuery.expressionAttributeValues());
+    private static Map<String, AttributeValue> key(Map<String, AttributeValue> item, Set<String> keyAttributes) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        keyAttributes.forEach(attribute -> {
+            AttributeValue value = item.get(attribute);
+            if (value != null) {
+                key.put(attribute, value);
             }
+        });
+        return key;
+    }
+
+    @Override
+    public Stream<CommunicationEntity> parallelScan(SelectQuery query, int totalSegments) {
+        Objects.requireNonNull(query, "query is required");
+        checkSegments(0, totalSegments);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        return parallelScan(query, totalSegments, executor).onClose(executor::shutdownNow);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> parallelScan(SelectQuery query, int totalSegments, Executor executor) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(executor, "executor is required");
+        checkSegments(0, totalSegments);
+        return parallelScan(query, totalSegments, executor, DynamoTableUtils.consistentRead(query.name(), settings));
+    }
+
+    private Stream<CommunicationEntity> parallelScan(SelectQuery query, int totalSegments, Executor executor,
+                                                     boolean consistentRead) {
+        DynamoDBQuery dynamoDBQuery = DynamoDBQuery.builderOf(query.name(), query).get()
+                .withConsistentRead(consistentRead);
+        ScanRequest request = dynamoDBQuery.scanRequest(createTableIfNeeded(query.name()).table().tableName())
+                .totalSegments(totalSegments)
+                .returnConsumedCapacity(capacity.mode())
+                .build();
+        Consumer<ConsumedCapacity> report = capacity.reporter("Scan");
+        var items = new ParallelScanSpliterator<Map<String, AttributeValue>>(totalSegments,
+                segment -> () -> StreamSupport
+                        .stream(dynamoDbClient().scanPaginator(request.toBuilder().segment(segment).build()).spliterator(), false)
+                        .map(response -> {
+                            report.accept(response.consumedCapacity());
+                            return response.items();
+                        })
+                        .iterator(),
+                executor);
+        return StreamSupport.stream(items, false)
+                .onClose(items::close)
+                .map(item -> toCommunicationEntity(dynamoDBQuery.table(), item));
+    }
+
+    @Override
+    public Stream<CommunicationEntity> scanSegment(SelectQuery query, int segment, int totalSegments) {
+        Objects.requireNonNull(query, "query is required");
+        checkSegments(segment, totalSegments);
+        DynamoDBQuery dynamoDBQuery = DynamoDBQuery.builderOf(query.name(), query).get()
+                .withConsistentRead(DynamoTableUtils.consistentRead(query.name(), settings));
+        ScanRequest request = dynamoDBQuery.scanRequest(createTableIfNeeded(query.name()).table().tableName())
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .build();
+        return scan(request, dynamoDBQuery.table());
+    }
+
+    private static void checkSegments(int segment, int totalSegments) {
+        if (totalSegments < 1 || totalSegments > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("totalSegments must be between 1 and " + MAX_SEGMENTS + ": " + totalSegments);
+        }
+        if (segment < 0 || segment >= totalSegments) {
+            throw new IllegalArgumentException("segment must be between 0 and " + (totalSegments - 1) + ": " + segment);
         }
+    }
 
+    private Stream<CommunicationEntity> scan(ScanRequest request, String entityName) {
+        Consumer<ConsumedCapacity> report = capacity.reporter("Scan");
         return StreamSupport
-                .stream(dynamoDbClient().scanPaginator(selectRequest.build()).spliterator(), false)
-                .flatMap(scanResponse -> scanResponse.items().stream()
-                        .map(item -> toCommunicationEntity(dynamoDBQuery.table(), item)));
+                .stream(dynamoDbClient().scanPaginator(request.toBuilder()
+                        .returnConsumedCapacity(capacity.mode())
+                        .build()).spliterator(), false)
+                .flatMap(scanResponse -> {
+                    report.accept(scanResponse.consumedCapacity());
+                    return scanResponse.items().stream()
+                            .map(item -> toCommunicationEntity(entityName, item));
+                });
+    }
+
+    private Stream<CommunicationEntity> getItem(String tableName, DynamoDBQuery dynamoDBQuery) {
+        GetItemResponse response = dynamoDbClient().getItem(dynamoDBQuery.getItemRequest(tableName)
+                .returnConsumedCapacity(capacity.mode())
+                .build());
+        capacity.reporter("GetItem").accept(response.consumedCapacity());
+        if (!response.hasItem() || response.item().isEmpty()) {
+            return Stream.empty();
+        }
+        return Stream.of(toCommunicationEntity(dynamoDBQuery.table(), response.item()));
+    }
+
+    private Stream<CommunicationEntity> query(QueryRequest request, String entityName) {
+        Consumer<ConsumedCapacity> report = capacity.reporter("Query");
+        return StreamSupport
+                .stream(dynamoDbClient().queryPaginator(request.toBuilder()
+                        .returnConsumedCapacity(capacity.mode())
+                        .build()).spliterator(), false)
+                .flatMap(queryResponse -> {
+                    report.accept(queryResponse.consumedCapacity());
+                    return queryResponse.items().stream()
+                            .map(item -> toCommunicationEntity(entityName, item));
+                });
     }
 
     @Override
@@ -339,23 +620,70 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     @Override
     public Stream<CommunicationEntity> partiQL(String query, String entityName, Object... params) {
         Objects.requireNonNull(query, "query is required");
-        List<AttributeValue> parameters = Stream.of(params).map(DynamoDBConverter::toAttributeValue).toList();
-        ExecuteStatementResponse executeStatementResponse = dynamoDbClient()
-                .executeStatement(ExecuteStatementRequest.builder()
-                        .statement(query)
-                        .parameters(parameters)
-                        .build());
-        List<CommunicationEntity> result = new LinkedList<>();
-        executeStatementResponse.items().forEach(item -> result.add(toCommunicationEntity(entityName, item)));
-        while (executeStatementResponse.nextToken() != null) {
-            executeStatementResponse = dynamoDbClient()
-                    .executeStatement(ExecuteStatementRequest.builder()
-                            .statement(query)
-                            .parameters(parameters)
-                            .nextToken(executeStatementResponse.nextToken())
-                            .build());
-            executeStatementResponse.items().forEach(item -> result.add(toCommunicationEntity(entityName, item)));
+        Objects.requireNonNull(params, "params is required");
+        return partiQL(ExecuteStatementRequest.builder()
+                .statement(query)
+                .parameters(Stream.of(params).map(DynamoDBConverter::toAttributeValue).toList())
+                .build(), entityName);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> partiQL(String query, String entityName, long limit, List<?> params) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(params, "params is required");
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
         }
-        return result.stream();
+        Integer pageSize = WHERE.matcher(query).find() ? null : (int) Math.min(limit, Integer.MAX_VALUE);
+        return partiQL(ExecuteStatementRequest.builder()
+                .statement(query)
+                .parameters(params.stream().map(DynamoDBConverter::toAttributeValue).toList())
+                .limit(pageSize)
+                .build(), entityName)
+                .limit(limit);
+    }
+
+    /**
+     * Reads the pages of the statement one at a time as the stream pulls them, following {@code NextToken}.
+     */
+    private Stream<CommunicationEntity> partiQL(ExecuteStatementRequest request, String entityName) {
+        Consumer<ConsumedCapacity> report = capacity.reporter("ExecuteStatement");
+        var pages = new Spliterators.AbstractSpliterator<ExecuteStatementResponse>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private String nextToken;
+
+            private boolean last;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super ExecuteStatementResponse> action) {
+                if (last) {
+                    return false;
+                }
+                ExecuteStatementResponse response = dynamoDbClient().executeStatement(request.toBuilder()
+                        .nextToken(nextToken)
+                        .returnConsumedCapacity(capacity.mode())
+                        .build());
+                report.accept(response.consumedCapacity());
+                nextToken = response.nextToken();
+                last = nextToken == null;
+                action.accept(response);
+                return true;
+            }
+        };
+        return StreamSupport.stream(pages, false)
+                .flatMap(response -> response.items().stream())
+                .map(item -> toCommunicationEntity(entityName, item));
+    }
+
+    @Override
+    public void partiQLBatch(List<PartiQLStatement> statements) {
+        Objects.requireNonNull(statements, "statements is required");
+        batch.execute(statements.stream()
+                .map(statement -> BatchStatementRequest.builder()
+                        .statement(statement.statement())
+                        .parameters(statement.parameters().stream().map(DynamoDBConverter::toAttributeValue).toList())
+                        .build())
+                .toList());
     }
 }
@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The non-blocking counterpart of {@link DynamoDBBatch}: at most {@link DynamoDBConfigurations#BATCH_CONCURRENCY}
+ * chunks are in flight, the next one is sent when one of them completes, and the unprocessed items are sent again
+ * after the same backoff, scheduled instead of slept.
+ */
+final class DynamoDBAsyncBatch {
+
+    private final DynamoDbAsyncClient client;
+
+    private final int maxRetries;
+
+    private final int concurrency;
+
+    DynamoDBAsyncBatch(DynamoDbAsyncClient client, int maxRetries, int concurrency) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.client = Objects.requireNonNull(client, "client is required");
+        this.maxRetries = maxRetries;
+        this.concurrency = concurrency;
+    }
+
+    static DynamoDBAsyncBatch of(DynamoDbAsyncClient client, Settings settings) {
+        return new DynamoDBAsyncBatch(client,
+                settings.get(DynamoDBConfigurations.BATCH_MAX_RETRIES, Integer.class)
+                        .orElse(DynamoDBBatch.DEFAULT_MAX_RETRIES),
+                settings.get(DynamoDBConfigurations.BATCH_CONCURRENCY, Integer.class)
+                        .orElse(DynamoDBBatch.DEFAULT_CONCURRENCY));
+    }
+
+    /**
+     * Writes the requests, sending only the last request of each key since a batch rejects two requests for the
+     * same item.
+     */
+    CompletableFuture<Void> write(String table, List<WriteRequest> requests, Collection<String> keyAttributes) {
+        Map<Map<String, AttributeValue>, WriteRequest> distinct = new LinkedHashMap<>();
+        for (WriteRequest request : requests) {
+            Map<String, AttributeValue> key = DynamoDBBatch.keyOf(request, keyAttributes);
+            distinct.remove(key);
+            distinct.put(key, request);
+        }
+        return write(table, List.copyOf(distinct.values()));
+    }
+
+    /**
+     * Writes the requests as they are published, like {@link DynamoDBBatch#write(String, java.util.stream.Stream,
+     * Collection)}: a window of one chunk per concurrent call is requested, written, and only then is the next window
+     * requested, so a later request of a key always wins and only one window is held in memory.
+     */
+    CompletableFuture<Void> write(String table, SdkPublisher<WriteRequest> requests, Collection<String> keyAttributes) {
+        WindowedWrite write = new WindowedWrite(table, keyAttributes);
+        requests.subscribe(write);
+        return write.result;
+    }
+
+    /**
+     * Reads the items of the keys, ignoring the keys without an item. The order of the result is undefined.
+     */
+    CompletableFuture<List<Map<String, AttributeValue>>> get(String table, Collection<Map<String, AttributeValue>> keys) {
+        return run(DynamoDBBatch.chunks(List.copyOf(new LinkedHashSet<>(keys)), DynamoDBBatch.MAX_GET_KEYS),
+                chunk -> get(table, KeysAndAttributes.builder().keys(chunk).build(), 0));
+    }
+
+    private CompletableFuture<Void> write(String table, List<WriteRequest> distinct) {
+        return run(DynamoDBBatch.chunks(distinct, DynamoDBBatch.MAX_WRITE_ITEMS), chunk -> write(table, chunk, 0))
+                .thenApply(ignored -> null);
+    }
+
+    private CompletableFuture<List<Void>> write(String table, List<WriteRequest> chunk, int attempt) {
+        return client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(Map.of(table, chunk)).build())
+                .thenCompose(response -> {
+                    List<WriteRequest> unprocessed = response.hasUnprocessedItems()
+                            ? response.unprocessedItems().getOrDefault(table, List.of()) : List.of();
+                    if (unprocessed.isEmpty()) {
+                        return CompletableFuture.completedFuture(List.of());
+                    }
+                    if (attempt == maxRetries) {
+                        return CompletableFuture.failedFuture(new DynamoDBBatchException(unprocessed.size()
+                                + " writes to the table " + table + " were not processed after " + attempt + " retries",
+                                unprocessed, List.of()));
+                    }
+                    return later(attempt).thenCompose(ignored -> write(table, unprocessed, attempt + 1));
+                });
+    }
+
+    private CompletableFuture<List<Map<String, AttributeValue>>> get(String table, KeysAndAttributes keys, int attempt) {
+        return client.batchGetItem(BatchGetItemRequest.builder().requestItems(Map.of(table, keys)).build())
+                .thenCompose(response -> {
+                    List<Map<String, AttributeValue>> items = response.hasResponses()
+                            ? response.responses().getOrDefault(table, List.of()) : List.of();
+                    KeysAndAttributes unprocessed = response.hasUnprocessedKeys()
+                            ? response.unprocessedKeys().get(table) : null;
+                    if (unprocessed == null || unprocessed.keys().isEmpty()) {
+                        return CompletableFuture.completedFuture(items);
+                    }
+                    if (attempt == maxRetries) {
+                        return CompletableFuture.failedFuture(new DynamoDBBatchException(unprocessed.keys().size()
+                                + " keys of the table " + table + " were not read after " + attempt + " retries",
+                                List.of(), unprocessed.keys()));
+                    }
+                    return later(attempt)
+                            .thenCompose(ignored -> get(table, unprocessed, attempt + 1))
+                            .thenApply(more -> {
+                                List<Map<String, AttributeValue>> all = new ArrayList<>(items);
+                                all.addAll(more);
+                                return all;
+                            });
+                });
+    }
+
+    private static CompletableFuture<Void> later(int attempt) {
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(DynamoDBBatch.delay(attempt), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Runs the task on each chunk with at most {@code concurrency} of them in flight: each lane sends the next chunk
+     * when its previous one completes, and a failed chunk does not stop the others.
+     */
+    private <C, T> CompletableFuture<List<T>> run(List<C> chunks, Function<C, CompletableFuture<List<T>>> task) {
+        Lanes<C, T> lanes = new Lanes<>(chunks, task);
+        List<CompletableFuture<Void>> done = new ArrayList<>();
+        for (int index = Math.min(concurrency, chunks.size()); index > 0; index--) {
+            CompletableFuture<Void> lane = new CompletableFuture<>();
+            done.add(lane);
+            lanes.next(lane);
+        }
+        return CompletableFuture.allOf(done.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            if (!lanes.failures.isEmpty()) {
+                throw new CompletionException(DynamoDBBatch.failure(lanes.failures));
+            }
+            return new ArrayList<>(lanes.results);
+        });
+    }
+
+    /**
+     * The chunks shared by the lanes of a {@link #run(List, Function)}. A chunk that completes at once is recorded
+     * in a loop rather than in a callback, so a lane does not grow the stack with each chunk.
+     */
+    private static final class Lanes<C, T> {
+
+        private final List<C> chunks;
+
+        private final Function<C, CompletableFuture<List<T>>> task;
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        private final Collection<T> results = new ConcurrentLinkedQueue<>();
+
+        private final Collection<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+
+        private Lanes(List<C> chunks, Function<C, CompletableFuture<List<T>>> task) {
+            this.chunks = chunks;
+            this.task = task;
+        }
+
+        private void next(CompletableFuture<Void> done) {
+            for (int index = next.getAndIncrement(); index < chunks.size(); index = next.getAndIncrement()) {
+                CompletableFuture<List<T>> call = call(chunks.get(index));
+                if (!call.isDone()) {
+                    call.whenComplete((items, error) -> {
+                        record(call);
+                        next(done);
+                    });
+                    return;
+                }
+                record(call);
+            }
+            done.complete(null);
+        }
+
+        private CompletableFuture<List<T>> call(C chunk) {
+            try {
+                return task.apply(chunk);
+            } catch (RuntimeException exception) {
+                return CompletableFuture.failedFuture(exception);
+            }
+        }
+
+        private void record(CompletableFuture<List<T>> call) {
+            try {
+                results.addAll(call.join());
+            } catch (CompletionException exception) {
+                failures.add(exception.getCause() instanceof RuntimeException cause ? cause : exception);
+            } catch (RuntimeException exception) {
+                failures.add(exception);
+            }
+        }
+    }
+
+    /**
+     * Requests the published writes one window at a time and writes each window before requesting the next one.
+     */
+    private final class WindowedWrite implements Subscriber<WriteRequest> {
+
+        private final String table;
+
+        private final Collection<String> keyAttributes;
+
+        private final int windowSize = DynamoDBBatch.MAX_WRITE_ITEMS * concurrency;
+
+        private final Map<Map<String, AttributeValue>, WriteRequest> window = new LinkedHashMap<>();
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        private Subscription subscription;
+
+        private int received;
+
+        private WindowedWrite(String table, Collection<String> keyAttributes) {
+            this.table = table;
+            this.keyAttributes = keyAttributes;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(windowSize);
+        }
+
+        @Override
+        public void onNext(WriteRequest request) {
+            Map<String, AttributeValue> key = DynamoDBBatch.keyOf(request, keyAttributes);
+            window.remove(key);
+            window.put(key, request);
+            if (++received == windowSize) {
+                received = 0;
+                pending = flush();
+                pending.whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        subscription.cancel();
+                        result.completeExceptionally(error);
+                    } else {
+                        subscription.request(windowSize);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            pending.whenComplete((ignored, failure) -> result.completeExceptionally(error));
+        }
+
+        @Override
+        public void onComplete() {
+            List<WriteRequest> rest = List.copyOf(window.values());
+            window.clear();
+            pending.thenCompose(ignored -> write(table, rest))
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(null);
+                        }
+                    });
+        }
+
+        private CompletableFuture<Void> flush() {
+            List<WriteRequest> requests = List.copyOf(window.values());
+            window.clear();
+            return write(table, requests);
+        }
+    }
+}
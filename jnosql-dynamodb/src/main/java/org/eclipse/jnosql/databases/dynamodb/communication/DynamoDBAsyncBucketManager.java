@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.StreamSupport;
+
+/**
+ * The non-blocking counterpart of {@link DynamoDBBucketManager}, built on {@link DynamoDbAsyncClient}. Every
+ * operation returns a {@link CompletableFuture} as soon as its request is sent, and the operations on several keys
+ * run as chunked {@code BatchWriteItem} and {@code BatchGetItem} calls sent at the same time.
+ *
+ * @see DynamoDBKeyValueConfiguration#applyAsync(Settings)
+ */
+public class DynamoDBAsyncBucketManager implements AutoCloseable {
+
+    private static final List<String> KEY_ATTRIBUTES = List.of(ConfigurationAmazonEntity.KEY);
+
+    private final DynamoDbAsyncClient client;
+
+    private final String tableName;
+
+    private final DynamoDBAsyncBatch batch;
+
+/**
+ * Returns the asynchronous dynamo db bucket manager.
+ *
+ * @param client the asynchronous client
+ * @param tableName the table name
+ */
+    public DynamoDBAsyncBucketManager(DynamoDbAsyncClient client, String tableName) {
+        this(client, tableName, DynamoDBAsyncBatch.of(client, Settings.builder().build()));
+    }
+
+    DynamoDBAsyncBucketManager(DynamoDbAsyncClient client, String tableName, DynamoDBAsyncBatch batch) {
+        this.client = client;
+        this.tableName = tableName;
+        this.batch = batch;
+    }
+
+/**
+ * Returns the bucket name.
+ *
+ * @return the bucket name
+ */
+    public String name() {
+        return tableName;
+    }
+
+/**
+ * Associates the value with the key.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @param key the key
+ * @param value the value
+ * @return a future completed once the value was written
+ * @throws NullPointerException when the key or the value is null
+ */
+    public <K, V> CompletableFuture<Void> put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        return client.putItem(PutItemRequest.builder()
+                        .tableName(tableName)
+                        .item(DynamoDBUtils.createAttributeValues(key, value))
+                        .build())
+                .thenApply(response -> null);
+    }
+
+/**
+ * Saves the entity.
+ *
+ * @param entity the entity
+ * @return a future completed once the value was written
+ * @throws NullPointerException when the entity is null
+ */
+    public CompletableFuture<Void> put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return put(entity.key(), entity.value());
+    }
+
+/**
+ * Saves the entities; when several have the same key, the last one wins.
+ *
+ * @param entities the entities
+ * @return a future completed once every value was written
+ * @throws NullPointerException when entities is null
+ */
+    public CompletableFuture<Void> put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return batch.write(tableName, StreamSupport.stream(entities.spliterator(), false)
+                .map(DynamoDBUtils::createAttributeValues)
+                .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+                .toList(), KEY_ATTRIBUTES);
+    }
+
+/**
+ * Reads the value of the key.
+ *
+ * @param <K> the key type
+ * @param key the key
+ * @return a future of the value, empty when the key is not found
+ * @throws NullPointerException when the key is null
+ */
+    public <K> CompletableFuture<Optional<Value>> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName))
+                .thenApply(response -> Optional.ofNullable(response.item().get(ConfigurationAmazonEntity.VALUE))
+                        .map(AttributeValue::s)
+                        .map(ValueJSON::of));
+    }
+
+/**
+ * Reads the values of the keys, ignoring the keys that are not found.
+ *
+ * @param <K> the key type
+ * @param keys the keys
+ * @return a future of the values found, in no particular order
+ * @throws NullPointerException when keys is null
+ */
+    public <K> CompletableFuture<List<Value>> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return batch.get(tableName, DynamoDBUtils.createKeyAttributeValues(keys))
+                .thenApply(items -> items.stream()
+                        .map(item -> item.get(ConfigurationAmazonEntity.VALUE))
+                        .map(AttributeValue::s)
+                        .<Value>map(ValueJSON::of)
+                        .toList());
+    }
+
+/**
+ * Deletes the value of the key.
+ *
+ * @param <K> the key type
+ * @param key the key
+ * @return a future completed once the value was deleted
+ * @throws NullPointerException when the key is null
+ */
+    public <K> CompletableFuture<Void> delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return client.deleteItem(DeleteItemRequest.builder()
+                        .tableName(tableName)
+                        .key(DynamoDBUtils.createKeyAttributeValues(key))
+                        .build())
+                .thenApply(response -> null);
+    }
+
+/**
+ * Deletes the values of the keys.
+ *
+ * @param <K> the key type
+ * @param keys the keys
+ * @return a future completed once every value was deleted
+ * @throws NullPointerException when keys is null
+ */
+    public <K> CompletableFuture<Void> delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return batch.write(tableName, DynamoDBUtils.createKeyAttributeValues(keys).stream()
+                .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build())
+                .toList(), KEY_ATTRIBUTES);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
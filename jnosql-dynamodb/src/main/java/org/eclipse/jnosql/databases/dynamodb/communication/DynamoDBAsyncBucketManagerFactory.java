@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.util.function.Function;
+
+/**
+ * Provides the asynchronous dynamo db bucket manager factory implementation.
+ */
+public class DynamoDBAsyncBucketManagerFactory implements Function<String, DynamoDBAsyncBucketManager>, AutoCloseable {
+
+    private final DynamoDbAsyncClient client;
+
+    private final Settings settings;
+
+    DynamoDBAsyncBucketManagerFactory(DynamoDbAsyncClient client, Settings settings) {
+        this.client = client;
+        this.settings = settings;
+    }
+
+    /**
+     * Returns the manager of the bucket, creating its table first when it does not exist. This is the only call
+     * that waits for DynamoDB, once per bucket.
+     */
+    @Override
+    public DynamoDBAsyncBucketManager apply(String bucketName) {
+        return getBucketManager(bucketName, null, null);
+    }
+
+/**
+ * Returns the get bucket manager.
+ *
+ * @param bucketName the bucket name
+ * @param readCapacityUnits the read capacity units
+ * @param writeCapacityUnit the write capacity unit
+ * @return the result
+ */
+    public DynamoDBAsyncBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
+        DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit).join();
+        return new DynamoDBAsyncBucketManager(client, bucketName, DynamoDBAsyncBatch.of(client, settings));
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
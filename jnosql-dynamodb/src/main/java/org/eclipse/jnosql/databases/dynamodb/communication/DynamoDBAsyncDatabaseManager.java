@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The non-blocking counterpart of {@link DynamoDBDatabaseManager}, built on {@link DynamoDbAsyncClient}. Each
+ * operation returns as soon as its request is sent: writes complete a {@link CompletableFuture}, and selects publish
+ * their items through an {@link SdkPublisher} that reads the next page only as the subscriber demands it. Neither
+ * holds a thread while DynamoDB answers, so a single request can fan out to many calls.
+ *
+ * @see DynamoDBDocumentConfiguration#applyAsync(org.eclipse.jnosql.communication.Settings)
+ */
+public interface DynamoDBAsyncDatabaseManager extends AutoCloseable {
+
+    /**
+     * Returns the database name.
+     *
+     * @return the database name
+     */
+    String name();
+
+    /**
+     * Inserts the entity with a {@code PutItem}.
+     *
+     * @param entity the entity
+     * @return the entity, once it was written
+     * @throws NullPointerException when the entity is null
+     */
+    CompletableFuture<CommunicationEntity> insert(CommunicationEntity entity);
+
+    /**
+     * Inserts the entities with chunked {@code BatchWriteItem} calls sent at the same time.
+     *
+     * @param entities the entities
+     * @return the entities, once every one was written
+     * @throws NullPointerException when entities is null
+     */
+    CompletableFuture<List<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities);
+
+    /**
+     * Updates the attributes of the entity with an {@code UpdateItem}.
+     *
+     * @param entity the entity
+     * @return the entity, once it was written
+     * @throws NullPointerException when the entity is null
+     */
+    CompletableFuture<CommunicationEntity> update(CommunicationEntity entity);
+
+    /**
+     * Deletes the items that match the query, with a conditional {@code DeleteItem} when the query has the whole
+     * primary key, otherwise with chunked {@code BatchWriteItem} calls.
+     *
+     * @param query the query
+     * @return a future completed once every matching item was deleted
+     * @throws NullPointerException when the query is null
+     */
+    CompletableFuture<Void> delete(DeleteQuery query);
+
+    /**
+     * Publishes the items that match the query. Like {@link DynamoDBDatabaseManager#select(SelectQuery)}, it reads
+     * with {@code GetItem} or {@code Query} when the condition has the keys, and scans otherwise, then applies the
+     * skip and the limit of the query.
+     *
+     * @param query the query
+     * @return a publisher of the matching items
+     * @throws NullPointerException when the query is null
+     */
+    SdkPublisher<CommunicationEntity> select(SelectQuery query);
+
+    /**
+     * Returns the approximate number of items of the table, as {@code DescribeTable} reports it.
+     *
+     * @param table the table
+     * @return the number of items, zero when the table does not exist
+     * @throws NullPointerException when the table is null
+     */
+    CompletableFuture<Long> count(String table);
+
+    /**
+     * Returns the asynchronous DynamoDB client.
+     *
+     * @return a {@link DynamoDbAsyncClient} instance for custom utilization
+     */
+    DynamoDbAsyncClient dynamoDbAsyncClient();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Provides the asynchronous dynamo db database manager factory implementation.
+ */
+public class DynamoDBAsyncDatabaseManagerFactory implements Function<String, DynamoDBAsyncDatabaseManager>, AutoCloseable {
+
+    private final DynamoDbAsyncClient dynamoDB;
+    private final Settings settings;
+
+/**
+ * Returns the asynchronous dynamo db database manager factory.
+ *
+ * @param dynamoDB the asynchronous dynamo db client
+ * @param settings the settings
+ */
+    public DynamoDBAsyncDatabaseManagerFactory(DynamoDbAsyncClient dynamoDB, Settings settings) {
+        this.dynamoDB = dynamoDB;
+        this.settings = settings;
+    }
+
+    @Override
+    public DynamoDBAsyncDatabaseManager apply(String database) {
+        return new DefaultDynamoDBAsyncDatabaseManager(database, dynamoDB, settings);
+    }
+
+    @Override
+    public void close() {
+        Optional.ofNullable(this.dynamoDB).ifPresent(DynamoDbAsyncClient::close);
+    }
+}
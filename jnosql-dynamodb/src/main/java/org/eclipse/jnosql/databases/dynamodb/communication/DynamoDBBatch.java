@@ -0,0 +1,356 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementErrorCodeEnum;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs bulk reads and writes as {@code BatchGetItem} and {@code BatchWriteItem} calls. The requests are split into
+ * chunks of at most {@value #MAX_WRITE_ITEMS} writes or {@value #MAX_GET_KEYS} keys, the chunks run concurrently on
+ * virtual threads, and the items that DynamoDB returns as unprocessed are sent again after an exponential backoff
+ * with full jitter. When they are still unprocessed after the last retry, a {@link DynamoDBBatchException} reports
+ * them.
+ */
+final class DynamoDBBatch {
+
+    static final int MAX_WRITE_ITEMS = 25;
+
+    static final int MAX_GET_KEYS = 100;
+
+    static final int DEFAULT_MAX_RETRIES = 8;
+
+    static final int DEFAULT_CONCURRENCY = 4;
+
+    private static final Set<BatchStatementErrorCodeEnum> RETRYABLE_STATEMENT_ERRORS = Set.of(
+            BatchStatementErrorCodeEnum.PROVISIONED_THROUGHPUT_EXCEEDED,
+            BatchStatementErrorCodeEnum.THROTTLING_ERROR,
+            BatchStatementErrorCodeEnum.REQUEST_LIMIT_EXCEEDED,
+            BatchStatementErrorCodeEnum.INTERNAL_SERVER_ERROR);
+
+    private static final long BASE_DELAY_MILLIS = 50;
+
+    private static final long MAX_DELAY_MILLIS = 2_000;
+
+    private final DynamoDbClient client;
+
+    private final int maxRetries;
+
+    private final int concurrency;
+
+    private final Sleeper sleeper;
+
+    private final DynamoDBCapacity capacity;
+
+    DynamoDBBatch(DynamoDbClient client, int maxRetries, int concurrency, Sleeper sleeper) {
+        this(client, maxRetries, concurrency, sleeper, DynamoDBCapacity.NONE);
+    }
+
+    DynamoDBBatch(DynamoDbClient client, int maxRetries, int concurrency, Sleeper sleeper, DynamoDBCapacity capacity) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.client = Objects.requireNonNull(client, "client is required");
+        this.maxRetries = maxRetries;
+        this.concurrency = concurrency;
+        this.sleeper = Objects.requireNonNull(sleeper, "sleeper is required");
+        this.capacity = Objects.requireNonNull(capacity, "capacity is required");
+    }
+
+    static DynamoDBBatch of(DynamoDbClient client, Settings settings) {
+        return of(client, settings, DynamoDBCapacity.of(settings));
+    }
+
+    static DynamoDBBatch of(DynamoDbClient client, Settings settings, DynamoDBCapacity capacity) {
+        return new DynamoDBBatch(client,
+                settings.get(DynamoDBConfigurations.BATCH_MAX_RETRIES, Integer.class).orElse(DEFAULT_MAX_RETRIES),
+                settings.get(DynamoDBConfigurations.BATCH_CONCURRENCY, Integer.class).orElse(DEFAULT_CONCURRENCY),
+                Thread::sleep, capacity);
+    }
+
+    /**
+     * Writes the requests in order. They are consumed in windows of one chunk per concurrent call; within a window,
+     * only the last request of each key is sent, since a batch rejects two requests for the same item, and the
+     * windows run one after the other, so a later request of a key always wins.
+     */
+    void write(String table, Stream<WriteRequest> requests, Collection<String> keyAttributes) {
+        int windowSize = MAX_WRITE_ITEMS * concurrency;
+        Consumer<ConsumedCapacity> report = capacity.reporter("BatchWriteItem");
+        Map<Map<String, AttributeValue>, WriteRequest> window = new LinkedHashMap<>();
+        Iterator<WriteRequest> iterator = requests.iterator();
+        while (iterator.hasNext()) {
+            WriteRequest request = iterator.next();
+            Map<String, AttributeValue> key = keyOf(request, keyAttributes);
+            window.remove(key);
+            window.put(key, request);
+            if (window.size() == windowSize) {
+                run(chunks(List.copyOf(window.values()), MAX_WRITE_ITEMS), chunk -> write(table, chunk, report));
+                window.clear();
+            }
+        }
+        if (!window.isEmpty()) {
+            run(chunks(List.copyOf(window.values()), MAX_WRITE_ITEMS), chunk -> write(table, chunk, report));
+        }
+    }
+
+    /**
+     * Reads the items of the keys, ignoring the keys without an item. The order of the result is undefined.
+     */
+    List<Map<String, AttributeValue>> get(String table, Collection<Map<String, AttributeValue>> keys) {
+        List<Map<String, AttributeValue>> distinct = List.copyOf(new LinkedHashSet<>(keys));
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Consumer<ConsumedCapacity> report = capacity.reporter("BatchGetItem");
+        return run(chunks(distinct, MAX_GET_KEYS), chunk -> get(table, chunk, report));
+    }
+
+    /**
+     * Executes the statements in chunks of {@value #MAX_WRITE_ITEMS}, the most that a {@code BatchExecuteStatement}
+     * takes. The statements that fail because of throttling are sent again; any other failure is reported once
+     * every chunk has run.
+     */
+    void execute(List<BatchStatementRequest> statements) {
+        if (!statements.isEmpty()) {
+            Consumer<ConsumedCapacity> report = capacity.reporter("BatchExecuteStatement");
+            run(chunks(statements, MAX_WRITE_ITEMS), chunk -> execute(chunk, report));
+        }
+    }
+
+    private List<Void> execute(List<BatchStatementRequest> chunk, Consumer<ConsumedCapacity> report) {
+        List<BatchStatementRequest> pending = chunk;
+        List<String> failures = new ArrayList<>();
+        for (int attempt = 0; ; attempt++) {
+            BatchExecuteStatementResponse response = client.batchExecuteStatement(BatchExecuteStatementRequest.builder()
+                    .statements(pending)
+                    .returnConsumedCapacity(capacity.mode())
+                    .build());
+            if (response.hasConsumedCapacity()) {
+                response.consumedCapacity().forEach(report);
+            }
+            List<BatchStatementRequest> retry = new ArrayList<>();
+            List<BatchStatementResponse> responses = response.responses();
+            for (int index = 0; index < responses.size(); index++) {
+                var error = responses.get(index).error();
+                if (error == null) {
+                    continue;
+                }
+                if (RETRYABLE_STATEMENT_ERRORS.contains(error.code())) {
+                    retry.add(pending.get(index));
+                } else {
+                    failures.add(pending.get(index).statement() + ": " + error.codeAsString() + " " + error.message());
+                }
+            }
+            if (retry.isEmpty() || attempt == maxRetries || !backoff(attempt)) {
+                for (BatchStatementRequest statement : retry) {
+                    failures.add(statement.statement() + ": still throttled after " + attempt + " retries");
+                }
+                if (!failures.isEmpty()) {
+                    throw new CommunicationException(failures.size() + " PartiQL statements failed: " + failures);
+                }
+                return List.of();
+            }
+            pending = retry;
+        }
+    }
+
+    private List<Void> write(String table, List<WriteRequest> chunk, Consumer<ConsumedCapacity> report) {
+        Map<String, List<WriteRequest>> pending = Map.of(table, chunk);
+        for (int attempt = 0; ; attempt++) {
+            BatchWriteItemResponse response = client.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(pending)
+                    .returnConsumedCapacity(capacity.mode())
+                    .build());
+            if (response.hasConsumedCapacity()) {
+                response.consumedCapacity().forEach(report);
+            }
+            List<WriteRequest> unprocessed = response.hasUnprocessedItems()
+                    ? response.unprocessedItems().getOrDefault(table, List.of()) : List.of();
+            if (unprocessed.isEmpty()) {
+                return List.of();
+            }
+            if (attempt == maxRetries || !backoff(attempt)) {
+                throw new DynamoDBBatchException(unprocessed.size() + " writes to the table " + table
+                        + " were not processed after " + attempt + " retries", unprocessed, List.of());
+            }
+            pending = Map.of(table, unprocessed);
+        }
+    }
+
+    private List<Map<String, AttributeValue>> get(String table, List<Map<String, AttributeValue>> chunk,
+                                                  Consumer<ConsumedCapacity> report) {
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, KeysAndAttributes> pending = Map.of(table, KeysAndAttributes.builder().keys(chunk).build());
+        for (int attempt = 0; ; attempt++) {
+            BatchGetItemResponse response = client.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(pending)
+                    .returnConsumedCapacity(capacity.mode())
+                    .build());
+            if (response.hasConsumedCapacity()) {
+                response.consumedCapacity().forEach(report);
+            }
+            if (response.hasResponses()) {
+                items.addAll(response.responses().getOrDefault(table, List.of()));
+            }
+            KeysAndAttributes unprocessed = response.hasUnprocessedKeys()
+                    ? response.unprocessedKeys().get(table) : null;
+            if (unprocessed == null || unprocessed.keys().isEmpty()) {
+                return items;
+            }
+            if (attempt == maxRetries || !backoff(attempt)) {
+                throw new DynamoDBBatchException(unprocessed.keys().size() + " keys of the table " + table
+                        + " were not read after " + attempt + " retries", List.of(), unprocessed.keys());
+            }
+            pending = Map.of(table, unprocessed);
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            sleeper.sleep(delay(attempt));
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the wait before the given retry: a random delay up to an exponential ceiling, the full jitter that
+     * keeps many throttled clients from retrying at the same moment.
+     */
+    static long delay(int attempt) {
+        long ceiling = Math.min(MAX_DELAY_MILLIS, BASE_DELAY_MILLIS << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private <T, R> List<R> run(List<List<T>> chunks, Function<List<T>, List<R>> task) {
+        List<R> results = Collections.synchronizedList(new ArrayList<>());
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int index = next.getAndIncrement(); index < chunks.size(); index = next.getAndIncrement()) {
+                try {
+                    results.addAll(task.apply(chunks.get(index)));
+                } catch (RuntimeException exception) {
+                    failures.add(exception);
+                }
+            }
+        };
+        int workers = Math.min(concurrency, chunks.size());
+        if (workers <= 1) {
+            worker.run();
+        } else {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int index = 0; index < workers; index++) {
+                    executor.execute(worker);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw failure(failures);
+        }
+        return results;
+    }
+
+    static RuntimeException failure(Collection<RuntimeException> failures) {
+        List<WriteRequest> unprocessedWrites = new ArrayList<>();
+        List<Map<String, AttributeValue>> unprocessedKeys = new ArrayList<>();
+        RuntimeException error = null;
+        for (RuntimeException failure : failures) {
+            if (failure instanceof DynamoDBBatchException batch) {
+                unprocessedWrites.addAll(batch.unprocessedWrites());
+                unprocessedKeys.addAll(batch.unprocessedKeys());
+            } else if (error == null) {
+                error = failure;
+            } else {
+                error.addSuppressed(failure);
+            }
+        }
+        if (error != null) {
+            return error;
+        }
+        if (failures.size() == 1) {
+            return failures.iterator().next();
+        }
+        return new DynamoDBBatchException((unprocessedWrites.size() + unprocessedKeys.size())
+                + " items were not processed by " + failures.size() + " batches", unprocessedWrites, unprocessedKeys);
+    }
+
+    static <T> List<List<T>> chunks(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += size) {
+            chunks.add(items.subList(start, Math.min(items.size(), start + size)));
+        }
+        return chunks;
+    }
+
+    static Map<String, AttributeValue> keyOf(WriteRequest request, Collection<String> keyAttributes) {
+        if (request.deleteRequest() != null) {
+            return request.deleteRequest().key();
+        }
+        Map<String, AttributeValue> item = request.putRequest().item();
+        Map<String, AttributeValue> key = new HashMap<>();
+        keyAttributes.forEach(attribute -> key.put(attribute, item.get(attribute)));
+        return key;
+    }
+
+    /**
+     * Waits between two attempts, a seam for the tests.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when a {@code BatchWriteItem} or a {@code BatchGetItem} still has unprocessed items after every retry.
+ * The requests and keys that DynamoDB did not process are kept, so the caller can decide whether to retry them later;
+ * everything else in the batch was applied.
+ */
+public class DynamoDBBatchException extends CommunicationException {
+
+    private final transient List<WriteRequest> unprocessedWrites;
+
+    private final transient List<Map<String, AttributeValue>> unprocessedKeys;
+
+    /**
+     * Constructs a new exception with the requests and keys that were not processed.
+     *
+     * @param message           the detail message
+     * @param unprocessedWrites the write requests that were not processed
+     * @param unprocessedKeys   the keys that were not read
+     */
+    public DynamoDBBatchException(String message, List<WriteRequest> unprocessedWrites,
+                                  List<Map<String, AttributeValue>> unprocessedKeys) {
+        super(message);
+        this.unprocessedWrites = List.copyOf(unprocessedWrites);
+        this.unprocessedKeys = List.copyOf(unprocessedKeys);
+    }
+
+    /**
+     * Returns the write requests that DynamoDB did not process.
+     *
+     * @return the unprocessed write requests, empty for a read
+     */
+    public List<WriteRequest> unprocessedWrites() {
+        return unprocessedWrites;
+    }
+
+    /**
+     * Returns the keys that DynamoDB did not read.
+     *
+     * @return the unprocessed keys, empty for a write
+     */
+    public List<Map<String, AttributeValue>> unprocessedKeys() {
+        return unprocessedKeys;
+    }
+}
@@ -15,24 +15,28 @@
  */
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.driver.ValueJSON;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.Duration;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides dynamo dbbucket manager support.
@@ -42,7 +46,9 @@ public class DynamoDBBucketManager implements BucketManager {
 
     private DynamoDbClient client;
     private String tableName;
+    private final DynamoDBBatch batch;
     private static final Function<AttributeValue, String> TO_JSON = AttributeValue::s;
+    private static final List<String> KEY_ATTRIBUTES = List.of(ConfigurationAmazonEntity.KEY);
 
 /**
  * Returns the dynamo dbbucket manager.
@@ -51,8 +57,13 @@ public class DynamoDBBucketManager implements BucketManager {
  * @param tableName the table name
  */
     public DynamoDBBucketManager(DynamoDbClient client, String tableName) {
+        this(client, tableName, DynamoDBBatch.of(client, Settings.builder().build()));
+    }
+
+    DynamoDBBucketManager(DynamoDbClient client, String tableName, DynamoDBBatch batch) {
         this.client = client;
         this.tableName = tableName;
+        this.batch = batch;
     }
 
     @Override
@@ -78,7 +89,11 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(DynamoDBUtils.createMapWriteRequest(entities, tableName)).build());
+        Objects.requireNonNull(entities, "entities is required");
+        batch.write(tableName, StreamSupport.stream(entities.spliterator(), false)
+                .map(DynamoDBUtils::createAttributeValues)
+                .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build()),
+                KEY_ATTRIBUTES);
     }
 
     @Override
@@ -106,12 +121,9 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        
-        return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
-                .responses()
-                .values()
+        Objects.requireNonNull(keys, "keys is required");
+        return batch.get(tableName, DynamoDBUtils.createKeyAttributeValues(keys))
                 .stream()
-                .flatMap(Collection::stream)
                 .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
                 .map(TO_JSON)
                 .map(ValueJSON::of)
@@ -125,7 +137,10 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        keys.forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        batch.write(tableName, DynamoDBUtils.createKeyAttributeValues(keys).stream()
+                .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build()),
+                KEY_ATTRIBUTES);
     }
 
     @Override
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -29,8 +30,15 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     private DynamoDbClient client;
 
+    private final Settings settings;
+
     DynamoDBBucketManagerFactory(DynamoDbClient client) {
+        this(client, Settings.builder().build());
+    }
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, Settings settings) {
         this.client = client;
+        this.settings = settings;
     }
 
     @Override
@@ -50,7 +58,7 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
     public DynamoDBBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
 
         DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
-        return new DynamoDBBucketManager(client, bucketName);
+        return new DynamoDBBucketManager(client, bucketName, DynamoDBBatch.of(client, settings));
     }
 
     @Override
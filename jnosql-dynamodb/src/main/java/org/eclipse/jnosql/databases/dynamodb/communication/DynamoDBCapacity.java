@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asks DynamoDB to return the capacity that the requests consume and hands it to the
+ * {@link DynamoDBCapacityListener}. Without a listener, the consumed capacity is logged at {@code FINE}.
+ */
+final class DynamoDBCapacity {
+
+    private static final Logger LOGGER = Logger.getLogger(DynamoDBCapacity.class.getName());
+
+    static final DynamoDBCapacity NONE = new DynamoDBCapacity(null, consumed -> {
+    });
+
+    private final ReturnConsumedCapacity mode;
+
+    private final DynamoDBCapacityListener listener;
+
+    DynamoDBCapacity(ReturnConsumedCapacity mode, DynamoDBCapacityListener listener) {
+        this.mode = mode;
+        this.listener = Objects.requireNonNull(listener, "listener is required");
+    }
+
+    /**
+     * Reads {@link DynamoDBConfigurations#CONSUMED_CAPACITY} and {@link DynamoDBConfigurations#CAPACITY_LISTENER};
+     * a listener alone turns on the {@code TOTAL} capacity.
+     */
+    static DynamoDBCapacity of(Settings settings) {
+        DynamoDBCapacityListener listener = settings.get(DynamoDBConfigurations.CAPACITY_LISTENER)
+                .map(DynamoDBCapacity::listener)
+                .orElse(null);
+        ReturnConsumedCapacity mode = settings.get(DynamoDBConfigurations.CONSUMED_CAPACITY)
+                .map(Object::toString)
+                .map(String::trim)
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .map(ReturnConsumedCapacity::valueOf)
+                .orElse(listener == null ? ReturnConsumedCapacity.NONE : ReturnConsumedCapacity.TOTAL);
+        if (mode == ReturnConsumedCapacity.NONE) {
+            return NONE;
+        }
+        return new DynamoDBCapacity(mode, listener == null ? DynamoDBCapacity::log : listener);
+    }
+
+    /**
+     * Returns the {@code ReturnConsumedCapacity} of the requests, or null to leave it out.
+     */
+    ReturnConsumedCapacity mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the consumer of the capacity of the operation, bound to the {@link DynamoDBCapacityScope} open now, so
+     * that the pages and chunks read later, or on other threads, keep the source of the call that created them.
+     */
+    Consumer<ConsumedCapacity> reporter(String operation) {
+        if (mode == null) {
+            return capacity -> {
+            };
+        }
+        String source = DynamoDBCapacityScope.current().orElse(null);
+        return capacity -> {
+            if (capacity == null) {
+                return;
+            }
+            try {
+                listener.onConsumedCapacity(new DynamoDBConsumedCapacity(operation, source, capacity));
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "The DynamoDB capacity listener failed", exception);
+            }
+        };
+    }
+
+    private static DynamoDBCapacityListener listener(Object value) {
+        if (value instanceof DynamoDBCapacityListener listener) {
+            return listener;
+        }
+        String className = value.toString().trim();
+        try {
+            Class<?> type = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            if (!DynamoDBCapacityListener.class.isAssignableFrom(type)) {
+                throw new CommunicationException("The class " + className + " does not implement "
+                        + DynamoDBCapacityListener.class.getName());
+            }
+            return (DynamoDBCapacityListener) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException exception) {
+            throw new CommunicationException("Could not create the DynamoDB capacity listener " + className, exception);
+        }
+    }
+
+    private static void log(DynamoDBConsumedCapacity consumed) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "%s on %s consumed %s capacity units, source: %s".formatted(consumed.operation(),
+                    consumed.tableName(), consumed.capacityUnits(), consumed.source()));
+        }
+    }
+}
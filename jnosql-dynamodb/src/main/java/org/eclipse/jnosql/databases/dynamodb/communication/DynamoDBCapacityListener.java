@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+/**
+ * Receives the capacity that each DynamoDB request consumed, when
+ * {@link DynamoDBConfigurations#CONSUMED_CAPACITY} asks DynamoDB to return it. The listener is called on the thread
+ * that ran the request, which for the bulk operations may be one of their workers, so it must be thread-safe.
+ *
+ * @see DynamoDBConfigurations#CAPACITY_LISTENER
+ * @see DynamoDBCapacityScope
+ */
+@FunctionalInterface
+public interface DynamoDBCapacityListener {
+
+    /**
+     * Called once per request, or once per table of a batch request.
+     *
+     * @param consumed the consumed capacity
+     */
+    void onConsumedCapacity(DynamoDBConsumedCapacity consumed);
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Names the source of the DynamoDB requests created on the current thread while the scope is open, so that the
+ * {@link DynamoDBCapacityListener} can attribute the consumed capacity to it. The repositories open one per method
+ * call, named after the repository and the method; the source of a query is taken when its stream is created, so it
+ * also covers the pages read after the scope is closed.
+ *
+ * <pre>{@code
+ * try (var scope = DynamoDBCapacityScope.open("nightly-report")) {
+ *     template.select(query, false).forEach(...);
+ * }
+ * }</pre>
+ *
+ * Scopes nest, and closing one restores the one that was open before it.
+ */
+public final class DynamoDBCapacityScope implements AutoCloseable {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String previous;
+
+    private DynamoDBCapacityScope(String previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a scope on the current thread.
+     *
+     * @param source the source name
+     * @return the scope, to be closed on the same thread
+     * @throws NullPointerException when source is null
+     */
+    public static DynamoDBCapacityScope open(String source) {
+        Objects.requireNonNull(source, "source is required");
+        var scope = new DynamoDBCapacityScope(CURRENT.get());
+        CURRENT.set(source);
+        return scope;
+    }
+
+    /**
+     * Returns the source of the scope open on the current thread.
+     *
+     * @return the source, or empty when there is no open scope
+     */
+    public static Optional<String> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
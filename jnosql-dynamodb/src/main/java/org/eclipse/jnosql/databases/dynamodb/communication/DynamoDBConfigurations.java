@@ -57,6 +57,43 @@ public enum  DynamoDBConfigurations implements Supplier<String> {
  * Performs the entity write capacity units operation.
  */
     ENTITY_WRITE_CAPACITY_UNITS("jnosql.dynamodb.%s.write.capacity.units"),
+/**
+ * The number of segments that a select scans in parallel, each on its own virtual thread, when it cannot read by
+ * key. By default, it is 1, which scans sequentially.
+ */
+    SCAN_SEGMENTS("jnosql.dynamodb.scan.segments"),
+/**
+ * How many times the items that a {@code BatchWriteItem} or a {@code BatchGetItem} left unprocessed are sent again,
+ * with an exponential backoff, before the bulk operation fails. By default, it is 8.
+ */
+    BATCH_MAX_RETRIES("jnosql.dynamodb.batch.max.retries"),
+/**
+ * The number of chunks of a bulk operation that run at the same time, each chunk holding up to 25 writes or 100 keys.
+ * By default, it is 4.
+ */
+    BATCH_CONCURRENCY("jnosql.dynamodb.batch.concurrency"),
+/**
+ * Whether the selects, the parallel scans and {@code GetItem} read with strong consistency, which costs twice the
+ * read capacity of an eventually consistent read. It applies to every table without its own
+ * {@link #ENTITY_CONSISTENT_READ}. By default, it is true. A query on a global secondary index is always eventually
+ * consistent.
+ */
+    CONSISTENT_READ("jnosql.dynamodb.consistent.read"),
+/**
+ * Whether the reads of a table are strongly consistent, overriding {@link #CONSISTENT_READ} for that table.
+ */
+    ENTITY_CONSISTENT_READ("jnosql.dynamodb.%s.consistent.read"),
+/**
+ * The {@code ReturnConsumedCapacity} of the requests: {@code NONE}, {@code TOTAL} or {@code INDEXES}, which also
+ * splits the capacity by index and into reads and writes. The capacity goes to the {@link #CAPACITY_LISTENER}, or is
+ * logged at {@code FINE} without one. By default, it is {@code NONE}, or {@code TOTAL} when there is a listener.
+ */
+    CONSUMED_CAPACITY("jnosql.dynamodb.consumed.capacity"),
+/**
+ * The {@link DynamoDBCapacityListener} that receives the consumed capacity, either an instance or the name of a class
+ * with a public no-argument constructor.
+ */
+    CAPACITY_LISTENER("jnosql.dynamodb.capacity.listener"),
     ;
 
     private final String configuration;
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+import java.util.Objects;
+
+/**
+ * The capacity that a DynamoDB request consumed.
+ *
+ * @param operation the DynamoDB operation, such as {@code GetItem}, {@code Query} or {@code BatchWriteItem}
+ * @param source    the {@link DynamoDBCapacityScope} that was open when the request was created, such as the
+ *                  repository method, or null when there was none
+ * @param capacity  the capacity that DynamoDB returned, with the index breakdown when
+ *                  {@link DynamoDBConfigurations#CONSUMED_CAPACITY} is {@code INDEXES}
+ */
+public record DynamoDBConsumedCapacity(String operation, String source, ConsumedCapacity capacity) {
+
+    /**
+     * Creates the consumed capacity.
+     *
+     * @param operation the DynamoDB operation
+     * @param source    the source, or null
+     * @param capacity  the capacity that DynamoDB returned
+     * @throws NullPointerException when operation or capacity is null
+     */
+    public DynamoDBConsumedCapacity {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(capacity, "capacity is required");
+    }
+
+    /**
+     * Returns the table that consumed the capacity, which is the entity name.
+     *
+     * @return the table name
+     */
+    public String tableName() {
+        return capacity.tableName();
+    }
+
+    /**
+     * Returns the total capacity units, reads and writes together.
+     *
+     * @return the capacity units, zero when DynamoDB did not return them
+     */
+    public double capacityUnits() {
+        return Objects.requireNonNullElse(capacity.capacityUnits(), 0D);
+    }
+
+    /**
+     * Returns the read capacity units. DynamoDB only splits reads and writes with {@code INDEXES}; with
+     * {@code TOTAL}, use {@link #capacityUnits()}.
+     *
+     * @return the read capacity units, zero when DynamoDB did not return them
+     */
+    public double readCapacityUnits() {
+        return Objects.requireNonNullElse(capacity.readCapacityUnits(), 0D);
+    }
+
+    /**
+     * Returns the write capacity units. DynamoDB only splits reads and writes with {@code INDEXES}; with
+     * {@code TOTAL}, use {@link #capacityUnits()}.
+     *
+     * @return the write capacity units, zero when DynamoDB did not return them
+     */
+    public double writeCapacityUnits() {
+        return Objects.requireNonNullElse(capacity.writeCapacityUnits(), 0D);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import jakarta.data.page.PageRequest;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Turns a DynamoDB {@code LastEvaluatedKey} into the opaque token of a {@link PageRequest.Cursor} and back. The token
+ * holds, for each key attribute in name order, the Base64 name, the type, {@code S}, {@code N} or {@code B}, and the
+ * Base64 value, so it is safe in a URL.
+ */
+final class DynamoDBCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private DynamoDBCursor() {
+    }
+
+    static PageRequest.Cursor of(Map<String, AttributeValue> key) {
+        return PageRequest.Cursor.forKey(encode(key));
+    }
+
+    static Map<String, AttributeValue> key(PageRequest.Cursor cursor) {
+        if (cursor.size() != 1 || !(cursor.get(0) instanceof String token)) {
+            throw new IllegalArgumentException("The cursor is not a DynamoDB cursor: " + cursor);
+        }
+        return decode(token);
+    }
+
+    static String encode(Map<String, AttributeValue> key) {
+        var token = new StringJoiner("~");
+        new TreeMap<>(key).forEach((name, value) -> token.add(encode(name.getBytes(StandardCharsets.UTF_8))
+                + '.' + type(name, value) + '.' + encode(bytes(value))));
+        return token.toString();
+    }
+
+    static Map<String, AttributeValue> decode(String token) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        try {
+            for (String entry : token.split("~")) {
+                String[] parts = entry.split("\\.", -1);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Invalid DynamoDB cursor: " + token);
+                }
+                String name = new String(DECODER.decode(parts[0]), StandardCharsets.UTF_8);
+                byte[] value = DECODER.decode(parts[2]);
+                key.put(name, switch (parts[1]) {
+                    case "S" -> AttributeValue.fromS(new String(value, StandardCharsets.UTF_8));
+                    case "N" -> AttributeValue.fromN(new String(value, StandardCharsets.UTF_8));
+                    case "B" -> AttributeValue.fromB(SdkBytes.fromByteArray(value));
+                    default -> throw new IllegalArgumentException("Invalid DynamoDB cursor: " + token);
+                });
+            }
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid DynamoDB cursor: " + token, exception);
+        }
+        return key;
+    }
+
+    private static String type(String name, AttributeValue value) {
+        if (value.s() != null) {
+            return "S";
+        }
+        if (value.n() != null) {
+            return "N";
+        }
+        if (value.b() != null) {
+            return "B";
+        }
+        throw new IllegalArgumentException("The key attribute " + name + " is not a string, number or binary");
+    }
+
+    private static byte[] bytes(AttributeValue value) {
+        if (value.b() != null) {
+            return value.b().asByteArray();
+        }
+        return (value.s() != null ? value.s() : value.n()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String encode(byte[] value) {
+        return ENCODER.encodeToString(value);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * A page read from a DynamoDB cursor. DynamoDB only reads forward, so the page has no previous page, and it does not
+ * count the items of the table, so it has no totals.
+ *
+ * @param content         the entities of the page
+ * @param cursors         the cursor after each entity
+ * @param pageRequest     the request of this page
+ * @param nextPageRequest the request of the next page, or null on the last page
+ * @param <T>             the entity type
+ */
+record DynamoDBCursoredPage<T>(List<T> content, List<PageRequest.Cursor> cursors, PageRequest pageRequest,
+                               PageRequest nextPageRequest) implements CursoredPage<T> {
+
+    DynamoDBCursoredPage {
+        content = List.copyOf(content);
+        cursors = List.copyOf(cursors);
+    }
+
+    @Override
+    public PageRequest.Cursor cursor(int index) {
+        if (index < 0 || index >= cursors.size()) {
+            throw new IndexOutOfBoundsException("index " + index + " is out of the page of " + cursors.size());
+        }
+        return cursors.get(index);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return content.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPageRequest != null;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return false;
+    }
+
+    @Override
+    public PageRequest nextPageRequest() {
+        if (nextPageRequest == null) {
+            throw new NoSuchElementException("There is no page after page " + pageRequest.page());
+        }
+        return nextPageRequest;
+    }
+
+    @Override
+    public PageRequest previousPageRequest() {
+        throw new NoSuchElementException("DynamoDB cursors only read forward");
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return false;
+    }
+
+    @Override
+    public long totalElements() {
+        throw new IllegalStateException("DynamoDB cursored pages do not count the items");
+    }
+
+    @Override
+    public long totalPages() {
+        throw new IllegalStateException("DynamoDB cursored pages do not count the items");
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return content.stream();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+}
@@ -17,8 +17,11 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -39,6 +42,90 @@ public interface DynamoDBDatabaseManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> partiQL(String query, String entityName, Object... params);
 
+    /**
+     * Selects with the given read consistency instead of the one configured for the table. An eventually consistent
+     * read costs half the read capacity of a strongly consistent one, and a query on a global secondary index is
+     * always eventually consistent.
+     *
+     * @param query the query
+     * @param consistentRead whether to read with strong consistency
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the query result
+     * @throws NullPointerException when query is null
+     * @see DynamoDBConfigurations#CONSISTENT_READ
+     * @see DynamoDBConfigurations#ENTITY_CONSISTENT_READ
+     */
+    Stream<CommunicationEntity> select(SelectQuery query, boolean consistentRead);
+
+    /**
+     * Executes a PartiQL query with parameters and returns at most {@code limit} entities. The pages are read as the
+     * stream is consumed, and no page is read once the limit is reached. A statement without a {@code WHERE} clause
+     * asks DynamoDB for up to {@code limit} items per page; one with it keeps the default page size, because DynamoDB
+     * applies the limit before the filter.
+     *
+     * @param query the PartiQL query
+     * @param entityName the entity name
+     * @param limit the maximum number of entities
+     * @param params the query parameters
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the query result
+     * @throws NullPointerException  when the query or the params is null
+     * @throws IllegalArgumentException when the limit is not positive
+     */
+    Stream<CommunicationEntity> partiQL(String query, String entityName, long limit, List<?> params);
+
+    /**
+     * Executes the PartiQL write statements with {@code BatchExecuteStatement} calls of up to 25 statements each,
+     * sent at the same time like the other bulk operations. The statements that fail because of throttling are sent
+     * again with an exponential backoff; each statement runs on its own, not as part of a transaction.
+     *
+     * @param statements the statements
+     * @throws NullPointerException when statements is null
+     * @throws org.eclipse.jnosql.communication.CommunicationException when a statement fails
+     * @see DynamoDBConfigurations#BATCH_MAX_RETRIES
+     * @see DynamoDBConfigurations#BATCH_CONCURRENCY
+     */
+    void partiQLBatch(List<PartiQLStatement> statements);
+
+    /**
+     * Scans the table of the query in {@code totalSegments} segments read at the same time, each on its own virtual
+     * thread, and merges their items into a single stream in no particular order. The query condition is applied
+     * as a filter. Close the stream to stop the segments that are still reading.
+     *
+     * @param query         the query
+     * @param totalSegments the number of segments
+     * @return the items of every segment
+     * @throws NullPointerException     when the query is null
+     * @throws IllegalArgumentException when totalSegments is not between 1 and 1,000,000
+     * @see DynamoDBConfigurations#SCAN_SEGMENTS
+     */
+    Stream<CommunicationEntity> parallelScan(SelectQuery query, int totalSegments);
+
+    /**
+     * Scans the table of the query in {@code totalSegments} segments read at the same time on the given executor,
+     * such as a fixed pool that bounds the read throughput, and merges their items into a single stream in no
+     * particular order. The executor must run the segments at the same time, since each one waits for the stream
+     * to consume its pages.
+     *
+     * @param query         the query
+     * @param totalSegments the number of segments
+     * @param executor      the executor that reads the segments
+     * @return the items of every segment
+     * @throws NullPointerException     when the query or the executor is null
+     * @throws IllegalArgumentException when totalSegments is not between 1 and 1,000,000
+     */
+    Stream<CommunicationEntity> parallelScan(SelectQuery query, int totalSegments, Executor executor);
+
+    /**
+     * Scans a single segment of the table of the query, so each worker of a backfill can read its own segment.
+     *
+     * @param query         the query
+     * @param segment       the segment, from zero to {@code totalSegments - 1}
+     * @param totalSegments the number of segments
+     * @return the items of the segment
+     * @throws NullPointerException     when the query is null
+     * @throws IllegalArgumentException when totalSegments is not between 1 and 1,000,000 or the segment is out of range
+     */
+    Stream<CommunicationEntity> scanSegment(SelectQuery query, int segment, int totalSegments);
+
 
     /**
      * Returns the DynamoDB client.
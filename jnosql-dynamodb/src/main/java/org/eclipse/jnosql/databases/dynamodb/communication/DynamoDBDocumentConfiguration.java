@@ -34,4 +34,15 @@ public class DynamoDBDocumentConfiguration extends DynamoDBConfiguration
         var dynamoDB = getDynamoDB(settings);
         return new DynamoDBDatabaseManagerFactory(dynamoDB, settings);
     }
+
+/**
+ * Returns the factory of the asynchronous managers, which run on a {@code DynamoDbAsyncClient}.
+ *
+ * @param settings the settings
+ * @return the asynchronous manager factory
+ */
+    public DynamoDBAsyncDatabaseManagerFactory applyAsync(Settings settings) {
+        var dynamoDB = getDynamoDBAsync(settings);
+        return new DynamoDBAsyncDatabaseManagerFactory(dynamoDB, settings);
+    }
 }
@@ -33,7 +33,18 @@ public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
     @Override
     public DynamoDBBucketManagerFactory apply(Settings settings) {
         DynamoDbClient dynamoDB = getDynamoDB(settings);
-        return new DynamoDBBucketManagerFactory(dynamoDB);
+        return new DynamoDBBucketManagerFactory(dynamoDB, settings);
+    }
+
+/**
+ * Returns the factory of the asynchronous bucket managers, which run on a {@code DynamoDbAsyncClient}.
+ *
+ * @param settings the settings
+ * @return the asynchronous bucket manager factory
+ */
+    public DynamoDBAsyncBucketManagerFactory applyAsync(Settings settings) {
+        var dynamoDB = getDynamoDBAsync(settings);
+        return new DynamoDBAsyncBucketManagerFactory(dynamoDB, settings);
     }
 
 }
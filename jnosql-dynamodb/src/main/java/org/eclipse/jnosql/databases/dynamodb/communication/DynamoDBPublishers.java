@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts the futures of the asynchronous client to {@link SdkPublisher}s, so a select that first has to describe
+ * its table, or that reads a single item, is published like a paginated one.
+ */
+final class DynamoDBPublishers {
+
+    private DynamoDBPublishers() {
+    }
+
+    /**
+     * Subscribes each subscriber to the publisher once the future completes, or fails it with the error of the
+     * future.
+     */
+    static <T> SdkPublisher<T> defer(CompletableFuture<? extends SdkPublisher<T>> future) {
+        return SdkPublisher.adapt(subscriber -> future.whenComplete((publisher, error) -> {
+            if (error != null) {
+                SimplePublisher<T> failed = new SimplePublisher<>();
+                failed.error(unwrap(error));
+                failed.subscribe(subscriber);
+            } else {
+                publisher.subscribe(subscriber);
+            }
+        }));
+    }
+
+    /**
+     * Publishes the items, holding them until the subscriber demands them.
+     */
+    static <T> SdkPublisher<T> of(List<T> items) {
+        return SdkPublisher.adapt(subscriber -> {
+            SimplePublisher<T> publisher = new SimplePublisher<>();
+            items.forEach(publisher::send);
+            publisher.complete();
+            publisher.subscribe(subscriber);
+        });
+    }
+
+    /**
+     * Publishes the items after the first ones, counting them for each subscriber.
+     */
+    static <T> SdkPublisher<T> skip(SdkPublisher<T> publisher, long count) {
+        return SdkPublisher.adapt(subscriber -> {
+            AtomicLong skipped = new AtomicLong();
+            publisher.filter(item -> skipped.getAndIncrement() >= count).subscribe(subscriber);
+        });
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
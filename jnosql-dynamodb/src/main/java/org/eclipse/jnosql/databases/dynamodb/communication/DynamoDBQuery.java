@@ -17,24 +17,184 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 /**
- * Represents a dynamo dbquery.
+ * Represents a dynamo dbquery. A query with a {@link #key()} reads a single item with {@code GetItem}, a query with a
+ * {@link #keyConditionExpression()} runs as a {@code Query}, on {@link #indexName()} when there is one, and any other
+ * query scans the table.
  *
  * @param table the table name
  * @param projectionExpression the projection expression
  * @param filterExpression the filter expression
  * @param expressionAttributeNames the expression attribute names
  * @param expressionAttributeValues the expression attribute values
+ * @param keyConditionExpression the key condition expression, or null to scan
+ * @param indexName the secondary index to query, or null to query the table
+ * @param key the primary key of the single item to read, empty otherwise
+ * @param consistentRead whether the read is strongly consistent, which a global secondary index does not support
  */
 public record DynamoDBQuery(String table,
                             String projectionExpression,
                             String filterExpression,
                             Map<String,String> expressionAttributeNames,
-                            Map<String, AttributeValue> expressionAttributeValues) {
+                            Map<String, AttributeValue> expressionAttributeValues,
+                            String keyConditionExpression,
+                            String indexName,
+                            Map<String, AttributeValue> key,
+                            boolean consistentRead) {
+
+/**
+ * Returns a query that scans the table.
+ *
+ * @param table the table name
+ * @param projectionExpression the projection expression
+ * @param filterExpression the filter expression
+ * @param expressionAttributeNames the expression attribute names
+ * @param expressionAttributeValues the expression attribute values
+ */
+    public DynamoDBQuery(String table,
+                         String projectionExpression,
+                         String filterExpression,
+                         Map<String, String> expressionAttributeNames,
+                         Map<String, AttributeValue> expressionAttributeValues) {
+        this(table, projectionExpression, filterExpression, expressionAttributeNames, expressionAttributeValues,
+                null, null, Map.of(), true);
+    }
+
+/**
+ * Returns whether the query reads a single item by its primary key.
+ *
+ * @return true for a {@code GetItem}
+ */
+    public boolean isGetItem() {
+        return key != null && !key.isEmpty();
+    }
+
+/**
+ * Returns whether the query runs as a {@code Query} on the table or on a secondary index.
+ *
+ * @return true for a {@code Query}
+ */
+    public boolean isQuery() {
+        return keyConditionExpression != null && !keyConditionExpression.isBlank();
+    }
+
+/**
+ * Returns this query with eventually consistent reads, or else with strongly consistent reads where the query
+ * supports them.
+ *
+ * @param consistentRead whether to read with strong consistency
+ * @return the query
+ */
+    public DynamoDBQuery withConsistentRead(boolean consistentRead) {
+        if (consistentRead || !this.consistentRead) {
+            return this;
+        }
+        return new DynamoDBQuery(table, projectionExpression, filterExpression, expressionAttributeNames,
+                expressionAttributeValues, keyConditionExpression, indexName, key, false);
+    }
+
+    /**
+     * Returns this query also reading the given attributes when it reads only some, so that the items of a cursored
+     * page carry their keys.
+     */
+    DynamoDBQuery withProjectedAttributes(Collection<String> attributes) {
+        if (projectionExpression == null) {
+            return this;
+        }
+        List<String> projected = new ArrayList<>(List.of(projectionExpression.split(",")));
+        Map<String, String> names = new HashMap<>(expressionAttributeNames);
+        for (String attribute : attributes) {
+            String alias = "#%s".formatted(attribute);
+            if (!projected.contains(alias)) {
+                projected.add(alias);
+                names.putIfAbsent(alias, attribute);
+            }
+        }
+        return new DynamoDBQuery(table, String.join(",", projected), filterExpression, names,
+                expressionAttributeValues, keyConditionExpression, indexName, key, consistentRead);
+    }
+
+    ScanRequest.Builder scanRequest(String tableName) {
+        ScanRequest.Builder request = ScanRequest.builder()
+                .consistentRead(consistentRead)
+                .tableName(tableName)
+                .projectionExpression(projectionExpression)
+                .select(projectionExpression != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES);
+
+        if (!filterExpression.isBlank()) {
+            request = request.filterExpression(filterExpression);
+        }
+
+        if (!expressionAttributeNames.isEmpty()) {
+            request = request.expressionAttributeNames(expressionAttributeNames);
+
+            if (!expressionAttributeValues.isEmpty()) {
+                request = request.expressionAttributeValues(expressionAttributeValues);
+            }
+        }
+        return request;
+    }
+
+    QueryRequest.Builder queryRequest(String tableName) {
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(indexName)
+                .consistentRead(consistentRead)
+                .keyConditionExpression(keyConditionExpression)
+                .expressionAttributeNames(expressionAttributeNames)
+                .expressionAttributeValues(expressionAttributeValues)
+                .projectionExpression(projectionExpression)
+                .select(projectionExpression != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES);
+
+        if (!filterExpression.isBlank()) {
+            request = request.filterExpression(filterExpression);
+        }
+        return request;
+    }
+
+    GetItemRequest.Builder getItemRequest(String tableName) {
+        GetItemRequest.Builder request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key)
+                .consistentRead(consistentRead);
+        if (projectionExpression != null) {
+            request = request.projectionExpression(projectionExpression)
+                    .expressionAttributeNames(expressionAttributeNames);
+        }
+        return request;
+    }
+
+    /**
+     * Returns the {@code DeleteItem} of the item of {@link #key()}, conditioned on the filter expression, so the item
+     * is only deleted when it matches.
+     */
+    DeleteItemRequest.Builder deleteItemRequest(String tableName) {
+        DeleteItemRequest.Builder request = DeleteItemRequest.builder()
+                .tableName(tableName)
+                .key(key);
+        if (!filterExpression.isBlank()) {
+            request = request.conditionExpression(filterExpression)
+                    .expressionAttributeNames(expressionAttributeNames);
+            if (!expressionAttributeValues.isEmpty()) {
+                request = request.expressionAttributeValues(expressionAttributeValues);
+            }
+        }
+        return request;
+    }
 
 /**
  * Returns the builder of.
@@ -47,4 +207,19 @@ public record DynamoDBQuery(String table,
                                                     SelectQuery query) {
         return new DynamoDBQuerySelectBuilder(table, query);
     }
+
+/**
+ * Returns the builder of a query that reads by the keys of the table, or of its secondary indexes, when the
+ * condition allows it, and scans the table otherwise.
+ *
+ * @param table the table
+ * @param query the query
+ * @param description the table description, with its key schema and secondary indexes
+ * @return the result
+ */
+    public static Supplier<DynamoDBQuery> builderOf(String table,
+                                                    SelectQuery query,
+                                                    TableDescription description) {
+        return new DynamoDBQuerySelectBuilder(table, query, description);
+    }
 }
@@ -15,29 +15,71 @@
 
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toAttributeValue;
+
+/**
+ * Builds the select of a query. With the table description, it plans the cheapest read: a {@code GetItem} when the
+ * condition is only the equality of the whole primary key, a {@code Query} on the table or on a secondary index when
+ * the condition has the equality of its partition key, plus at most one range on its sort key, joined by AND, and a
+ * {@code Scan} otherwise.
+ */
 class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
 
+    private static final Set<Condition> SORT_KEY_CONDITIONS = EnumSet.of(Condition.EQUALS, Condition.GREATER_THAN,
+            Condition.GREATER_EQUALS_THAN, Condition.LESSER_THAN, Condition.LESSER_EQUALS_THAN, Condition.BETWEEN,
+            Condition.LIKE);
+
     private final String table;
 
     private final SelectQuery selectQuery;
 
+    private final TableDescription description;
+
     public DynamoDBQuerySelectBuilder(String table,
                                       SelectQuery selectQuery) {
+        this(table, selectQuery, null);
+    }
+
+    DynamoDBQuerySelectBuilder(String table,
+                               SelectQuery selectQuery,
+                               TableDescription description) {
         this.table = table;
         this.selectQuery = selectQuery;
+        this.description = description;
     }
 
     @Override
     public DynamoDBQuery get() {
 
+        if (description != null) {
+            Optional<DynamoDBQuery> keyQuery = this.selectQuery.condition().flatMap(this::keyQuery);
+            if (keyQuery.isPresent()) {
+                return keyQuery.get();
+            }
+        }
+
         var filterExpression = new StringBuilder();
         var expressionAttributeNames = new HashMap<String, String>();
         var expressionAttributeValues = new HashMap<String, AttributeValue>();
@@ -55,6 +97,27 @@ class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
                 expressionAttributeValues);
     }
 
+    /**
+     * Returns the single item that the condition targets by the equality of its whole primary key, with the rest of
+     * the condition as the filter expression, or empty when the condition does not pin a single item.
+     */
+    Optional<DynamoDBQuery> item() {
+        if (description == null) {
+            return Optional.empty();
+        }
+        return this.selectQuery.condition()
+                .map(condition -> KeySchema.of(description).getFirst().plan(conjunction(condition), List.of()))
+                .filter(KeyPlan::isFullKey)
+                .map(plan -> {
+                    var expressionAttributeNames = new HashMap<String, String>();
+                    var expressionAttributeValues = new HashMap<String, AttributeValue>();
+                    var filterExpression = new StringBuilder();
+                    remaining(plan, filterExpression, expressionAttributeNames, expressionAttributeValues);
+                    return new DynamoDBQuery(table, null, filterExpression.toString(), expressionAttributeNames,
+                            expressionAttributeValues, null, null, key(plan), true);
+                });
+    }
+
     String projectionExpression(HashMap<String, String> expressionAttributeNames) {
         var columns = selectQuery.columns();
         if (columns.isEmpty()) {
@@ -69,5 +132,180 @@ class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
         return projectionAttributes.stream().collect(Collectors.joining(","));
     }
 
+    /**
+     * Picks, among the table and its secondary indexes, in this order, the first key plan that uses a sort key, or
+     * else the first that uses a partition key.
+     */
+    private Optional<DynamoDBQuery> keyQuery(CriteriaCondition condition) {
+        List<CriteriaCondition> conditions = conjunction(condition);
+        KeyPlan best = null;
+        for (KeySchema schema : KeySchema.of(description)) {
+            KeyPlan plan = schema.plan(conditions, selectQuery.columns());
+            if (plan != null && (best == null || plan.score() > best.score())) {
+                best = plan;
+            }
+        }
+        return Optional.ofNullable(best).map(this::toQuery);
+    }
+
+    private DynamoDBQuery toQuery(KeyPlan plan) {
+        var expressionAttributeNames = new HashMap<String, String>();
+        var expressionAttributeValues = new HashMap<String, AttributeValue>();
+        String projectionExpression = projectionExpression(expressionAttributeNames);
+        KeySchema schema = plan.schema();
+
+        if (plan.isGetItem()) {
+            return new DynamoDBQuery(table, projectionExpression, "", expressionAttributeNames, Map.of(),
+                    null, null, key(plan), true);
+        }
+
+        var keyConditionExpression = new StringBuilder();
+        super.condition(plan.partition(), keyConditionExpression, expressionAttributeNames, expressionAttributeValues);
+        if (plan.sort() != null) {
+            keyConditionExpression.append(" AND ");
+            super.condition(plan.sort(), keyConditionExpression, expressionAttributeNames, expressionAttributeValues);
+        }
+
+        var filterExpression = new StringBuilder();
+        remaining(plan, filterExpression, expressionAttributeNames, expressionAttributeValues);
+
+        return new DynamoDBQuery(table, projectionExpression, filterExpression.toString(),
+                expressionAttributeNames, expressionAttributeValues, keyConditionExpression.toString(),
+                schema.indexName(), Map.of(), !schema.global());
+    }
+
+    private void remaining(KeyPlan plan, StringBuilder filterExpression, HashMap<String, String> expressionAttributeNames,
+                           HashMap<String, AttributeValue> expressionAttributeValues) {
+        if (!plan.remaining().isEmpty()) {
+            CriteriaCondition remaining = plan.remaining().size() == 1 ? plan.remaining().getFirst()
+                    : CriteriaCondition.and(plan.remaining().toArray(new CriteriaCondition[0]));
+            super.condition(remaining, filterExpression, expressionAttributeNames, expressionAttributeValues);
+        }
+    }
 
+    private static Map<String, AttributeValue> key(KeyPlan plan) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(plan.schema().partitionKey(), toAttributeValue(plan.partition().element().get()));
+        if (plan.sort() != null) {
+            key.put(plan.schema().sortKey(), toAttributeValue(plan.sort().element().get()));
+        }
+        return key;
+    }
+
+    private static List<CriteriaCondition> conjunction(CriteriaCondition condition) {
+        if (condition.condition() != Condition.AND) {
+            return List.of(condition);
+        }
+        List<CriteriaCondition> conditions = new ArrayList<>();
+        condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+        }).forEach(c -> conditions.addAll(conjunction(c)));
+        return conditions;
+    }
+
+    private static void attributes(CriteriaCondition condition, Set<String> attributes) {
+        switch (condition.condition()) {
+            case AND, OR -> condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+            }).forEach(c -> attributes(c, attributes));
+            case NOT -> attributes(condition.element().get(CriteriaCondition.class), attributes);
+            default -> attributes.add(condition.element().name());
+        }
+    }
+
+    /**
+     * The key attributes of the table or of one of its secondary indexes. The projected attributes are null when
+     * every attribute can be read.
+     */
+    private record KeySchema(String indexName, String partitionKey, String sortKey, boolean global,
+                             Set<String> projected) {
+
+        static List<KeySchema> of(TableDescription description) {
+            List<KeySchema> schemas = new ArrayList<>();
+            schemas.add(new KeySchema(null, key(description.keySchema(), KeyType.HASH),
+                    key(description.keySchema(), KeyType.RANGE), false, null));
+            description.localSecondaryIndexes().forEach(index -> schemas.add(new KeySchema(index.indexName(),
+                    key(index.keySchema(), KeyType.HASH), key(index.keySchema(), KeyType.RANGE), false, null)));
+            description.globalSecondaryIndexes().stream()
+                    .filter(index -> index.indexStatus() == null || index.indexStatus() == IndexStatus.ACTIVE)
+                    .forEach(index -> schemas.add(new KeySchema(index.indexName(),
+                            key(index.keySchema(), KeyType.HASH), key(index.keySchema(), KeyType.RANGE), true,
+                            projected(description.keySchema(), index.keySchema(), index.projection()))));
+            return schemas;
+        }
+
+        private static String key(List<KeySchemaElement> keySchema, KeyType type) {
+            return keySchema.stream()
+                    .filter(element -> element.keyType() == type)
+                    .map(KeySchemaElement::attributeName)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private static Set<String> projected(List<KeySchemaElement> tableKeys, List<KeySchemaElement> indexKeys,
+                                             Projection projection) {
+            if (projection == null || projection.projectionType() == ProjectionType.ALL) {
+                return null;
+            }
+            Set<String> projected = new HashSet<>(projection.nonKeyAttributes());
+            tableKeys.forEach(element -> projected.add(element.attributeName()));
+            indexKeys.forEach(element -> projected.add(element.attributeName()));
+            return projected;
+        }
+
+        /**
+         * Returns the plan that uses these keys, or null when the conditions have no equality on the partition key,
+         * when the remaining conditions would filter by a key, which DynamoDB rejects, or when the index does not
+         * project the attributes the query reads.
+         */
+        KeyPlan plan(List<CriteriaCondition> conditions, List<String> columns) {
+            if (partitionKey == null) {
+                return null;
+            }
+            CriteriaCondition partition = null;
+            CriteriaCondition sort = null;
+            List<CriteriaCondition> remaining = new ArrayList<>();
+            for (CriteriaCondition condition : conditions) {
+                if (partition == null && condition.condition() == Condition.EQUALS
+                        && partitionKey.equals(condition.element().name())) {
+                    partition = condition;
+                } else if (sort == null && sortKey != null && SORT_KEY_CONDITIONS.contains(condition.condition())
+                        && sortKey.equals(condition.element().name())) {
+                    sort = condition;
+                } else {
+                    remaining.add(condition);
+                }
+            }
+            if (partition == null) {
+                return null;
+            }
+            Set<String> filtered = new HashSet<>();
+            remaining.forEach(condition -> attributes(condition, filtered));
+            if (filtered.contains(partitionKey) || (sortKey != null && filtered.contains(sortKey))) {
+                return null;
+            }
+            if (projected != null) {
+                filtered.addAll(columns);
+                if (columns.isEmpty() || !projected.containsAll(filtered)) {
+                    return null;
+                }
+            }
+            return new KeyPlan(this, partition, sort, remaining);
+        }
+    }
+
+    private record KeyPlan(KeySchema schema, CriteriaCondition partition, CriteriaCondition sort,
+                           List<CriteriaCondition> remaining) {
+
+        int score() {
+            return sort == null ? 1 : 2;
+        }
+
+        boolean isGetItem() {
+            return isFullKey() && remaining.isEmpty();
+        }
+
+        boolean isFullKey() {
+            return schema.indexName() == null
+                    && (schema.sortKey() == null || (sort != null && sort.condition() == Condition.EQUALS));
+        }
+    }
 }
@@ -15,15 +15,19 @@
  */
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesRequest;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
 import java.util.ArrayList;
@@ -31,6 +35,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides dynamo table utils helper methods.
@@ -167,6 +172,73 @@ public final class DynamoTableUtils {
         }
     }
 
+    /**
+     * Returns the request that creates the table of an entity, keyed by its configured partition key or by
+     * {@link DynamoDBConverter#ID}, with the configured capacity units.
+     */
+    static CreateTableRequest createTableRequest(String tableName, Settings settings) {
+        String partitionKey = settings
+                .get(DynamoDBConfigurations.ENTITY_PARTITION_KEY.get().formatted(tableName), String.class)
+                .orElse(DynamoDBConverter.ID);
+        return CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(KeySchemaElement.builder().attributeName(partitionKey).keyType(KeyType.HASH).build())
+                .attributeDefinitions(AttributeDefinition.builder()
+                        .attributeName(partitionKey).attributeType(ScalarAttributeType.S).build())
+                .provisionedThroughput(createProvisionedThroughput(
+                        settings.get(DynamoDBConfigurations.ENTITY_READ_CAPACITY_UNITS.get().formatted(tableName), Long.class)
+                                .orElse(null),
+                        settings.get(DynamoDBConfigurations.ENTITY_WRITE_CAPACITY_UNITS.get().formatted(tableName), Long.class)
+                                .orElse(null)))
+                .build();
+    }
+
+    static boolean shouldCreateTables(Settings settings) {
+        return settings.get(DynamoDBConfigurations.CREATE_TABLES, Boolean.class).orElse(false);
+    }
+
+    /**
+     * Returns whether the reads of the table are strongly consistent, from its own setting or else from the default
+     * of every table.
+     */
+    static boolean consistentRead(String tableName, Settings settings) {
+        return settings.get(DynamoDBConfigurations.ENTITY_CONSISTENT_READ.get().formatted(tableName), Boolean.class)
+                .or(() -> settings.get(DynamoDBConfigurations.CONSISTENT_READ, Boolean.class))
+                .orElse(true);
+    }
+
+/**
+ * Creates the key-value table when it does not exist, without blocking.
+ *
+ * @param tableName the table name
+ * @param client the asynchronous client
+ * @param readCapacityUnits the read capacity units
+ * @param writeCapacityUnit the write capacity unit
+ * @return a future completed once the table exists
+ */
+    public static CompletableFuture<Void> manageTables(String tableName, DynamoDbAsyncClient client,
+                                                       Long readCapacityUnits, Long writeCapacityUnit) {
+        DescribeTableRequest describe = DescribeTableRequest.builder().tableName(tableName).build();
+        return client.describeTable(describe)
+                .<Void>thenApply(response -> null)
+                .exceptionallyCompose(error -> {
+                    Throwable cause = DynamoDBPublishers.unwrap(error);
+                    if (!(cause instanceof ResourceNotFoundException)) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    var waiter = client.waiter();
+                    return client.createTable(CreateTableRequest.builder()
+                                    .tableName(tableName)
+                                    .provisionedThroughput(createProvisionedThroughput(readCapacityUnits, writeCapacityUnit))
+                                    .keySchema(createKeyElementSchema(createKeyDefinition()))
+                                    .attributeDefinitions(createAttributeDefinition(createAttributesType()))
+                                    .build())
+                            .thenCompose(created -> waiter.waitUntilTableExists(describe))
+                            .<Void>thenApply(response -> null)
+                            .whenComplete((ignored, failure) -> waiter.close());
+                });
+    }
+
     private static void createTable(String tableName, DynamoDbClient client, Long readCapacityUnits, Long writeCapacityUnit) {
 
         Map<String, KeyType> keyDefinition = createKeyDefinition();
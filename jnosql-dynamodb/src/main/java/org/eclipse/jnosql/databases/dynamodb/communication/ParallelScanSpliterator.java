@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.lang.ref.Cleaner;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Merges the pages of the segments of a parallel scan into a single sequence. Each segment is read by its own task
+ * on the executor, which hands the pages over through a bounded queue, so a slow consumer holds at most a few pages
+ * in memory. The first failing segment fails the stream. Closing it, or dropping it without reading it to the end,
+ * stops the segments at their next page.
+ */
+final class ParallelScanSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final int totalSegments;
+
+    private final Pages pages;
+
+    private final Cleaner.Cleanable cleanable;
+
+    private Iterator<T> page = Collections.emptyIterator();
+
+    private int finished;
+
+    ParallelScanSpliterator(int totalSegments, IntFunction<? extends Iterable<? extends List<T>>> segment,
+                            Executor executor) {
+        super(Long.MAX_VALUE, NONNULL);
+        this.totalSegments = totalSegments;
+        this.pages = new Pages(Math.max(2, totalSegments));
+        this.cleanable = CLEANER.register(this, pages::close);
+        for (int index = 0; index < totalSegments; index++) {
+            int current = index;
+            executor.execute(() -> read(pages, segment, current));
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!page.hasNext()) {
+            if (pages.closed || finished == totalSegments) {
+                return false;
+            }
+            Object next = take();
+            if (next instanceof Done done) {
+                finished++;
+                if (done.error() != null) {
+                    close();
+                    throw done.error() instanceof RuntimeException exception ? exception
+                            : new CommunicationException("A segment of the parallel scan failed", done.error());
+                }
+            } else {
+                @SuppressWarnings("unchecked")
+                List<T> items = (List<T>) next;
+                page = items.iterator();
+            }
+        }
+        action.accept(page.next());
+        return true;
+    }
+
+    void close() {
+        cleanable.clean();
+    }
+
+    private Object take() {
+        try {
+            return pages.queue.take();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CommunicationException("The parallel scan was interrupted", exception);
+        }
+    }
+
+    /**
+     * Runs on the executor, so it only holds the queue and never the spliterator, which can then be collected when
+     * the stream is dropped.
+     */
+    private static <T> void read(Pages pages, IntFunction<? extends Iterable<? extends List<T>>> segment, int index) {
+        Throwable error = null;
+        try {
+            for (List<T> items : segment.apply(index)) {
+                if (pages.closed || (!items.isEmpty() && !pages.offer(items))) {
+                    return;
+                }
+            }
+        } catch (Throwable throwable) {
+            error = throwable;
+        }
+        pages.offer(new Done(error));
+    }
+
+    private static final class Pages {
+
+        private final BlockingQueue<Object> queue;
+
+        private volatile boolean closed;
+
+        private Pages(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Waits for room in the queue, giving up once the stream was closed.
+         */
+        private boolean offer(Object element) {
+            try {
+                while (!closed) {
+                    if (queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    private record Done(Throwable error) {
+    }
+}
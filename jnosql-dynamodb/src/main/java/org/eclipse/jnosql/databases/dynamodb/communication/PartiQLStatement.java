@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/ql-reference.html">PartiQL</a>
+ * statement with its positional parameters, one of the statements of
+ * {@link DynamoDBDatabaseManager#partiQLBatch(List)}.
+ *
+ * @param statement  the PartiQL statement, such as {@code INSERT INTO users VALUE {'id': ?, 'name': ?}}
+ * @param parameters the values of the {@code ?} placeholders, in order
+ */
+public record PartiQLStatement(String statement, List<Object> parameters) {
+
+    /**
+     * Creates a statement.
+     *
+     * @param statement  the PartiQL statement
+     * @param parameters the values of the {@code ?} placeholders, in order
+     * @throws NullPointerException when statement or parameters is null
+     */
+    public PartiQLStatement {
+        Objects.requireNonNull(statement, "statement is required");
+        Objects.requireNonNull(parameters, "parameters is required");
+        parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+    }
+
+    /**
+     * Creates a statement.
+     *
+     * @param statement the PartiQL statement
+     * @param params    the values of the {@code ?} placeholders, in order
+     * @return the statement
+     * @throws NullPointerException when statement or params is null
+     */
+    public static PartiQLStatement of(String statement, Object... params) {
+        Objects.requireNonNull(params, "params is required");
+        return new PartiQLStatement(statement, Arrays.asList(params));
+    }
+}
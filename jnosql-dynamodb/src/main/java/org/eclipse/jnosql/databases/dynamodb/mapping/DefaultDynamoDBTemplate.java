@@ -20,13 +20,20 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBAsyncDatabaseManager;
 import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBDatabaseManager;
+import org.eclipse.jnosql.databases.dynamodb.communication.PartiQLStatement;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.semistructured.AbstractSemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -37,6 +44,8 @@ class DefaultDynamoDBTemplate extends AbstractSemiStructuredTemplate implements
 
     private final Instance<DynamoDBDatabaseManager> manager;
 
+    private final Instance<DynamoDBAsyncDatabaseManager> asyncManager;
+
     private final EntityConverter converter;
 
     private final EventPersistManager persistManager;
@@ -47,11 +56,13 @@ class DefaultDynamoDBTemplate extends AbstractSemiStructuredTemplate implements
 
     @Inject
     DefaultDynamoDBTemplate(Instance<DynamoDBDatabaseManager> manager,
+                            Instance<DynamoDBAsyncDatabaseManager> asyncManager,
                             EntityConverter converter,
                             EventPersistManager persistManager,
                             EntitiesMetadata entitiesMetadata,
                             Converters converters) {
         this.manager = manager;
+        this.asyncManager = asyncManager;
         this.converter = converter;
         this.persistManager = persistManager;
         this.entitiesMetadata = entitiesMetadata;
@@ -63,7 +74,7 @@ class DefaultDynamoDBTemplate extends AbstractSemiStructuredTemplate implements
      * Don't use it
      */
     DefaultDynamoDBTemplate() {
-        this(null, null, null, null, null);
+        this(null, null, null, null, null, null);
     }
 
     @Override
@@ -101,4 +112,75 @@ class DefaultDynamoDBTemplate extends AbstractSemiStructuredTemplate implements
                 .orElseThrow(() -> new IllegalArgumentException("Entity type not found: " + entityType.getName()));
         return manager.get().partiQL(query, entityMetadata.name(), params).map(converter::toEntity).map(d -> (T) d);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> select(SelectQuery query, boolean consistentRead) {
+        requireNonNull(query, "query is required");
+        return manager.get().select(query, consistentRead).map(converter::toEntity).map(d -> (T) d);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> partiQL(String query, Class<T> entityType, long limit, List<?> params) {
+        requireNonNull(query, "query is required");
+        requireNonNull(entityType, "entityType is required");
+        requireNonNull(params, "params is required");
+        var entityMetadata = entities().findByClassName(entityType.getName())
+                .orElseThrow(() -> new IllegalArgumentException("Entity type not found: " + entityType.getName()));
+        return manager.get().partiQL(query, entityMetadata.name(), limit, params).map(converter::toEntity).map(d -> (T) d);
+    }
+
+    @Override
+    public void partiQLBatch(List<PartiQLStatement> statements) {
+        requireNonNull(statements, "statements is required");
+        manager.get().partiQLBatch(statements);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> parallelScan(Class<T> entityType, int totalSegments) {
+        requireNonNull(entityType, "entityType is required");
+        var entityMetadata = entities().findByClassName(entityType.getName())
+                .orElseThrow(() -> new IllegalArgumentException("Entity type not found: " + entityType.getName()));
+        var query = SelectQuery.select().from(entityMetadata.name()).build();
+        return manager.get().parallelScan(query, totalSegments).map(converter::toEntity).map(d -> (T) d);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        persistManager.firePreEntity(entity);
+        return asyncManager.get().insert(converter.toCommunication(entity))
+                .thenApply(communication -> {
+                    T result = converter.toEntity(entity, communication);
+                    persistManager.firePostEntity(result);
+                    return result;
+                });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        persistManager.firePreEntity(entity);
+        return asyncManager.get().update(converter.toCommunication(entity))
+                .thenApply(communication -> {
+                    T result = converter.toEntity(entity, communication);
+                    persistManager.firePostEntity(result);
+                    return result;
+                });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> SdkPublisher<T> selectAsync(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return asyncManager.get().select(query).map(entity -> (T) converter.toEntity(entity));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return asyncManager.get().delete(query);
+    }
 }
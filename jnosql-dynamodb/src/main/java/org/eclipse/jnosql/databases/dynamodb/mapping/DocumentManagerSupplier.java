@@ -21,6 +21,7 @@ import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.Typed;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBAsyncDatabaseManager;
 import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBDatabaseManager;
 import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBDocumentConfiguration;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
@@ -61,6 +62,33 @@ public class DocumentManagerSupplier implements Supplier<DynamoDBDatabaseManager
         return manager;
     }
 
+/**
+ * Produces the asynchronous manager of the same database, on its own {@code DynamoDbAsyncClient}, created the first
+ * time it is used.
+ *
+ * @return the asynchronous manager
+ */
+    @Produces
+    @Typed(DynamoDBAsyncDatabaseManager.class)
+    @ApplicationScoped
+    public DynamoDBAsyncDatabaseManager getAsync() {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        var factory = new DynamoDBDocumentConfiguration().applyAsync(settings);
+        String db = settings.get(DOCUMENT_DATABASE, String.class)
+                .orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                        + DOCUMENT_DATABASE.get()));
+        return factory.apply(db);
+    }
+
+/**
+ * Closes the asynchronous manager.
+ *
+ * @param manager the manager
+ */
+    public void closeAsync(@Disposes DynamoDBAsyncDatabaseManager manager) {
+        manager.close();
+    }
+
 /**
  * Performs the close operation.
  *
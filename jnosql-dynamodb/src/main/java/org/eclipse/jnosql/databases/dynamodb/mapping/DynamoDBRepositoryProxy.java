@@ -15,8 +15,10 @@
 
 package org.eclipse.jnosql.databases.dynamodb.mapping;
 
+import jakarta.data.Limit;
 import jakarta.data.repository.Param;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBCapacityScope;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
@@ -86,15 +88,29 @@ class DynamoDBRepositoryProxy<T, K> extends AbstractSemiStructuredRepositoryProx
         this.repository = null;
     }
 
+    /**
+     * Runs the method in a {@link DynamoDBCapacityScope} named after the repository and the method, so the consumed
+     * capacity of its requests is attributed to it.
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+        try (var scope = DynamoDBCapacityScope.open(type.getSimpleName() + "#" + method.getName())) {
+            return invokeInScope(instance, method, args);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invokeInScope(Object instance, Method method, Object[] args) throws Throwable {
         PartiQL sql = method.getAnnotation(PartiQL.class);
         if (Objects.nonNull(sql)) {
 
             Class<T> returnType = (Class<T>) method.getReturnType();
             List<Object> params = getParams(args, method);
-            Supplier<Stream<T>> resultSupplier = () -> template.partiQL(sql.value(), typeClass, params.toArray());
+            Optional<Limit> limit = getLimit(args);
+            Supplier<Stream<T>> resultSupplier = () -> limit
+                    .map(l -> template.partiQL(sql.value(), typeClass, l.startAt() - 1 + l.maxResults(), params)
+                            .skip(l.startAt() - 1))
+                    .orElseGet(() -> template.partiQL(sql.value(), typeClass, params.toArray()));
 
             return DynamicReturn.builder()
                     .classSource(typeClass)
@@ -107,6 +123,16 @@ class DynamoDBRepositoryProxy<T, K> extends AbstractSemiStructuredRepositoryProx
         return super.invoke(instance, method, args);
     }
 
+    private static Optional<Limit> getLimit(Object[] args) {
+        if (args == null) {
+            return Optional.empty();
+        }
+        return Stream.of(args)
+                .filter(Limit.class::isInstance)
+                .map(Limit.class::cast)
+                .findFirst();
+    }
+
     private List<Object> getParams(Object[] args, Method method) {
 
         List<Object> params = new ArrayList<>();
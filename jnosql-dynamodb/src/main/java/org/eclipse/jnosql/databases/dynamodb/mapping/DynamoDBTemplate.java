@@ -15,8 +15,15 @@
 
 package org.eclipse.jnosql.databases.dynamodb.mapping;
 
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBDatabaseManager;
+import org.eclipse.jnosql.databases.dynamodb.communication.PartiQLStatement;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 /**
@@ -61,4 +68,98 @@ public interface DynamoDBTemplate extends DocumentTemplate {
      * @throws NullPointerException  when the query is null
      */
     <T> Stream<T> partiQL(String query, Class<T> entityType, Object... params);
+
+    /**
+     * Selects with the given read consistency instead of the one configured for the entity, such as an eventually
+     * consistent read, at half the read capacity, for a report that tolerates stale items.
+     *
+     * @param <T> the entity type
+     * @param query the query
+     * @param consistentRead whether to read with strong consistency
+     * @return a {@link Stream} of the entities
+     * @throws NullPointerException when query is null
+     * @see DynamoDBDatabaseManager#select(SelectQuery, boolean)
+     */
+    <T> Stream<T> select(SelectQuery query, boolean consistentRead);
+
+    /**
+     * Executes a DynamoDB query using
+     * <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/ql-reference.html">PartiQL</a> with
+     * parameters, returning at most {@code limit} entities. The pages are read as the stream is consumed, and no page
+     * is read once the limit is reached.
+     *
+     * @param <T> the entity type
+     * @param query the PartiQL query
+     * @param entityType the class of the result entity type
+     * @param limit the maximum number of entities
+     * @param params the query parameters
+     * @return a {@link Stream} of results representing the query result
+     * @throws NullPointerException  when the query, the entityType or the params is null
+     * @throws IllegalArgumentException when the limit is not positive
+     */
+    <T> Stream<T> partiQL(String query, Class<T> entityType, long limit, List<?> params);
+
+    /**
+     * Executes the PartiQL write statements, such as inserts and updates of many items, with
+     * {@code BatchExecuteStatement} calls of up to 25 statements each.
+     *
+     * @param statements the statements
+     * @throws NullPointerException when statements is null
+     * @see DynamoDBDatabaseManager#partiQLBatch(List)
+     */
+    void partiQLBatch(List<PartiQLStatement> statements);
+
+    /**
+     * Reads every entity of the type with a parallel scan of {@code totalSegments} segments, each one read on its own
+     * virtual thread, so a backfill or an export can use the whole read capacity of the table. The entities come in
+     * no particular order; close the stream to stop the segments that are still reading.
+     *
+     * @param <T> the entity type
+     * @param entityType the class of the entity type
+     * @param totalSegments the number of segments
+     * @return a {@link Stream} of every entity of the type
+     * @throws NullPointerException  when the entityType is null
+     * @throws IllegalArgumentException when totalSegments is not between 1 and 1,000,000
+     */
+    <T> Stream<T> parallelScan(Class<T> entityType, int totalSegments);
+
+    /**
+     * Inserts the entity through the asynchronous manager, without holding a thread while DynamoDB writes it.
+     *
+     * @param <T> the entity type
+     * @param entity the entity
+     * @return a future of the entity, once it was written
+     * @throws NullPointerException when the entity is null
+     */
+    <T> CompletableFuture<T> insertAsync(T entity);
+
+    /**
+     * Updates the entity through the asynchronous manager, without holding a thread while DynamoDB writes it.
+     *
+     * @param <T> the entity type
+     * @param entity the entity
+     * @return a future of the entity, once it was written
+     * @throws NullPointerException when the entity is null
+     */
+    <T> CompletableFuture<T> updateAsync(T entity);
+
+    /**
+     * Publishes the entities that match the query through the asynchronous manager, which reads the next page only
+     * as the subscriber demands it.
+     *
+     * @param <T> the entity type
+     * @param query the query
+     * @return a publisher of the matching entities
+     * @throws NullPointerException when the query is null
+     */
+    <T> SdkPublisher<T> selectAsync(SelectQuery query);
+
+    /**
+     * Deletes the entities that match the query through the asynchronous manager.
+     *
+     * @param query the query
+     * @return a future completed once every matching entity was deleted
+     * @throws NullPointerException when the query is null
+     */
+    CompletableFuture<Void> deleteAsync(DeleteQuery query);
 }
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.eclipse.jnosql.databases.dynamodb.communication.CommunicationEntityGenerator.createRandomEntity;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ID;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBTestUtils.CONFIG;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+class DefaultDynamoDBAsyncDatabaseManagerTest {
+
+    private DynamoDbClient dynamoDbClient;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = CONFIG.getDynamoDbClient(CONFIG.getSettings());
+        tearDown();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dynamoDbClient.listTables()
+                .tableNames()
+                .forEach(tableName -> dynamoDbClient.deleteTable(DeleteTableRequest.builder().tableName(tableName).build()));
+    }
+
+    private DynamoDBAsyncDatabaseManager getDatabaseManager() {
+        var settings = CONFIG.customSetting(Settings.builder()
+                .put(DynamoDBConfigurations.CREATE_TABLES, "true"));
+        var database = settings.get(MappingConfigurations.DOCUMENT_DATABASE, String.class).orElseThrow();
+        return CONFIG.getAsyncDocumentManagerFactory(settings).apply(database);
+    }
+
+    @Test
+    void shouldInsertSelectAndDelete() {
+        try (var manager = getDatabaseManager()) {
+            var entity = createRandomEntity();
+            var others = List.of(createRandomEntity(), createRandomEntity());
+            manager.insert(entity).join();
+            manager.insert(others).join();
+
+            var id = entity.find(ID, String.class).orElseThrow();
+            List<CommunicationEntity> byId = new ArrayList<>();
+            manager.select(select().from(entity.name()).where(ID).eq(id).build()).subscribe(byId::add).join();
+            List<CommunicationEntity> all = new ArrayList<>();
+            manager.select(select().from(entity.name()).build()).subscribe(all::add).join();
+
+            manager.delete(delete().from(entity.name()).where(ID).eq(id).build()).join();
+            List<CommunicationEntity> afterDelete = new ArrayList<>();
+            manager.select(select().from(entity.name()).build()).subscribe(afterDelete::add).join();
+
+            assertSoftly(softly -> {
+                softly.assertThat(byId).hasSize(1);
+                softly.assertThat(byId.getFirst().find(ID, String.class)).contains(id);
+                softly.assertThat(all).hasSize(3);
+                softly.assertThat(afterDelete).hasSize(2);
+                softly.assertThat(manager.count(entity.name()).join()).isNotNegative();
+            });
+        }
+    }
+
+    @Test
+    void shouldSelectWithLimitAndSkip() {
+        try (var manager = getDatabaseManager()) {
+            var entities = List.of(createRandomEntity(), createRandomEntity(), createRandomEntity(),
+                    createRandomEntity(), createRandomEntity());
+            manager.insert(entities).join();
+            var name = entities.getFirst().name();
+
+            List<CommunicationEntity> limited = new ArrayList<>();
+            manager.select(select().from(name).limit(2).build()).subscribe(limited::add).join();
+            List<CommunicationEntity> skipped = new ArrayList<>();
+            manager.select(select().from(name).skip(4).limit(2).build()).subscribe(skipped::add).join();
+
+            assertSoftly(softly -> {
+                softly.assertThat(limited).as("the limit should bound the result").hasSize(2);
+                softly.assertThat(skipped).as("the skip should discard the first items").hasSize(1);
+            });
+        }
+    }
+
+    @Test
+    void shouldDeleteMoreItemsThanOneWindow() {
+        var settings = CONFIG.customSetting(Settings.builder()
+                .put(DynamoDBConfigurations.CREATE_TABLES, "true")
+                .put(DynamoDBConfigurations.BATCH_CONCURRENCY, "1"));
+        var database = settings.get(MappingConfigurations.DOCUMENT_DATABASE, String.class).orElseThrow();
+        try (var manager = CONFIG.getAsyncDocumentManagerFactory(settings).apply(database)) {
+            var entities = IntStream.range(0, 60).mapToObj(index -> createRandomEntity()).toList();
+            manager.insert(entities).join();
+            var name = entities.getFirst().name();
+
+            manager.delete(delete().from(name).build()).join();
+
+            assertSoftly(softly -> softly.assertThat(manager.count(name).join()).isZero());
+        }
+    }
+
+    @Test
+    void shouldReturnZeroWhenCountingMissingTable() {
+        try (var manager = getDatabaseManager()) {
+            assertSoftly(softly -> softly.assertThat(manager.count("missing").join()).isZero());
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
 
+import jakarta.data.page.PageRequest;
 import net.datafaker.Faker;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
@@ -36,6 +37,7 @@ import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -371,6 +373,32 @@ class DefaultDynamoDBDatabaseManagerTest {
         }
     }
 
+    @Test
+    void shouldDeleteByKeyOnlyWhenTheConditionMatches() {
+
+        try (var manager = getDatabaseManagerCanCreateTables()) {
+
+            var entity = createRandomEntity();
+            manager.insert(entity);
+            var id = entity.find(ID, String.class).orElseThrow();
+            var name = entity.find("name", String.class).orElseThrow();
+
+            assertSoftly(softly -> {
+                manager.delete(delete().from(entity.name()).where(ID).eq(id).and("name").eq(name + "-other").build());
+                softly.assertThat(getItem(entity.name(), id))
+                        .as("the item should be kept when the condition does not match")
+                        .isNotEmpty();
+
+                manager.delete(delete().from(entity.name()).where(ID).eq(id).and("name").eq(name).build());
+                softly.assertThat(getItem(entity.name(), id))
+                        .as("the item should be deleted when the condition matches")
+                        .isEmpty();
+
+                manager.delete(delete().from(entity.name()).where(ID).eq("unknown").build());
+            });
+        }
+    }
+
     @Test
     void shouldCountByDocumentQuery() {
 
@@ -419,6 +447,112 @@ class DefaultDynamoDBDatabaseManagerTest {
         }
     }
 
+    @Test
+    void shouldSelectByPartitionKey() {
+
+        try (var manager = getDatabaseManagerCanCreateTables()) {
+
+            var entity = createRandomEntity();
+            manager.insert(List.of(entity, createRandomEntity()));
+            var id = entity.find(ID, String.class).orElseThrow();
+            var name = entity.find("name", String.class).orElseThrow();
+
+            assertSoftly(softly -> {
+                softly.assertThat(manager.select(select().from(entity.name()).where(ID).eq(id).build()))
+                        .as("the item should be read by its key")
+                        .hasSize(1);
+                softly.assertThat(manager.select(select().from(entity.name()).where(ID).eq(id)
+                                .and("name").eq(name).build()))
+                        .as("the item should be read by its key and filtered")
+                        .hasSize(1);
+                softly.assertThat(manager.select(select().from(entity.name()).where(ID).eq(id)
+                                .and("name").eq(name + "-other").build()))
+                        .as("the item should be filtered out")
+                        .isEmpty();
+                softly.assertThat(manager.select(select().from(entity.name()).where(ID).eq("unknown").build()))
+                        .as("a missing key should return nothing")
+                        .isEmpty();
+            });
+        }
+    }
+
+    @Test
+    void shouldSelectWithLimitAndSkip() {
+
+        try (var manager = getDatabaseManagerCanCreateTables()) {
+
+            var entities = List.of(createRandomEntity(), createRandomEntity(), createRandomEntity(),
+                    createRandomEntity(), createRandomEntity());
+            manager.insert(entities);
+            var name = entities.getFirst().name();
+
+            assertSoftly(softly -> {
+                softly.assertThat(manager.select(select().from(name).limit(2).build()))
+                        .as("the limit should bound the result")
+                        .hasSize(2);
+                softly.assertThat(manager.select(select().from(name).skip(4).limit(2).build()))
+                        .as("the skip should discard the first items")
+                        .hasSize(1);
+                softly.assertThat(manager.select(select().from(name).where("name")
+                                .eq(entities.getLast().find("name", String.class).orElseThrow()).limit(1).build()))
+                        .as("the limit should apply to the filtered items")
+                        .hasSize(1);
+            });
+        }
+    }
+
+    @Test
+    void shouldSelectCursorPages() {
+
+        try (var manager = getDatabaseManagerCanCreateTables()) {
+
+            var entities = List.of(createRandomEntity(), createRandomEntity(), createRandomEntity(),
+                    createRandomEntity(), createRandomEntity());
+            manager.insert(entities);
+            var query = select().from(entities.getFirst().name()).build();
+
+            List<Object> ids = new ArrayList<>();
+            var page = manager.selectCursor(query, PageRequest.ofSize(2));
+            page.content().forEach(entity -> ids.add(entity.find(ID).orElseThrow().get()));
+            while (page.hasNext()) {
+                page = manager.selectCursor(query, page.nextPageRequest());
+                assertThat(page.numberOfElements()).isLessThanOrEqualTo(2);
+                page.content().forEach(entity -> ids.add(entity.find(ID).orElseThrow().get()));
+            }
+
+            assertThat(ids).hasSize(5).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(entities.stream()
+                            .map(entity -> entity.find(ID).orElseThrow().get()).toList());
+        }
+    }
+
+    @Test
+    void shouldSelectFilteredCursorPages() {
+
+        try (var manager = getDatabaseManagerCanCreateTables()) {
+
+            var entities = new ArrayList<CommunicationEntity>();
+            for (int index = 0; index < 6; index++) {
+                var entity = createRandomEntity();
+                entity.add("group", index % 2 == 0 ? "even" : "odd");
+                entities.add(entity);
+            }
+            manager.insert(entities);
+            var query = select().from(entities.getFirst().name()).where("group").eq("even").build();
+
+            List<Object> ids = new ArrayList<>();
+            var page = manager.selectCursor(query, PageRequest.ofSize(1));
+            page.content().forEach(entity -> ids.add(entity.find(ID).orElseThrow().get()));
+            while (page.hasNext()) {
+                page = manager.selectCursor(query, page.nextPageRequest());
+                assertThat(page.numberOfElements()).isLessThanOrEqualTo(1);
+                page.content().forEach(entity -> ids.add(entity.find(ID).orElseThrow().get()));
+            }
+
+            assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        }
+    }
+
     @Test
     void shouldExecutePartiQL() {
 
@@ -441,6 +575,14 @@ class DefaultDynamoDBDatabaseManagerTest {
                                 entity1.find(ID).orElseThrow().get()))
                         .as("the returned count number of items from a given DocumentQuery is incorrect")
                         .hasSize(1));
+
+                var name = entities.getLast().find("name", String.class).orElseThrow();
+                assertSoftly(softly -> softly.assertThat(partiManager.partiQL("""
+                                        SELECT * FROM %s WHERE name = ?
+                                        """.formatted(entity1.name()),
+                                entity1.name(), 1, List.of(name)))
+                        .as("the limit should apply to the filtered items")
+                        .hasSize(1));
             }
         }
     }
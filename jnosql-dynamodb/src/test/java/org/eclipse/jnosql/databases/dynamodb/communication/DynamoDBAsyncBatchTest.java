@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamoDBAsyncBatchTest {
+
+    private static final String TABLE = "music";
+
+    private final DynamoDbAsyncClient client = mock(DynamoDbAsyncClient.class);
+
+    @Test
+    void shouldChunkWrites() {
+        AtomicInteger items = new AtomicInteger();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            items.addAndGet(request.requestItems().get(TABLE).size());
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build());
+        });
+
+        new DynamoDBAsyncBatch(client, 2, 4).write(TABLE, puts(60), List.of("id")).join();
+
+        assertThat(items).hasValue(60);
+        verify(client, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldLimitChunksInFlight() {
+        List<CompletableFuture<BatchWriteItemResponse>> inFlight = new ArrayList<>();
+        AtomicInteger items = new AtomicInteger();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            items.addAndGet(request.requestItems().get(TABLE).size());
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            inFlight.add(response);
+            return response;
+        });
+
+        var write = new DynamoDBAsyncBatch(client, 2, 2).write(TABLE, puts(250), List.of("id"));
+
+        int maxInFlight = 0;
+        while (!inFlight.isEmpty()) {
+            maxInFlight = Math.max(maxInFlight, inFlight.size());
+            inFlight.removeFirst().complete(BatchWriteItemResponse.builder().build());
+        }
+        write.join();
+        assertThat(maxInFlight).isEqualTo(2);
+        assertThat(items).hasValue(250);
+        verify(client, times(10)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldRequestPublishedWritesOneWindowAtATime() {
+        List<CompletableFuture<BatchWriteItemResponse>> inFlight = new ArrayList<>();
+        AtomicInteger items = new AtomicInteger();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            items.addAndGet(request.requestItems().get(TABLE).size());
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            inFlight.add(response);
+            return response;
+        });
+        AtomicInteger published = new AtomicInteger();
+        var requests = DynamoDBPublishers.of(puts(120)).map(request -> {
+            published.incrementAndGet();
+            return request;
+        });
+
+        var write = new DynamoDBAsyncBatch(client, 2, 2).write(TABLE, requests, List.of("id"));
+
+        assertThat(published).as("only the first window should be requested").hasValue(50);
+        while (!inFlight.isEmpty()) {
+            inFlight.removeFirst().complete(BatchWriteItemResponse.builder().build());
+        }
+        write.join();
+        assertThat(published).hasValue(120);
+        assertThat(items).hasValue(120);
+        verify(client, times(5)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldFailWhenWritesAreStillUnprocessed() {
+        List<WriteRequest> unprocessed = puts(2);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                BatchWriteItemResponse.builder().unprocessedItems(Map.of(TABLE, unprocessed)).build()));
+
+        var write = new DynamoDBAsyncBatch(client, 1, 4).write(TABLE, puts(10), List.of("id"));
+
+        assertThatThrownBy(write::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(DynamoDBBatchException.class,
+                        exception -> assertThat(exception.unprocessedWrites()).isEqualTo(unprocessed));
+        verify(client, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldRetryUnprocessedKeys() {
+        Map<String, AttributeValue> first = Map.of("id", AttributeValue.fromS("1"));
+        Map<String, AttributeValue> second = Map.of("id", AttributeValue.fromS("2"));
+        when(client.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BatchGetItemResponse.builder()
+                        .responses(Map.of(TABLE, List.of(first)))
+                        .unprocessedKeys(Map.of(TABLE, KeysAndAttributes.builder().keys(second).build()))
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(BatchGetItemResponse.builder()
+                        .responses(Map.of(TABLE, List.of(second)))
+                        .build()));
+
+        var items = new DynamoDBAsyncBatch(client, 2, 4).get(TABLE, List.of(first, second, first)).join();
+
+        assertThat(items).containsExactlyInAnyOrder(first, second);
+        verify(client, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    private static List<WriteRequest> puts(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> Map.of("id", AttributeValue.fromS(Integer.toString(index))))
+                .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+                .toList();
+    }
+}
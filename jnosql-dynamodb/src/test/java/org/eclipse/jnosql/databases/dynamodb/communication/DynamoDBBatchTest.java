@@ -0,0 +1,277 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementError;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementErrorCodeEnum;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchStatementResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamoDBBatchTest {
+
+    private static final String TABLE = "music";
+
+    private static final List<String> KEYS = List.of("id");
+
+    private final DynamoDbClient client = mock(DynamoDbClient.class);
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    void shouldChunkWrites() {
+        List<Integer> sizes = new ArrayList<>();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            sizes.add(request.requestItems().get(TABLE).size());
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        batch(1).write(TABLE, puts(60), KEYS);
+
+        assertThat(sizes).containsExactly(25, 25, 10);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void shouldRetryUnprocessedWrites() {
+        List<WriteRequest> unprocessed = puts(2).toList();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(Map.of(TABLE, unprocessed)).build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        batch(1).write(TABLE, puts(10), KEYS);
+
+        verify(client, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+        verify(client).batchWriteItem(BatchWriteItemRequest.builder().requestItems(Map.of(TABLE, unprocessed)).build());
+        assertThat(sleeps).hasSize(1).allSatisfy(delay -> assertThat(delay).isBetween(0L, 50L));
+    }
+
+    @Test
+    void shouldFailWhenWritesAreStillUnprocessed() {
+        List<WriteRequest> unprocessed = puts(3).toList();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(Map.of(TABLE, unprocessed)).build());
+
+        assertThatThrownBy(() -> batch(1).write(TABLE, puts(10), KEYS))
+                .isInstanceOfSatisfying(DynamoDBBatchException.class, exception -> {
+                    assertThat(exception.unprocessedWrites()).isEqualTo(unprocessed);
+                    assertThat(exception.unprocessedKeys()).isEmpty();
+                });
+        verify(client, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+        assertThat(sleeps).hasSize(2);
+    }
+
+    @Test
+    void shouldKeepTheLastWriteOfAKey() {
+        List<BatchWriteItemRequest> requests = new ArrayList<>();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        batch(1).write(TABLE, Stream.of(put("1", "first"), put("2", "second"), put("1", "third")), KEYS);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.getFirst().requestItems().get(TABLE))
+                .containsExactly(put("2", "second"), put("1", "third"));
+    }
+
+    @Test
+    void shouldRunChunksConcurrently() {
+        AtomicInteger items = new AtomicInteger();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            items.addAndGet(request.requestItems().get(TABLE).size());
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        batch(4).write(TABLE, puts(250), KEYS);
+
+        assertThat(items).hasValue(250);
+        verify(client, times(10)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldChunkAndRetryGets() {
+        List<Map<String, AttributeValue>> keys = IntStream.range(0, 150).mapToObj(index -> key(Integer.toString(index))).toList();
+        List<Map<String, AttributeValue>> unprocessed = keys.subList(0, 5);
+        AtomicInteger calls = new AtomicInteger();
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            List<Map<String, AttributeValue>> requested = request.requestItems().get(TABLE).keys();
+            assertThat(requested.size()).isLessThanOrEqualTo(DynamoDBBatch.MAX_GET_KEYS);
+            if (calls.getAndIncrement() == 0) {
+                List<Map<String, AttributeValue>> read = new ArrayList<>(requested);
+                read.removeAll(unprocessed);
+                return BatchGetItemResponse.builder()
+                        .responses(Map.of(TABLE, read))
+                        .unprocessedKeys(Map.of(TABLE, KeysAndAttributes.builder().keys(unprocessed).build()))
+                        .build();
+            }
+            return BatchGetItemResponse.builder().responses(Map.of(TABLE, requested)).build();
+        });
+
+        List<Map<String, AttributeValue>> items = batch(1).get(TABLE, keys);
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(keys);
+        verify(client, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    void shouldNotReadWithoutKeys() {
+        assertThat(batch(1).get(TABLE, List.of())).isEmpty();
+        verify(client, times(0)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void shouldChunkStatements() {
+        List<Integer> sizes = new ArrayList<>();
+        when(client.batchExecuteStatement(any(BatchExecuteStatementRequest.class))).thenAnswer(invocation -> {
+            BatchExecuteStatementRequest request = invocation.getArgument(0);
+            sizes.add(request.statements().size());
+            return BatchExecuteStatementResponse.builder().build();
+        });
+
+        batch(1).execute(statements(30));
+
+        assertThat(sizes).containsExactly(25, 5);
+    }
+
+    @Test
+    void shouldRetryThrottledStatements() {
+        List<BatchStatementRequest> statements = statements(3);
+        when(client.batchExecuteStatement(any(BatchExecuteStatementRequest.class)))
+                .thenReturn(BatchExecuteStatementResponse.builder().responses(
+                        BatchStatementResponse.builder().build(),
+                        failed(BatchStatementErrorCodeEnum.THROTTLING_ERROR),
+                        BatchStatementResponse.builder().build()).build())
+                .thenReturn(BatchExecuteStatementResponse.builder()
+                        .responses(BatchStatementResponse.builder().build()).build());
+
+        batch(1).execute(statements);
+
+        verify(client).batchExecuteStatement(BatchExecuteStatementRequest.builder()
+                .statements(statements.get(1)).build());
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    void shouldFailOnRejectedStatements() {
+        when(client.batchExecuteStatement(any(BatchExecuteStatementRequest.class)))
+                .thenReturn(BatchExecuteStatementResponse.builder().responses(
+                        failed(BatchStatementErrorCodeEnum.CONDITIONAL_CHECK_FAILED),
+                        BatchStatementResponse.builder().build()).build());
+
+        assertThatThrownBy(() -> batch(1).execute(statements(2)))
+                .isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("1 PartiQL statements failed")
+                .hasMessageContaining("ConditionalCheckFailed");
+        verify(client, times(1)).batchExecuteStatement(any(BatchExecuteStatementRequest.class));
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void shouldReportConsumedCapacity() {
+        List<DynamoDBConsumedCapacity> consumed = new ArrayList<>();
+        ConsumedCapacity capacity = ConsumedCapacity.builder().tableName(TABLE).capacityUnits(25D).build();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().consumedCapacity(capacity).build());
+        var batch = new DynamoDBBatch(client, 2, 1, sleeps::add,
+                new DynamoDBCapacity(ReturnConsumedCapacity.TOTAL, consumed::add));
+
+        try (var scope = DynamoDBCapacityScope.open("import")) {
+            batch.write(TABLE, puts(30), KEYS);
+        }
+
+        verify(client, times(2)).batchWriteItem(argThat((BatchWriteItemRequest request) ->
+                request.returnConsumedCapacity() == ReturnConsumedCapacity.TOTAL));
+        assertThat(consumed).hasSize(2).allSatisfy(event -> {
+            assertThat(event.operation()).isEqualTo("BatchWriteItem");
+            assertThat(event.source()).isEqualTo("import");
+            assertThat(event.capacityUnits()).isEqualTo(25D);
+        });
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new DynamoDBBatch(client, -1, 1, sleeps::add))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DynamoDBBatch(client, 1, 0, sleeps::add))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DynamoDBBatch batch(int concurrency) {
+        return new DynamoDBBatch(client, 2, concurrency, sleeps::add);
+    }
+
+    private static Stream<WriteRequest> puts(int size) {
+        return IntStream.range(0, size).mapToObj(index -> put(Integer.toString(index), "value"));
+    }
+
+    private static WriteRequest put(String id, String value) {
+        Map<String, AttributeValue> item = Map.of("id", AttributeValue.fromS(id), "value", AttributeValue.fromS(value));
+        return WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build();
+    }
+
+    private static List<BatchStatementRequest> statements(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> BatchStatementRequest.builder()
+                        .statement("UPDATE music SET value = 'value' WHERE id = '" + index + "'")
+                        .build())
+                .toList();
+    }
+
+    private static BatchStatementResponse failed(BatchStatementErrorCodeEnum code) {
+        return BatchStatementResponse.builder()
+                .error(BatchStatementError.builder().code(code).message("failed").build())
+                .build();
+    }
+
+    private static Map<String, AttributeValue> key(String id) {
+        return Map.of("id", AttributeValue.fromS(id));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDBCapacityTest {
+
+    private static final ConsumedCapacity CAPACITY = ConsumedCapacity.builder()
+            .tableName("music")
+            .capacityUnits(0.5)
+            .build();
+
+    private final List<DynamoDBConsumedCapacity> consumed = new ArrayList<>();
+
+    @Test
+    void shouldNotAskForCapacityByDefault() {
+        var capacity = DynamoDBCapacity.of(Settings.builder().build());
+        assertThat(capacity.mode()).isNull();
+    }
+
+    @Test
+    void shouldAskForTotalCapacityWithListener() {
+        DynamoDBCapacityListener listener = consumed::add;
+        var capacity = DynamoDBCapacity.of(Settings.builder()
+                .put(DynamoDBConfigurations.CAPACITY_LISTENER.get(), listener)
+                .build());
+
+        capacity.reporter("GetItem").accept(CAPACITY);
+
+        assertThat(capacity.mode()).isEqualTo(ReturnConsumedCapacity.TOTAL);
+        assertThat(consumed).singleElement().satisfies(event -> {
+            assertThat(event.operation()).isEqualTo("GetItem");
+            assertThat(event.tableName()).isEqualTo("music");
+            assertThat(event.capacityUnits()).isEqualTo(0.5);
+            assertThat(event.readCapacityUnits()).isZero();
+            assertThat(event.source()).isNull();
+        });
+    }
+
+    @Test
+    void shouldReadCapacityMode() {
+        var capacity = DynamoDBCapacity.of(Settings.builder()
+                .put(DynamoDBConfigurations.CONSUMED_CAPACITY.get(), "indexes")
+                .build());
+        assertThat(capacity.mode()).isEqualTo(ReturnConsumedCapacity.INDEXES);
+    }
+
+    @Test
+    void shouldCreateListenerFromClassName() {
+        var capacity = DynamoDBCapacity.of(Settings.builder()
+                .put(DynamoDBConfigurations.CAPACITY_LISTENER.get(), CountingListener.class.getName())
+                .build());
+        capacity.reporter("Query").accept(CAPACITY);
+        assertThat(capacity.mode()).isEqualTo(ReturnConsumedCapacity.TOTAL);
+    }
+
+    @Test
+    void shouldRejectClassThatIsNotListener() {
+        var settings = Settings.builder()
+                .put(DynamoDBConfigurations.CAPACITY_LISTENER.get(), String.class.getName())
+                .build();
+        assertThatThrownBy(() -> DynamoDBCapacity.of(settings)).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldKeepSourceOfTheScopeThatCreatedTheReporter() {
+        var capacity = new DynamoDBCapacity(ReturnConsumedCapacity.TOTAL, consumed::add);
+        Consumer<ConsumedCapacity> report;
+        try (var scope = DynamoDBCapacityScope.open("HumanRepository#findAll")) {
+            try (var inner = DynamoDBCapacityScope.open("inner")) {
+                assertThat(DynamoDBCapacityScope.current()).contains("inner");
+            }
+            report = capacity.reporter("Scan");
+        }
+        report.accept(CAPACITY);
+        report.accept(null);
+
+        assertThat(DynamoDBCapacityScope.current()).isEmpty();
+        assertThat(consumed).singleElement()
+                .satisfies(event -> assertThat(event.source()).isEqualTo("HumanRepository#findAll"));
+    }
+
+    @Test
+    void shouldIgnoreListenerFailures() {
+        var capacity = new DynamoDBCapacity(ReturnConsumedCapacity.TOTAL, event -> {
+            throw new IllegalStateException("metrics are down");
+        });
+        capacity.reporter("PutItem").accept(CAPACITY);
+    }
+
+    public static class CountingListener implements DynamoDBCapacityListener {
+
+        @Override
+        public void onConsumedCapacity(DynamoDBConsumedCapacity consumed) {
+        }
+    }
+}
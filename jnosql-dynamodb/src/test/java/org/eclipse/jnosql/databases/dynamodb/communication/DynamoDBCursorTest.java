@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import jakarta.data.page.PageRequest;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDBCursorTest {
+
+    @Test
+    void shouldEncodeAndDecodeKey() {
+        Map<String, AttributeValue> key = Map.of(
+                "customer", AttributeValue.fromS("ada~lovelace.1815"),
+                "created", AttributeValue.fromN("1700000000"),
+                "hash", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[]{0, 1, -1})));
+
+        String token = DynamoDBCursor.encode(key);
+
+        assertThat(token).matches("[A-Za-z0-9_\\-.~]+");
+        assertThat(DynamoDBCursor.decode(token)).isEqualTo(key);
+        assertThat(DynamoDBCursor.key(DynamoDBCursor.of(key))).isEqualTo(key);
+    }
+
+    @Test
+    void shouldEncodeKeyInNameOrder() {
+        Map<String, AttributeValue> key = Map.of("b", AttributeValue.fromS("2"), "a", AttributeValue.fromS("1"));
+        assertThat(DynamoDBCursor.encode(key))
+                .isEqualTo(DynamoDBCursor.encode(Map.of("a", AttributeValue.fromS("1"), "b", AttributeValue.fromS("2"))));
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> DynamoDBCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DynamoDBCursor.key(PageRequest.Cursor.forKey(10, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReadForwardOnly() {
+        var cursor = DynamoDBCursor.of(Map.of("id", AttributeValue.fromS("ada")));
+        var next = PageRequest.afterCursor(cursor, 2, 1, false);
+        var page = new DynamoDBCursoredPage<>(List.of("ada"), List.of(cursor), PageRequest.ofSize(1), next);
+        var last = new DynamoDBCursoredPage<>(List.of("grace"), List.of(cursor), next, null);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextPageRequest()).isEqualTo(next);
+        assertThat(page.cursor(0)).isEqualTo(cursor);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.hasTotals()).isFalse();
+        assertThat(last.hasNext()).isFalse();
+        assertThatThrownBy(last::nextPageRequest).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(page::previousPageRequest).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(page::totalElements).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.LocalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.util.Map;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class DynamoDBQuerySelectBuilderTest {
+
+    private static final TableDescription ORDERS = TableDescription.builder()
+            .tableName("orders")
+            .keySchema(key("customer", KeyType.HASH), key("created", KeyType.RANGE))
+            .localSecondaryIndexes(LocalSecondaryIndexDescription.builder()
+                    .indexName("by-total")
+                    .keySchema(key("customer", KeyType.HASH), key("total", KeyType.RANGE))
+                    .build())
+            .globalSecondaryIndexes(GlobalSecondaryIndexDescription.builder()
+                            .indexName("by-status")
+                            .indexStatus(IndexStatus.ACTIVE)
+                            .keySchema(key("status", KeyType.HASH))
+                            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                            .build(),
+                    GlobalSecondaryIndexDescription.builder()
+                            .indexName("by-region")
+                            .indexStatus(IndexStatus.ACTIVE)
+                            .keySchema(key("region", KeyType.HASH))
+                            .projection(Projection.builder().projectionType(ProjectionType.KEYS_ONLY).build())
+                            .build())
+            .build();
+
+    @Test
+    void shouldGetItemByPrimaryKey() {
+        var query = select().from("orders").where("customer").eq("ada").and("created").eq("2026-01-01").build();
+        var dynamoDBQuery = DynamoDBQuery.builderOf("orders", query, ORDERS).get();
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isGetItem()).isTrue();
+            softly.assertThat(dynamoDBQuery.key()).isEqualTo(Map.of(
+                    "customer", AttributeValue.fromS("ada"),
+                    "created", AttributeValue.fromS("2026-01-01")));
+            softly.assertThat(dynamoDBQuery.expressionAttributeNames()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldQueryByPartitionKeyAndSortKeyRange() {
+        var query = select().from("orders").where("customer").eq("ada").and("created").gt("2026-01-01")
+                .and("item").eq("book").build();
+        var dynamoDBQuery = DynamoDBQuery.builderOf("orders", query, ORDERS).get();
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isGetItem()).isFalse();
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.indexName()).isNull();
+            softly.assertThat(dynamoDBQuery.consistentRead()).isTrue();
+            softly.assertThat(dynamoDBQuery.keyConditionExpression()).isEqualTo("#customer = :customer_0 AND #created > :created_1");
+            softly.assertThat(dynamoDBQuery.filterExpression()).isEqualTo("#item = :item_2");
+        });
+    }
+
+    @Test
+    void shouldQueryLocalSecondaryIndex() {
+        var query = select().from("orders").where("customer").eq("ada").and("total").gte(10).build();
+        var dynamoDBQuery = DynamoDBQuery.builderOf("orders", query, ORDERS).get();
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.indexName()).isEqualTo("by-total");
+            softly.assertThat(dynamoDBQuery.consistentRead()).isTrue();
+            softly.assertThat(dynamoDBQuery.filterExpression()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldQueryGlobalSecondaryIndex() {
+        var query = select().from("orders").where("status").eq("open").build();
+        var dynamoDBQuery = DynamoDBQuery.builderOf("orders", query, ORDERS).get();
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.indexName()).isEqualTo("by-status");
+            softly.assertThat(dynamoDBQuery.consistentRead()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldQueryGlobalSecondaryIndexOnlyForProjectedAttributes() {
+        var everything = select().from("orders").where("region").eq("north").build();
+        var keys = select("customer", "created").from("orders").where("region").eq("north").build();
+        assertSoftly(softly -> {
+            softly.assertThat(DynamoDBQuery.builderOf("orders", everything, ORDERS).get().isQuery()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", keys, ORDERS).get().indexName()).isEqualTo("by-region");
+        });
+    }
+
+    @Test
+    void shouldScanWithoutPartitionKeyEquality() {
+        var or = select().from("orders").where("customer").eq("ada").or("customer").eq("poliana").build();
+        var range = select().from("orders").where("created").gt("2026-01-01").build();
+        var twice = select().from("orders").where("customer").eq("ada").and("customer").eq("poliana").build();
+        assertSoftly(softly -> {
+            softly.assertThat(DynamoDBQuery.builderOf("orders", or, ORDERS).get().isQuery()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", range, ORDERS).get().isQuery()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", twice, ORDERS).get().isQuery()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", or, null).get().isGetItem()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldTargetItemByPrimaryKey() {
+        var query = select("customer", "created").from("orders").where("customer").eq("ada")
+                .and("created").eq("2026-01-01").and("item").eq("book").build();
+        var item = new DynamoDBQuerySelectBuilder("orders", query, ORDERS).item();
+        assertSoftly(softly -> {
+            softly.assertThat(item).isPresent();
+            softly.assertThat(item.orElseThrow().key()).isEqualTo(Map.of(
+                    "customer", AttributeValue.fromS("ada"),
+                    "created", AttributeValue.fromS("2026-01-01")));
+            softly.assertThat(item.orElseThrow().filterExpression()).startsWith("#item = :item_");
+            var request = item.orElseThrow().deleteItemRequest("orders").build();
+            softly.assertThat(request.conditionExpression()).isEqualTo(item.orElseThrow().filterExpression());
+            softly.assertThat(request.expressionAttributeNames()).containsEntry("#item", "item");
+            softly.assertThat(request.expressionAttributeValues()).containsValue(AttributeValue.fromS("book"));
+        });
+    }
+
+    @Test
+    void shouldDeleteItemWithoutCondition() {
+        var query = select("customer", "created").from("orders").where("customer").eq("ada")
+                .and("created").eq("2026-01-01").build();
+        var request = new DynamoDBQuerySelectBuilder("orders", query, ORDERS).item().orElseThrow()
+                .deleteItemRequest("orders").build();
+        assertSoftly(softly -> {
+            softly.assertThat(request.conditionExpression()).isNull();
+            softly.assertThat(request.hasExpressionAttributeNames()).isFalse();
+            softly.assertThat(request.key()).containsKeys("customer", "created");
+        });
+    }
+
+    @Test
+    void shouldNotTargetItemWithoutWholePrimaryKey() {
+        var partition = select("customer", "created").from("orders").where("customer").eq("ada").build();
+        var range = select("customer", "created").from("orders").where("customer").eq("ada")
+                .and("created").gt("2026-01-01").build();
+        var or = select("customer", "created").from("orders").where("customer").eq("ada")
+                .or("created").eq("2026-01-01").build();
+        var all = select("customer", "created").from("orders").build();
+        assertSoftly(softly -> {
+            softly.assertThat(new DynamoDBQuerySelectBuilder("orders", partition, ORDERS).item()).isEmpty();
+            softly.assertThat(new DynamoDBQuerySelectBuilder("orders", range, ORDERS).item()).isEmpty();
+            softly.assertThat(new DynamoDBQuerySelectBuilder("orders", or, ORDERS).item()).isEmpty();
+            softly.assertThat(new DynamoDBQuerySelectBuilder("orders", all, ORDERS).item()).isEmpty();
+            softly.assertThat(new DynamoDBQuerySelectBuilder("orders", partition, null).item()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReadEventuallyConsistent() {
+        var scan = select().from("orders").where("item").eq("book").build();
+        var get = select().from("orders").where("customer").eq("ada").and("created").eq("2026-01-01").build();
+        var global = select().from("orders").where("status").eq("open").build();
+        assertSoftly(softly -> {
+            softly.assertThat(DynamoDBQuery.builderOf("orders", scan, ORDERS).get().withConsistentRead(false)
+                    .scanRequest("orders").build().consistentRead()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", scan, ORDERS).get().withConsistentRead(true)
+                    .scanRequest("orders").build().consistentRead()).isTrue();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", get, ORDERS).get().withConsistentRead(false)
+                    .getItemRequest("orders").build().consistentRead()).isFalse();
+            softly.assertThat(DynamoDBQuery.builderOf("orders", global, ORDERS).get().withConsistentRead(true)
+                    .queryRequest("orders").build().consistentRead()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReadConsistencyFromSettings() {
+        var settings = Settings.builder()
+                .put(DynamoDBConfigurations.CONSISTENT_READ.get(), "false")
+                .put(DynamoDBConfigurations.ENTITY_CONSISTENT_READ.get().formatted("orders"), "true")
+                .build();
+        assertSoftly(softly -> {
+            softly.assertThat(DynamoTableUtils.consistentRead("orders", settings)).isTrue();
+            softly.assertThat(DynamoTableUtils.consistentRead("reports", settings)).isFalse();
+            softly.assertThat(DynamoTableUtils.consistentRead("orders", Settings.builder().build())).isTrue();
+        });
+    }
+
+    private static KeySchemaElement key(String name, KeyType type) {
+        return KeySchemaElement.builder().attributeName(name).keyType(type).build();
+    }
+}
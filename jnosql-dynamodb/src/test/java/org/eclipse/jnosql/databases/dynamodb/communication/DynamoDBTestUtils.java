@@ -56,6 +56,11 @@ public enum DynamoDBTestUtils {
         return configuration.apply(settings);
     }
 
+    DynamoDBAsyncDatabaseManagerFactory getAsyncDocumentManagerFactory(Settings settings) {
+        var configuration = new DynamoDBDocumentConfiguration();
+        return configuration.applyAsync(settings);
+    }
+
     public Settings getSettings() {
         dynamodb.start();
         String dynamoDBHost = getDynamoDBHost(dynamodb.getHost(), dynamodb.getFirstMappedPort());
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelScanSpliteratorTest {
+
+    @Test
+    void shouldMergeEverySegment() {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var items = new ParallelScanSpliterator<Integer>(4, segment -> pages(segment, 3, 10), executor);
+            List<Integer> result = StreamSupport.stream(items, false).toList();
+            assertThat(result).hasSize(120).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void shouldSkipEmptyPages() {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var items = new ParallelScanSpliterator<Integer>(2, segment -> List.of(List.of(), List.of(segment)), executor);
+            assertThat(StreamSupport.stream(items, false).toList()).containsExactlyInAnyOrder(0, 1);
+        }
+    }
+
+    @Test
+    void shouldFailWhenSegmentFails() {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var items = new ParallelScanSpliterator<Integer>(2, segment -> {
+                if (segment == 1) {
+                    throw new IllegalStateException("throttled");
+                }
+                return pages(segment, 1, 1);
+            }, executor);
+            assertThatThrownBy(() -> StreamSupport.stream(items, false).toList())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("throttled");
+        }
+    }
+
+    @Test
+    void shouldStopSegmentsWhenClosed() throws InterruptedException {
+        var stopped = new CountDownLatch(2);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var items = new ParallelScanSpliterator<Integer>(2, segment -> () -> new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public List<Integer> next() {
+                    return List.of(segment);
+                }
+            }, command -> executor.execute(() -> {
+                command.run();
+                stopped.countDown();
+            }));
+            try (var stream = StreamSupport.stream(items, false).onClose(items::close)) {
+                assertThat(stream.limit(10).count()).isEqualTo(10L);
+            }
+            assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static List<List<Integer>> pages(int segment, int pages, int size) {
+        List<List<Integer>> result = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            int start = (segment * pages + page) * size;
+            result.add(IntStream.range(start, start + size).boxed().toList());
+        }
+        return result;
+    }
+}
@@ -18,8 +18,13 @@ package org.eclipse.jnosql.databases.dynamodb.mapping;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBAsyncDatabaseManager;
 import org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBDatabaseManager;
+import org.eclipse.jnosql.databases.dynamodb.communication.PartiQLStatement;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -36,9 +41,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 @EnableAutoWeld
@@ -63,6 +74,8 @@ class DefaultDynamoDBTemplateTest {
 
     private DynamoDBDatabaseManager manager;
 
+    private DynamoDBAsyncDatabaseManager asyncManager;
+
     private DynamoDBTemplate template;
 
     @BeforeEach
@@ -70,7 +83,10 @@ class DefaultDynamoDBTemplateTest {
         manager = Mockito.mock(DynamoDBDatabaseManager.class);
         Instance instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        template = new DefaultDynamoDBTemplate(instance, converter, persistManager, entities, converters);
+        asyncManager = Mockito.mock(DynamoDBAsyncDatabaseManager.class);
+        Instance asyncInstance = Mockito.mock(Instance.class);
+        Mockito.lenient().when(asyncInstance.get()).thenReturn(asyncManager);
+        template = new DefaultDynamoDBTemplate(instance, asyncInstance, converter, persistManager, entities, converters);
     }
 
     @Test
@@ -85,6 +101,76 @@ class DefaultDynamoDBTemplateTest {
         Mockito.verify(manager).partiQL("select from database where content.name = ?", "Human", List.of("Ada"), String.class);
     }
 
+    @Test
+    void shouldSelectEventuallyConsistent() {
+        var query = SelectQuery.select().from("Human").build();
+        when(manager.select(query, false)).thenReturn(Stream.empty());
+        assertThat(template.<Human>select(query, false)).isEmpty();
+        Mockito.verify(manager).select(query, false);
+    }
+
+    @Test
+    void shouldFindSQLWithLimit() {
+        template.partiQL("select from human where name = ?", Human.class, 10L, List.of("Ada"));
+        Mockito.verify(manager).partiQL("select from human where name = ?", "Human", 10L, List.of("Ada"));
+    }
+
+    @Test
+    void shouldExecutePartiQLBatch() {
+        List<PartiQLStatement> statements = List.of(PartiQLStatement.of("insert into human value {'name': ?}", "Ada"));
+        template.partiQLBatch(statements);
+        Mockito.verify(manager).partiQLBatch(statements);
+    }
+
+    @Test
+    void shouldParallelScan() {
+        ArgumentCaptor<SelectQuery> argumentCaptor = ArgumentCaptor.forClass(SelectQuery.class);
+        when(manager.parallelScan(argumentCaptor.capture(), Mockito.eq(4))).thenReturn(Stream.empty());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.parallelScan(Human.class, 4)).isEmpty();
+            soft.assertThat(argumentCaptor.getValue().name()).isEqualTo("Human");
+            soft.assertThat(argumentCaptor.getValue().condition()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldInsertAsync() {
+        when(asyncManager.insert(Mockito.any(CommunicationEntity.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+        ArgumentCaptor<CommunicationEntity> argumentCaptor = ArgumentCaptor.forClass(CommunicationEntity.class);
+        Human human = template.insertAsync(Human.of("Ada", 36)).join();
+        Mockito.verify(asyncManager).insert(argumentCaptor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(human).isEqualTo(Human.of("Ada", 36));
+            soft.assertThat(argumentCaptor.getValue().name()).isEqualTo("Human");
+        });
+    }
+
+    @Test
+    void shouldSelectAsync() {
+        var entity = CommunicationEntity.of("Human");
+        entity.add(Element.of("_id", "Ada"));
+        entity.add(Element.of("age", 36));
+        var query = SelectQuery.select().from("Human").build();
+        when(asyncManager.select(query)).thenReturn(SdkPublisher.adapt(subscriber -> {
+            var publisher = new SimplePublisher<CommunicationEntity>();
+            publisher.send(entity);
+            publisher.complete();
+            publisher.subscribe(subscriber);
+        }));
+        List<Human> humans = new ArrayList<>();
+        template.<Human>selectAsync(query).subscribe(humans::add).join();
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(humans).containsExactly(Human.of("Ada", 36)));
+    }
+
+    @Test
+    void shouldDeleteAsync() {
+        var query = DeleteQuery.delete().from("Human").build();
+        when(asyncManager.delete(query)).thenReturn(CompletableFuture.completedFuture(null));
+        template.deleteAsync(query).join();
+        Mockito.verify(asyncManager).delete(query);
+    }
+
     @Test
     void shouldDeleteAll(){
         ArgumentCaptor<DeleteQuery> argumentCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
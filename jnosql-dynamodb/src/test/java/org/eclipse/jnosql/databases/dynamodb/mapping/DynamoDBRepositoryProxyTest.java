@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.databases.dynamodb.mapping;
 
+import jakarta.data.Limit;
 import jakarta.data.repository.Param;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
@@ -37,6 +38,7 @@ import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -95,6 +97,16 @@ class DynamoDBRepositoryProxyTest {
         Assertions.assertThat(value).hasSize(1).contains("Ada");
     }
 
+    @Test
+    public void shouldFindByNameSQLWithLimit() {
+        when(template.partiQL(eq("select * from Person where name= ?"), eq(Human.class), eq(3L), eq(List.of("Ada"))))
+                .thenReturn(Stream.of(Human.of("Ada", 1), Human.of("Ada", 2), Human.of("Ada", 3)));
+
+        List<Human> result = personRepository.findByName("Ada", Limit.range(2, 3));
+
+        Assertions.assertThat(result).extracting(Human::getAge).containsExactly(2, 3);
+    }
+
     @Test
     public void shouldSaveUsingInsert() {
         Human human = Human.of("Ada", 10);
@@ -143,6 +155,9 @@ class DynamoDBRepositoryProxyTest {
 
         @PartiQL("select * from Person where name= ?")
         List<Human> findByName(@Param("") String name);
+
+        @PartiQL("select * from Person where name= ?")
+        List<Human> findByName(@Param("") String name, Limit limit);
     }
 
 }
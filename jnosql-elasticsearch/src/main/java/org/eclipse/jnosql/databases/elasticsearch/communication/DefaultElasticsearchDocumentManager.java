@@ -56,9 +56,13 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
 
     private final String index;
 
-    DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index) {
+    private final ElasticsearchMappingCache mappings;
+
+    DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index,
+                                        ElasticsearchMappingCache mappings) {
         this.elasticsearchClient = elasticsearchClient;
         this.index = index;
+        this.mappings = mappings;
     }
 
     @Override
@@ -150,7 +154,7 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        return EntityConverter.query(query, elasticsearchClient, index);
+        return EntityConverter.query(query, elasticsearchClient, index, mappings);
     }
 
     @Override
@@ -177,6 +181,11 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
         }
     }
 
+    @Override
+    public void refreshMapping() {
+        mappings.refresh(index);
+    }
+
     @Override
     public void close() {
         try {
@@ -36,7 +36,12 @@ public enum ElasticsearchConfigurations implements Supplier<String> {
     /**
      * The password's credential
      */
-    PASSWORD("jnosql.elasticsearch.password");
+    PASSWORD("jnosql.elasticsearch.password"),
+    /**
+     * How long, in milliseconds, the mapping of an index is kept to build the select queries before it is read again.
+     * A zero value reads the mapping on every select. By default, it is 60000.
+     */
+    MAPPING_CACHE_TTL("jnosql.elasticsearch.mapping.cache.ttl");
 
     private final String configuration;
 
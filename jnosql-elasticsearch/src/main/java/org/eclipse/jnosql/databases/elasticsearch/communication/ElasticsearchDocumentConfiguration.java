@@ -29,6 +29,7 @@ import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
@@ -82,7 +83,13 @@ public class ElasticsearchDocumentConfiguration implements DatabaseConfiguration
     public ElasticsearchDocumentManagerFactory apply(Settings settings) {
         ElasticsearchClient elasticsearchClient = buildElasticsearchClient(settings);
 
-        return new ElasticsearchDocumentManagerFactory(elasticsearchClient);
+        Duration mappingCacheTtl = settings.get(ElasticsearchConfigurations.MAPPING_CACHE_TTL)
+                .map(Object::toString)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .orElse(Duration.ofMillis(ElasticsearchMappingCache.DEFAULT_TTL_MILLIS));
+
+        return new ElasticsearchDocumentManagerFactory(elasticsearchClient, mappingCacheTtl);
     }
 
 /**
@@ -70,4 +70,13 @@ public interface ElasticsearchDocumentManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> search(SearchRequest request) throws NullPointerException;
 
+    /**
+     * Reads the mapping of the index again. The standard {@code select} keeps the mapping it uses to choose
+     * between term and match queries for {@link ElasticsearchConfigurations#MAPPING_CACHE_TTL}, so this method
+     * should be called after the mapping was changed outside of this manager.
+     *
+     * @throws IllegalStateException when Elasticsearch cannot return the mapping
+     */
+    void refreshMapping();
+
 }
@@ -22,6 +22,7 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -48,8 +49,16 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
 
     private final ElasticsearchClient elasticsearchClient;
 
+    private final ElasticsearchMappingCache mappings;
+
     ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient) {
+        this(elasticsearchClient, Duration.ofMillis(ElasticsearchMappingCache.DEFAULT_TTL_MILLIS));
+    }
+
+    ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient, Duration mappingCacheTtl) {
         this.elasticsearchClient = Objects.requireNonNull(elasticsearchClient, "elasticsearchClient is required");
+        this.mappings = new ElasticsearchMappingCache(elasticsearchClient,
+                Objects.requireNonNull(mappingCacheTtl, "mappingCacheTtl is required"));
     }
 
     @Override
@@ -62,7 +71,7 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
 
         LOGGER.log(Level.FINE, "Elasticsearch document manager initialized for index: {0}", database);
 
-        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database);
+        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database, mappings);
     }
 
     private void initDatabase(String database) {
@@ -82,6 +91,7 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
             CreateIndexRequest request = createIndexRequest(database, mappingResource, stream);
 
             elasticsearchClient.indices().create(request);
+            mappings.invalidate(database);
 
             LOGGER.log(Level.INFO, "Elasticsearch index created successfully: {0}", database);
         } catch (IOException exception) {
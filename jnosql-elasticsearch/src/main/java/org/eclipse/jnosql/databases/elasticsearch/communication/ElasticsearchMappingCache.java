@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.indices.GetMappingRequest;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * A per-index cache of the mappings that {@link QueryConverter} reads to choose between term and match queries, so a
+ * select does not read the cluster state before every search. Each mapping expires a fixed time after it was read,
+ * and it is dropped on an explicit refresh or when Elasticsearch rejects a search on the index.
+ */
+final class ElasticsearchMappingCache {
+
+    static final long DEFAULT_TTL_MILLIS = 60_000L;
+
+    private final ElasticsearchClient client;
+
+    private final long ttlNanos;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    ElasticsearchMappingCache(ElasticsearchClient client, Duration ttl) {
+        this(client, ttl, System::nanoTime);
+    }
+
+    ElasticsearchMappingCache(ElasticsearchClient client, Duration ttl, LongSupplier clock) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+        }
+        this.client = client;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the mapping of the index, reading it from Elasticsearch when it is not cached or has expired.
+     * A zero time to live disables the cache.
+     */
+    IndexMappingRecord get(String index) {
+        Entry entry = entries.get(index);
+        if (entry != null && clock.getAsLong() - entry.expiresAt() < 0) {
+            return entry.mapping();
+        }
+        IndexMappingRecord mapping = read(index);
+        if (ttlNanos > 0 && mapping != null) {
+            entries.put(index, new Entry(mapping, clock.getAsLong() + ttlNanos));
+        } else {
+            entries.remove(index);
+        }
+        return mapping;
+    }
+
+    /**
+     * Reads the mapping of the index again, replacing the cached one.
+     */
+    IndexMappingRecord refresh(String index) {
+        entries.remove(index);
+        return get(index);
+    }
+
+    void invalidate(String index) {
+        entries.remove(index);
+    }
+
+    /**
+     * Drops the mapping of the index when the error of a search on it may come from a stale mapping.
+     */
+    void invalidateOnMappingError(String index, RuntimeException exception) {
+        if (isMappingError(exception)) {
+            invalidate(index);
+        }
+    }
+
+    /**
+     * Whether the error of a search may come from a stale mapping, such as a term query on a field that is no
+     * longer a keyword or an index that was dropped and created again.
+     */
+    static boolean isMappingError(RuntimeException exception) {
+        return exception instanceof ElasticsearchException error
+                && (error.status() == 400 || error.status() == 404);
+    }
+
+    private IndexMappingRecord read(String index) {
+        try {
+            return client.indices().getMapping(GetMappingRequest.of(q -> q.index(index)))
+                    .get(index);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
+        }
+    }
+
+    private record Entry(IndexMappingRecord mapping, long expiresAt) {
+    }
+}
@@ -54,8 +54,9 @@ final class EntityConverter {
         return jsonObject;
     }
 
-    static Stream<CommunicationEntity> query(SelectQuery query, ElasticsearchClient client, String index) {
-        QueryConverterResult select = QueryConverter.select(client, index, query);
+    static Stream<CommunicationEntity> query(SelectQuery query, ElasticsearchClient client, String index,
+                                             ElasticsearchMappingCache mappings) {
+        QueryConverterResult select = QueryConverter.select(mappings, index, query);
 
         try {
             Stream<CommunicationEntity> statementQueryStream = Stream.empty();
@@ -63,6 +64,9 @@ final class EntityConverter {
                 statementQueryStream = executeStatement(query, client, index, select);
             }
             return statementQueryStream.distinct();
+        } catch (RuntimeException e) {
+            mappings.invalidateOnMappingError(index, e);
+            throw e;
         } catch (IOException e) {
             throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
         }
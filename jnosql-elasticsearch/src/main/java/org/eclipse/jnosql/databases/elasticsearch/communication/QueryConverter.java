@@ -16,7 +16,6 @@
 package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
@@ -34,7 +33,6 @@ import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
-import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -52,9 +50,9 @@ final class QueryConverter {
     private QueryConverter() {
     }
 
-    static QueryConverterResult select(ElasticsearchClient client, String database, SelectQuery query) {
+    static QueryConverterResult select(ElasticsearchMappingCache mappings, String database, SelectQuery query) {
 
-        var indexMappingRecord = getIndexMappingRecord(client, database, query);
+        var indexMappingRecord = mappings.get(database);
 
         Query.Builder nameCondition = Optional.of(query.name())
                 .map(collection -> {
@@ -103,16 +101,6 @@ final class QueryConverter {
         return Objects.nonNull(property) && property.isKeyword();
     }
 
-    private static IndexMappingRecord getIndexMappingRecord(ElasticsearchClient client, String database, SelectQuery query) {
-        try {
-            return client.indices().getMapping(q -> q.index(database))
-                    .get(database);
-        } catch (IOException e) {
-            throw new IllegalStateException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
-        }
-    }
-
-
     private static Query.Builder getCondition(IndexMappingRecord indexMappingRecord, CriteriaCondition condition) {
         Element document = condition.element();
         String fieldName = document.name();
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetMappingRequest;
+import co.elastic.clients.elasticsearch.indices.GetMappingResponse;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchMappingCacheTest {
+
+    private static final String INDEX = "library";
+
+    private AtomicLong clock;
+
+    private ElasticsearchIndicesClient indices;
+
+    private ElasticsearchClient client;
+
+    private IndexMappingRecord mapping;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.clock = new AtomicLong();
+        this.indices = mock(ElasticsearchIndicesClient.class);
+        this.client = mock(ElasticsearchClient.class);
+        this.mapping = mock(IndexMappingRecord.class);
+        GetMappingResponse response = mock(GetMappingResponse.class);
+        when(client.indices()).thenReturn(indices);
+        when(indices.getMapping(any(GetMappingRequest.class))).thenReturn(response);
+        when(response.get(INDEX)).thenReturn(mapping);
+    }
+
+    @Test
+    void shouldReadMappingOnce() throws IOException {
+        var cache = new ElasticsearchMappingCache(client, Duration.ofSeconds(10), clock::get);
+        assertSoftly(softly -> {
+            softly.assertThat(cache.get(INDEX)).isSameAs(mapping);
+            softly.assertThat(cache.get(INDEX)).isSameAs(mapping);
+        });
+        verify(indices, times(1)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    void shouldExpireMapping() throws IOException {
+        var cache = new ElasticsearchMappingCache(client, Duration.ofSeconds(10), clock::get);
+        cache.get(INDEX);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.get(INDEX);
+        verify(indices, times(2)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    void shouldRefreshAndInvalidate() throws IOException {
+        var cache = new ElasticsearchMappingCache(client, Duration.ofSeconds(10), clock::get);
+        cache.get(INDEX);
+        assertThat(cache.refresh(INDEX)).isSameAs(mapping);
+        cache.get(INDEX);
+        cache.invalidate(INDEX);
+        cache.get(INDEX);
+        verify(indices, times(3)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    void shouldNotCacheWhenTtlIsZero() throws IOException {
+        var cache = new ElasticsearchMappingCache(client, Duration.ZERO, clock::get);
+        cache.get(INDEX);
+        cache.get(INDEX);
+        verify(indices, times(2)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenTtlIsNegative() {
+        assertThatThrownBy(() -> new ElasticsearchMappingCache(client, Duration.ofSeconds(-1), clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenMappingCannotBeRead() throws IOException {
+        when(indices.getMapping(any(GetMappingRequest.class))).thenThrow(new IOException("connection refused"));
+        var cache = new ElasticsearchMappingCache(client, Duration.ofSeconds(10), clock::get);
+        assertThatThrownBy(() -> cache.get(INDEX))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("connection refused");
+    }
+
+    @Test
+    void shouldDetectMappingErrors() {
+        assertSoftly(softly -> {
+            softly.assertThat(ElasticsearchMappingCache.isMappingError(error(400))).isTrue();
+            softly.assertThat(ElasticsearchMappingCache.isMappingError(error(404))).isTrue();
+            softly.assertThat(ElasticsearchMappingCache.isMappingError(error(503))).isFalse();
+            softly.assertThat(ElasticsearchMappingCache.isMappingError(new IllegalStateException("search")))
+                    .isFalse();
+        });
+    }
+
+    @Test
+    void shouldInvalidateOnMappingError() throws IOException {
+        var cache = new ElasticsearchMappingCache(client, Duration.ofSeconds(10), clock::get);
+        cache.get(INDEX);
+        cache.invalidateOnMappingError(INDEX, error(503));
+        cache.get(INDEX);
+        verify(indices, times(1)).getMapping(any(GetMappingRequest.class));
+        cache.invalidateOnMappingError(INDEX, error(400));
+        cache.get(INDEX);
+        verify(indices, times(2)).getMapping(any(GetMappingRequest.class));
+    }
+
+    private static ElasticsearchException error(int status) {
+        return new ElasticsearchException("search", ErrorResponse.of(e -> e
+                .status(status)
+                .error(c -> c.type("query_shard_exception").reason("failed to create query"))));
+    }
+}